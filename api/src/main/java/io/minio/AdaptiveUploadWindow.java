@@ -0,0 +1,148 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage,
+ * (C) 2025 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import io.minio.errors.ErrorResponseException;
+import io.minio.errors.ServerException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency window and part size of an adaptive multipart upload. Uploaded parts are measured in
+ * rounds of window parts. The window grows by one after a round whose throughput is not worse than
+ * that of previous round, and is halved on SlowDown or when throughput drops while part latency
+ * rises (additive increase, multiplicative decrease). If part size is growable, it is doubled after
+ * a round whose parts took less than a second on average, so that per-request overhead does not
+ * dominate on fast links.
+ */
+public class AdaptiveUploadWindow {
+  /** Default maximum window when parallel uploads is not set. */
+  public static final int DEFAULT_MAX_WINDOW = 16;
+  /** Maximum size a growable part size reaches when part buffers have no byte budget. */
+  public static final long DEFAULT_MAX_PART_SIZE = 128L * 1024 * 1024;
+
+  private static final long TARGET_PART_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final int maxWindow;
+  private final long maxPartSize;
+  private final LongSupplier nanoTime;
+
+  // Guarded by this.
+  private int window;
+  private long partSize;
+  private int roundParts = 0;
+  private long roundBytes = 0;
+  private long roundLatencyNanos = 0;
+  private long roundStartNanos;
+  private double lastThroughput = 0;
+  private double minNanosPerByte = Double.MAX_VALUE;
+
+  /**
+   * Creates window growing up to maxWindow with given part size. Part size grows up to maxPartSize;
+   * pass partSize as maxPartSize to keep it fixed.
+   */
+  public AdaptiveUploadWindow(int maxWindow, long partSize, long maxPartSize) {
+    this(maxWindow, partSize, maxPartSize, System::nanoTime);
+  }
+
+  /** Creates window measuring round throughput by given nanosecond clock. */
+  AdaptiveUploadWindow(int maxWindow, long partSize, long maxPartSize, LongSupplier nanoTime) {
+    if (maxWindow <= 0) throw new IllegalArgumentException("valid max window must be provided");
+    this.maxWindow = maxWindow;
+    this.window = Math.min(2, maxWindow);
+    this.partSize = partSize;
+    this.maxPartSize = Math.max(partSize, maxPartSize);
+    this.nanoTime = nanoTime;
+    this.roundStartNanos = nanoTime.getAsLong();
+  }
+
+  /**
+   * Gets maximum part size a growable part size reaches with given byte budget of part buffers and
+   * max window, so that a full window of part buffers fits in the budget. Without a byte budget,
+   * i.e. {@link Long#MAX_VALUE}, it is {@link #DEFAULT_MAX_PART_SIZE}.
+   */
+  static long maxPartSize(long maxBufferBytes, int maxWindow) {
+    if (maxBufferBytes == Long.MAX_VALUE) return DEFAULT_MAX_PART_SIZE;
+    return Math.min(ObjectWriteArgs.MAX_PART_SIZE, maxBufferBytes / maxWindow);
+  }
+
+  /** Gets number of parts to keep in flight. */
+  public synchronized int window() {
+    return window;
+  }
+
+  /** Gets size of next parts. */
+  public synchronized long partSize() {
+    return partSize;
+  }
+
+  /** Records a part of given size uploaded in given time. */
+  public synchronized void onUploaded(long size, long latencyNanos) {
+    roundParts++;
+    roundBytes += size;
+    roundLatencyNanos += latencyNanos;
+    if (size > 0) minNanosPerByte = Math.min(minNanosPerByte, (double) latencyNanos / size);
+    if (roundParts < window) return;
+
+    long now = nanoTime.getAsLong();
+    double throughput = (double) roundBytes / Math.max(1, now - roundStartNanos);
+    double nanosPerByte = (double) roundLatencyNanos / Math.max(1, roundBytes);
+    if (throughput >= lastThroughput * 0.95) {
+      if (window < maxWindow) window++;
+    } else if (throughput < lastThroughput * 0.8 && nanosPerByte > minNanosPerByte * 2) {
+      window = Math.max(1, window / 2);
+    }
+
+    if (roundLatencyNanos / roundParts < TARGET_PART_NANOS && partSize < maxPartSize) {
+      partSize = Math.min(partSize * 2, maxPartSize);
+    }
+
+    lastThroughput = throughput;
+    resetRound(now);
+  }
+
+  /**
+   * Halves the window if a part failed by SlowDown or HTTP 503 of the server, whether or not the
+   * part is retried.
+   */
+  public void onPartFailure(Throwable e) {
+    if (e instanceof ErrorResponseException) {
+      ErrorResponseException ex = (ErrorResponseException) e;
+      if ("SlowDown".equals(ex.errorResponse().code())
+          || ex.response() != null && ex.response().code() == 503) {
+        onSlowDown();
+      }
+    } else if (e instanceof ServerException && ((ServerException) e).statusCode() == 503) {
+      onSlowDown();
+    }
+  }
+
+  /** Halves the window on SlowDown response of the server. */
+  public synchronized void onSlowDown() {
+    window = Math.max(1, window / 2);
+    lastThroughput = 0;
+    resetRound(nanoTime.getAsLong());
+  }
+
+  private void resetRound(long now) {
+    roundParts = 0;
+    roundBytes = 0;
+    roundLatencyNanos = 0;
+    roundStartNanos = now;
+  }
+}
@@ -34,6 +34,8 @@ public class AppendObjectArgs extends ObjectArgs {
   private byte[] data;
   private Long length;
   private Long chunkSize;
+  private boolean pipelined;
+  private Long coalesceSize;
 
   public String filename() {
     return filename;
@@ -55,6 +57,14 @@ public class AppendObjectArgs extends ObjectArgs {
     return chunkSize;
   }
 
+  public boolean pipelined() {
+    return pipelined;
+  }
+
+  public Long coalesceSize() {
+    return coalesceSize;
+  }
+
   public static Builder builder() {
     return new Builder();
   }
@@ -67,6 +77,19 @@ public class AppendObjectArgs extends ObjectArgs {
       if (args.filename == null && args.stream == null && args.data == null) {
         throw new IllegalArgumentException("either filename, stream or data must be provided");
       }
+      if (args.coalesceSize != null) {
+        if (!args.pipelined) {
+          throw new IllegalArgumentException("coalesce size requires pipelined append");
+        }
+        if (args.stream == null || args.length != null) {
+          throw new IllegalArgumentException("coalesce size requires stream of unknown length");
+        }
+        long chunkSize =
+            args.chunkSize != null ? args.chunkSize : ObjectWriteArgs.MIN_MULTIPART_SIZE;
+        if (args.coalesceSize < chunkSize) {
+          throw new IllegalArgumentException("coalesce size must not be less than chunk size");
+        }
+      }
     }
 
     private void validateFilename(String filename) {
@@ -118,6 +141,27 @@ public class AppendObjectArgs extends ObjectArgs {
       operations.add(args -> args.chunkSize = chunkSize);
       return this;
     }
+
+    /**
+     * Prepares next chunk while current chunk is appended. Appends are still sent one after another
+     * in write offset order.
+     */
+    public Builder pipelined(boolean pipelined) {
+      operations.add(args -> args.pipelined = pipelined);
+      return this;
+    }
+
+    /**
+     * Lets chunks of stream of unknown length grow up to given size while appends are slower than
+     * reading the stream. Chunk size goes back to {@link #chunkSize} once reading is slower.
+     */
+    public Builder coalesceSize(Long coalesceSize) {
+      if (coalesceSize != null && coalesceSize > ObjectWriteArgs.MAX_PART_SIZE) {
+        throw new IllegalArgumentException("coalesce size must be less than 5 GiB");
+      }
+      operations.add(args -> args.coalesceSize = coalesceSize);
+      return this;
+    }
   }
 
   @Override
@@ -130,11 +174,14 @@ public class AppendObjectArgs extends ObjectArgs {
         && Objects.equals(stream, that.stream)
         && Arrays.equals(data, that.data)
         && Objects.equals(length, that.length)
-        && Objects.equals(chunkSize, that.chunkSize);
+        && Objects.equals(chunkSize, that.chunkSize)
+        && pipelined == that.pipelined
+        && Objects.equals(coalesceSize, that.coalesceSize);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(super.hashCode(), filename, stream, data, length, chunkSize);
+    return Objects.hash(
+        super.hashCode(), filename, stream, data, length, chunkSize, pipelined, coalesceSize);
   }
 }
@@ -53,8 +53,10 @@ import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
@@ -125,13 +127,24 @@ public abstract class BaseS3Client implements AutoCloseable {
   protected Provider provider;
   protected volatile OkHttpClient httpClient;
   protected boolean closeHttpClient;
+  protected final boolean streamingChecksum;
 
   protected BaseS3Client(
       Http.BaseUrl baseUrl, Provider provider, OkHttpClient httpClient, boolean closeHttpClient) {
+    this(baseUrl, provider, httpClient, closeHttpClient, false);
+  }
+
+  protected BaseS3Client(
+      Http.BaseUrl baseUrl,
+      Provider provider,
+      OkHttpClient httpClient,
+      boolean closeHttpClient,
+      boolean streamingChecksum) {
     this.baseUrl = baseUrl;
     this.provider = provider;
     this.httpClient = httpClient;
     this.closeHttpClient = closeHttpClient;
+    this.streamingChecksum = streamingChecksum;
   }
 
   protected BaseS3Client(BaseS3Client client) {
@@ -139,6 +152,7 @@ public abstract class BaseS3Client implements AutoCloseable {
     this.provider = client.provider;
     this.httpClient = client.httpClient;
     this.closeHttpClient = client.closeHttpClient;
+    this.streamingChecksum = client.streamingChecksum;
   }
 
   /** Closes underneath HTTP client. */
@@ -536,6 +550,15 @@ public abstract class BaseS3Client implements AutoCloseable {
   /** Execute asynchronously GET HTTP request for given parameters. */
   protected CompletableFuture<Response> executeGetAsync(
       BaseArgs args, Http.Headers headers, Http.QueryParameters queryParams) {
+    return executeGetAsync(args, headers, queryParams, true);
+  }
+
+  /**
+   * Execute asynchronously GET HTTP request for given parameters. The request is not retried on
+   * retriable HTTP status if statusRetry is unset.
+   */
+  protected CompletableFuture<Response> executeGetAsync(
+      BaseArgs args, Http.Headers headers, Http.QueryParameters queryParams, boolean statusRetry) {
     return executeAsync(
         Http.S3Request.builder()
             .userAgent(userAgent)
@@ -543,6 +566,7 @@ public abstract class BaseS3Client implements AutoCloseable {
             .headers(headers)
             .queryParams(queryParams)
             .args(args)
+            .statusRetry(statusRetry)
             .build());
   }
 
@@ -609,6 +633,19 @@ public abstract class BaseS3Client implements AutoCloseable {
   /** Execute asynchronously PUT HTTP request for given parameters. */
   protected CompletableFuture<Response> executePutAsync(
       BaseArgs args, Http.Headers headers, Http.QueryParameters queryParams, Http.Body body) {
+    return executePutAsync(args, headers, queryParams, body, true);
+  }
+
+  /**
+   * Execute asynchronously PUT HTTP request for given parameters. The request is not retried on
+   * retriable HTTP status if statusRetry is unset.
+   */
+  protected CompletableFuture<Response> executePutAsync(
+      BaseArgs args,
+      Http.Headers headers,
+      Http.QueryParameters queryParams,
+      Http.Body body,
+      boolean statusRetry) {
     return executeAsync(
         Http.S3Request.builder()
             .userAgent(userAgent)
@@ -617,6 +654,7 @@ public abstract class BaseS3Client implements AutoCloseable {
             .queryParams(queryParams)
             .body(body)
             .args(args)
+            .statusRetry(statusRetry)
             .build());
   }
 
@@ -696,7 +734,7 @@ public abstract class BaseS3Client implements AutoCloseable {
       CompleteMultipartUploadArgs args, Http.Body body) {
     return executePostAsync(
             args,
-            args.ssec() == null ? null : args.ssec().headers(),
+            Http.Headers.merge(args.ssec() == null ? null : args.ssec().headers(), args.headers()),
             new Http.QueryParameters(Http.UPLOAD_ID, args.uploadId()),
             body)
         .thenApply(
@@ -1301,12 +1339,35 @@ public abstract class BaseS3Client implements AutoCloseable {
     boolean checksumHeader = headers.namePrefixAny("x-amz-checksum-");
     String md5Hash = headers.getFirst(Http.Headers.CONTENT_MD5);
 
-    if (sha256HexString == null && sha256Base64String == null) {
+    // Stream data is read once, so its checksum is always computed while streaming.
+    boolean streaming = streamingChecksum || args.stream() != null;
+    if (streaming
+        && sha256HexString == null
+        && sha256Base64String == null
+        && !checksumHeader
+        && md5Hash == null) {
+      // Payload checksum is computed while streaming and sent in the trailer.
+      String algorithm = headers.getFirst(Http.Headers.X_AMZ_SDK_CHECKSUM_ALGORITHM);
+      Checksum.Algorithm trailingChecksum =
+          algorithm == null
+              ? Checksum.Algorithm.CRC32C
+              : Checksum.Algorithm.valueOf(algorithm.toUpperCase(Locale.US));
+      headers.put(Http.Headers.X_AMZ_SDK_CHECKSUM_ALGORITHM, trailingChecksum.toString());
+      Http.Body body = newBody(args, contentType, null, null);
+      body.setTrailingChecksum(trailingChecksum);
+      return new Object[] {body, headers};
+    }
+
+    // Over plain HTTP, streaming checksum sends the payload as signed chunks without pre-hashing.
+    boolean signedChunks = streaming && !baseUrl.isHttps();
+    if (sha256HexString == null && sha256Base64String == null && !signedChunks) {
       if (!baseUrl.isHttps()) {
         Checksum.Hasher hasher = Checksum.Algorithm.SHA256.hasher();
         Map<Checksum.Algorithm, Checksum.Hasher> hashers = new HashMap<>();
         hashers.put(Checksum.Algorithm.SHA256, hasher);
-        if (args.file() != null) {
+        if (args.file() != null && args.position() != null) {
+          Checksum.update(hashers, args.file(), args.position(), args.length());
+        } else if (args.file() != null) {
           Checksum.update(hashers, args.file(), args.length());
         } else if (args.buffer() != null) {
           Checksum.update(hashers, args.buffer());
@@ -1337,7 +1398,9 @@ public abstract class BaseS3Client implements AutoCloseable {
         Checksum.Hasher hasher = Checksum.Algorithm.CRC32C.hasher();
         Map<Checksum.Algorithm, Checksum.Hasher> hashers = new HashMap<>();
         hashers.put(Checksum.Algorithm.CRC32C, hasher);
-        if (args.file() != null) {
+        if (args.file() != null && args.position() != null) {
+          Checksum.update(hashers, args.file(), args.position(), args.length());
+        } else if (args.file() != null) {
           Checksum.update(hashers, args.file(), args.length());
         } else if (args.buffer() != null) {
           Checksum.update(hashers, args.buffer());
@@ -1356,8 +1419,20 @@ public abstract class BaseS3Client implements AutoCloseable {
       }
     }
 
+    Http.Body body = newBody(args, contentType, sha256HexString, md5Hash);
+    if (signedChunks && sha256HexString == null) body.setSignedChunks();
+    return new Object[] {body, headers};
+  }
+
+  private Http.Body newBody(
+      PutObjectAPIBaseArgs args, MediaType contentType, String sha256HexString, String md5Hash)
+      throws MinioException {
     Http.Body body = null;
-    if (args.file() != null) {
+    if (args.file() != null && args.position() != null) {
+      body =
+          new Http.Body(
+              args.file(), args.position(), args.length(), contentType, sha256HexString, md5Hash);
+    } else if (args.file() != null) {
       body = new Http.Body(args.file(), args.length(), contentType, sha256HexString, md5Hash);
     } else if (args.buffer() != null) {
       body = new Http.Body(args.buffer(), contentType, sha256HexString, md5Hash);
@@ -1365,11 +1440,13 @@ public abstract class BaseS3Client implements AutoCloseable {
       body =
           new Http.Body(
               args.data(), args.length().intValue(), contentType, sha256HexString, md5Hash);
+    } else if (args.stream() != null) {
+      body = new Http.Body(args.stream(), args.length(), contentType, sha256HexString, md5Hash);
     } else {
       throw new InternalException("unknown body found; this should not happen");
     }
 
-    return new Object[] {body, headers};
+    return body;
   }
 
   /**
@@ -1415,6 +1492,16 @@ public abstract class BaseS3Client implements AutoCloseable {
    * @return {@link CompletableFuture}&lt;{@link UploadPartResponse}&gt; object.
    */
   public CompletableFuture<UploadPartResponse> uploadPart(UploadPartArgs args) {
+    return uploadPart(args, true);
+  }
+
+  /**
+   * Do <a href="https://docs.aws.amazon.com/AmazonS3/latest/API/API_UploadPart.html">UploadPart S3
+   * API</a> asynchronously. The request is not retried on retriable HTTP status if statusRetry is
+   * unset.
+   */
+  protected CompletableFuture<UploadPartResponse> uploadPart(
+      UploadPartArgs args, boolean statusRetry) {
     checkArgs(args);
 
     Object[] result = null;
@@ -1430,10 +1517,27 @@ public abstract class BaseS3Client implements AutoCloseable {
             headers,
             new Http.QueryParameters(
                 "partNumber", Integer.toString(args.partNumber()), "uploadId", args.uploadId()),
-            body)
+            body,
+            statusRetry)
         .thenApply(
             response -> {
               try {
+                // Checksums computed by this client are sent in headers or in the trailer.
+                Map<Checksum.Algorithm, String> checksums = new EnumMap<>(Checksum.Algorithm.class);
+                for (Checksum.Algorithm algorithm : Checksum.Algorithm.values()) {
+                  String value = headers.getFirst(algorithm.header());
+                  if (value != null && algorithm != Checksum.Algorithm.MD5) {
+                    checksums.put(algorithm, value);
+                  }
+                }
+                okhttp3.RequestBody requestBody = response.request().body();
+                if (requestBody instanceof Http.ChunkedRequestBody) {
+                  Http.ChunkedRequestBody chunkedBody = (Http.ChunkedRequestBody) requestBody;
+                  if (chunkedBody.trailingChecksumValue() != null) {
+                    checksums.put(
+                        chunkedBody.trailingChecksum(), chunkedBody.trailingChecksumValue());
+                  }
+                }
                 return new UploadPartResponse(
                     response.headers(),
                     args.bucket(),
@@ -1441,7 +1545,9 @@ public abstract class BaseS3Client implements AutoCloseable {
                     args.object(),
                     args.uploadId(),
                     args.partNumber(),
-                    response.header("ETag").replaceAll("\"", ""));
+                    response.header("ETag").replaceAll("\"", ""),
+                    args.buffer() != null ? Long.valueOf(args.buffer().length()) : args.length(),
+                    checksums);
               } finally {
                 response.close();
               }
@@ -1457,13 +1563,24 @@ public abstract class BaseS3Client implements AutoCloseable {
    * @return {@link CompletableFuture}&lt;{@link UploadPartCopyResponse}&gt; object.
    */
   public CompletableFuture<UploadPartCopyResponse> uploadPartCopy(UploadPartCopyArgs args) {
+    return uploadPartCopy(args, true);
+  }
+
+  /**
+   * Do <a
+   * href="https://docs.aws.amazon.com/AmazonS3/latest/API/API_UploadPartCopy.html">UploadPartCopy
+   * S3 API</a>. The request is not retried on retriable HTTP status if statusRetry is unset.
+   */
+  protected CompletableFuture<UploadPartCopyResponse> uploadPartCopy(
+      UploadPartCopyArgs args, boolean statusRetry) {
     checkArgs(args);
     return executePutAsync(
             args,
             args.headers(),
             new Http.QueryParameters(
                 "partNumber", Integer.toString(args.partNumber()), "uploadId", args.uploadId()),
-            null)
+            null,
+            statusRetry)
         .thenApply(
             response -> {
               try {
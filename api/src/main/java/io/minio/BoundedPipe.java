@@ -0,0 +1,168 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage,
+ * (C) 2025 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+
+/**
+ * Bounded in-memory pipe passing bytes written by one thread to another thread reading them. Unlike
+ * {@link java.io.PipedInputStream}, it does not depend on liveness of writer and reader threads, so
+ * that it works with pooled threads. Failure of the writer is passed to the reader by {@link
+ * #fail}, and closing the reader fails pending and later writes.
+ */
+public class BoundedPipe {
+  private final byte[] buffer;
+  private final InputStream inputStream = new PipeInputStream();
+  private final OutputStream outputStream = new PipeOutputStream();
+
+  // Guarded by this.
+  private int readPosition = 0;
+  private int count = 0;
+  private boolean writerClosed = false;
+  private boolean readerClosed = false;
+  private Throwable failure = null;
+
+  /** Creates pipe buffering at most size bytes. */
+  public BoundedPipe(int size) {
+    if (size <= 0) throw new IllegalArgumentException("valid pipe size must be provided");
+    this.buffer = new byte[size];
+  }
+
+  /** Gets read end of this pipe. */
+  public InputStream inputStream() {
+    return inputStream;
+  }
+
+  /** Gets write end of this pipe. */
+  public OutputStream outputStream() {
+    return outputStream;
+  }
+
+  /**
+   * Fails this pipe with given cause. Reader gets an {@link IOException} of the cause instead of
+   * end of stream, even if the writer is closed afterwards.
+   */
+  public synchronized void fail(Throwable cause) {
+    if (failure == null) failure = cause;
+    notifyAll();
+  }
+
+  private synchronized void write(byte[] b, int off, int len) throws IOException {
+    while (len > 0) {
+      try {
+        while (count == buffer.length && !readerClosed && failure == null) wait();
+      } catch (InterruptedException e) {
+        throw interrupted();
+      }
+      if (readerClosed) throw new IOException("pipe closed by reader");
+      if (failure != null) throw new IOException("pipe failed", failure);
+      if (writerClosed) throw new IOException("pipe closed");
+
+      int writePosition = (readPosition + count) % buffer.length;
+      int n = Math.min(len, Math.min(buffer.length - count, buffer.length - writePosition));
+      System.arraycopy(b, off, buffer, writePosition, n);
+      count += n;
+      off += n;
+      len -= n;
+      notifyAll();
+    }
+  }
+
+  private synchronized int read(byte[] b, int off, int len) throws IOException {
+    if (len == 0) return 0;
+    try {
+      while (count == 0 && !writerClosed && !readerClosed && failure == null) wait();
+    } catch (InterruptedException e) {
+      throw interrupted();
+    }
+    if (failure != null) throw new IOException("pipe failed", failure);
+    if (readerClosed) throw new IOException("pipe closed");
+    if (count == 0) return -1;
+
+    int n = Math.min(len, Math.min(count, buffer.length - readPosition));
+    System.arraycopy(buffer, readPosition, b, off, n);
+    readPosition = (readPosition + n) % buffer.length;
+    count -= n;
+    notifyAll();
+    return n;
+  }
+
+  private synchronized int available() {
+    return count;
+  }
+
+  private synchronized void closeWriter() {
+    writerClosed = true;
+    notifyAll();
+  }
+
+  private synchronized void closeReader() {
+    readerClosed = true;
+    notifyAll();
+  }
+
+  private static InterruptedIOException interrupted() {
+    Thread.currentThread().interrupt();
+    return new InterruptedIOException("interrupted while waiting on pipe");
+  }
+
+  private class PipeInputStream extends InputStream {
+    @Override
+    public int read() throws IOException {
+      byte[] b = new byte[1];
+      return BoundedPipe.this.read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (off < 0 || len < 0 || len > b.length - off) throw new IndexOutOfBoundsException();
+      return BoundedPipe.this.read(b, off, len);
+    }
+
+    @Override
+    public int available() {
+      return BoundedPipe.this.available();
+    }
+
+    @Override
+    public void close() {
+      closeReader();
+    }
+  }
+
+  private class PipeOutputStream extends OutputStream {
+    @Override
+    public void write(int b) throws IOException {
+      BoundedPipe.this.write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      if (off < 0 || len < 0 || len > b.length - off) throw new IndexOutOfBoundsException();
+      BoundedPipe.this.write(b, off, len);
+    }
+
+    @Override
+    public void close() {
+      closeWriter();
+    }
+  }
+}
@@ -14,51 +14,66 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package io.minio;
 
 import io.minio.errors.MinioException;
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.SequenceInputStream;
+import java.nio.Buffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
-/** {@link OutputStream} compatible byte buffer to store bytes to maximum 5GiB in size. */
+/**
+ * {@link OutputStream} compatible byte buffer to store bytes to maximum 5GiB in size. Bytes are
+ * stored in fixed size slabs taken from {@link SlabPool}, hence writes never reallocate. Slabs are
+ * off heap if the pool is direct; such buffer must be closed to put back its slabs to the pool.
+ */
 public class ByteBuffer extends OutputStream {
-  private static class Buffer extends ByteArrayOutputStream {
-    public InputStream inputStream() {
-      return (count > 0) ? new ByteArrayInputStream(buf, 0, count) : null;
-    }
-  }
-
-  private static final int CHUNK_SIZE = Integer.MAX_VALUE;
   private final long size;
-  private final List<Buffer> buffers = new ArrayList<>();
-  private int index = 0;
+  private final SlabPool pool;
+  private final int slabSize;
+  private final List<java.nio.ByteBuffer> slabs = new ArrayList<>();
+  private final Object registration;
   private long writtenBytes = 0;
   private boolean isClosed = false;
 
-  /** Creates ByteBuffer for given size. */
+  /** Creates ByteBuffer for given size using {@link SlabPool#DEFAULT}. */
   public ByteBuffer(long size) {
+    this(size, SlabPool.DEFAULT);
+  }
+
+  /** Creates ByteBuffer for given size using slabs of given pool. */
+  public ByteBuffer(long size, SlabPool pool) {
     if (size > ObjectWriteArgs.MAX_PART_SIZE) {
       throw new IllegalArgumentException("Size cannot exceed 5GiB");
     }
     this.size = size;
+    this.pool = Objects.requireNonNull(pool, "slab pool must not be null");
+    // Buffer smaller than a slab uses its own exact sized heap slab.
+    this.slabSize = (int) Math.max(1, Math.min(size, pool.slabSize()));
+    // Slabs of direct pool are put back if this buffer is garbage collected without close.
+    this.registration = pool.register(this, slabs);
   }
 
-  private void updateIndex() {
-    if (buffers.isEmpty()) {
-      index = 0;
-      buffers.add(new Buffer());
-    } else if (writtenBytes >= (long) (index + 1) * CHUNK_SIZE) {
-      index++;
-      if (index > buffers.size() - 1) buffers.add(new Buffer());
+  private java.nio.ByteBuffer writableSlab() {
+    if (!slabs.isEmpty()) {
+      java.nio.ByteBuffer slab = slabs.get(slabs.size() - 1);
+      if (slab.hasRemaining()) return slab;
     }
+    java.nio.ByteBuffer slab =
+        slabSize == pool.slabSize() ? pool.take() : java.nio.ByteBuffer.allocate(slabSize);
+    slabs.add(slab);
+    return slab;
+  }
+
+  private void releaseSlabs() {
+    for (java.nio.ByteBuffer slab : slabs) pool.put(slab);
+    slabs.clear();
   }
 
   /** Writes the specified byte to this buffer. */
@@ -66,8 +81,7 @@ public class ByteBuffer extends OutputStream {
   public void write(int b) throws IOException {
     if (isClosed) throw new IOException("Stream is closed");
     if (writtenBytes >= size) throw new IOException("Exceeded total size limit");
-    updateIndex();
-    buffers.get(index).write(b);
+    writableSlab().put((byte) b);
     writtenBytes++;
   }
 
@@ -75,18 +89,17 @@ public class ByteBuffer extends OutputStream {
   @Override
   public void write(byte[] b, int off, int len) throws IOException {
     if (isClosed) throw new IOException("Stream is closed");
+    if (off < 0 || len < 0 || len > b.length - off) throw new IndexOutOfBoundsException();
     if (len > (size - writtenBytes)) throw new IOException("Exceeded total size limit");
-    int remaining = len;
-    while (remaining > 0) {
-      updateIndex();
-      Buffer currentBuffer = buffers.get(index);
-      int bytesToWrite = Math.min(remaining, CHUNK_SIZE - currentBuffer.size());
-      currentBuffer.write(b, off + (len - remaining), bytesToWrite);
-      writtenBytes += bytesToWrite;
-      remaining -= bytesToWrite;
+    while (len > 0) {
+      java.nio.ByteBuffer slab = writableSlab();
+      int n = Math.min(len, slab.remaining());
+      slab.put(b, off, n);
+      writtenBytes += n;
+      off += n;
+      len -= n;
     }
   }
-
   /** Writes b.length bytes from the specified byte array to this buffer. */
   @Override
   public void write(byte[] b) throws IOException {
@@ -103,29 +116,41 @@ public class ByteBuffer extends OutputStream {
     return size;
   }
 
-  /** Resets this buffer to freshen up for reuse. */
+  /** Resets this buffer to freshen up for reuse. Its slabs are put back to the pool. */
   public void reset() throws MinioException {
     if (isClosed) throw new MinioException("Cannot reset a closed stream");
     writtenBytes = 0;
-    index = 0;
-    for (Buffer buffer : buffers) buffer.reset();
+    releaseSlabs();
   }
 
   /** Closes this buffer and releases any system resources associated with the buffer. */
   public void close() throws IOException {
     if (!isClosed) {
       isClosed = true;
-      buffers.clear();
+      writtenBytes = 0;
+      releaseSlabs();
+      pool.unregister(registration);
+    }
+  }
+
+  /**
+   * Returns written bytes of this buffer as a gathered sequence of slabs. Returned buffers share
+   * slabs of this buffer and are valid until this buffer is reset or closed.
+   */
+  public java.nio.ByteBuffer[] slabs() {
+    java.nio.ByteBuffer[] buffers = new java.nio.ByteBuffer[slabs.size()];
+    for (int i = 0; i < buffers.length; i++) {
+      buffers[i] = slabs.get(i).duplicate();
+      ((Buffer) buffers[i]).flip();
     }
+    return buffers;
   }
 
   /** Returns this buffer as {@link InputStream}. */
   public InputStream inputStream() {
+    java.nio.ByteBuffer[] buffers = slabs();
     List<InputStream> streams = new ArrayList<>();
-    for (Buffer buffer : buffers) {
-      InputStream stream = buffer.inputStream();
-      if (stream != null) streams.add(stream);
-    }
+    for (java.nio.ByteBuffer buffer : buffers) streams.add(new SlabInputStream(buffer));
     switch (streams.size()) {
       case 0:
         return new ByteArrayInputStream(Utils.EMPTY_BYTE_ARRAY);
@@ -135,4 +160,31 @@ public class ByteBuffer extends OutputStream {
         return new SequenceInputStream(Collections.enumeration(streams));
     }
   }
+
+  private static class SlabInputStream extends InputStream {
+    private final java.nio.ByteBuffer slab;
+
+    private SlabInputStream(java.nio.ByteBuffer slab) {
+      this.slab = slab;
+    }
+
+    @Override
+    public int read() {
+      return slab.hasRemaining() ? slab.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      if (len == 0) return 0;
+      if (!slab.hasRemaining()) return -1;
+      len = Math.min(len, slab.remaining());
+      slab.get(b, off, len);
+      return len;
+    }
+
+    @Override
+    public int available() {
+      return slab.remaining();
+    }
+  }
 }
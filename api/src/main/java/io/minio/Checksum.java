@@ -18,9 +18,10 @@ package io.minio;
 
 import io.minio.errors.MinioException;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.RandomAccessFile;
+import java.lang.reflect.Constructor;
 import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -38,6 +39,12 @@ public class Checksum {
       "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855";
 
   public static final String UNSIGNED_PAYLOAD = "UNSIGNED-PAYLOAD";
+  public static final String STREAMING_UNSIGNED_PAYLOAD_TRAILER =
+      "STREAMING-UNSIGNED-PAYLOAD-TRAILER";
+  public static final String STREAMING_AWS4_HMAC_SHA256_PAYLOAD =
+      "STREAMING-AWS4-HMAC-SHA256-PAYLOAD";
+  public static final String STREAMING_AWS4_HMAC_SHA256_PAYLOAD_TRAILER =
+      "STREAMING-AWS4-HMAC-SHA256-PAYLOAD-TRAILER";
 
   private Checksum() {}
 
@@ -51,6 +58,35 @@ public class Checksum {
     return Base64.getDecoder().decode(sum);
   }
 
+  /**
+   * Combines CRC checksums of two consecutive data into the checksum of whole data, where len2 is
+   * length of the second data.
+   */
+  public static byte[] combine(Algorithm algorithm, byte[] sum1, byte[] sum2, long len2) {
+    if (algorithm == Algorithm.CRC32) {
+      return toBytes(CRC32.combine(toLong(sum1), toLong(sum2), len2), 4);
+    }
+    if (algorithm == Algorithm.CRC32C) {
+      return toBytes(CRC32C.combine(toLong(sum1), toLong(sum2), len2), 4);
+    }
+    if (algorithm == Algorithm.CRC64NVME) {
+      return toBytes(CRC64NVME.combine(toLong(sum1), toLong(sum2), len2), 8);
+    }
+    throw new IllegalArgumentException("checksum combine is not supported for " + algorithm);
+  }
+
+  private static long toLong(byte[] sum) {
+    long value = 0;
+    for (byte b : sum) value = (value << 8) | (b & 0xFF);
+    return value;
+  }
+
+  private static byte[] toBytes(long value, int length) {
+    byte[] sum = new byte[length];
+    for (int i = length - 1; i >= 0; i--, value >>>= 8) sum[i] = (byte) value;
+    return sum;
+  }
+
   /** Encodes the specified bytes to Base16 string. */
   public static String hexString(byte[] sum) {
     StringBuilder builder = new StringBuilder();
@@ -93,23 +129,25 @@ public class Checksum {
     }
   }
 
-  private static void update(
-      Map<Algorithm, Hasher> hashers, ByteBuffer buffer, RandomAccessFile file, Long size)
-      throws MinioException {
+  /** Updates each hasher using len bytes of the specified array starting at offset off. */
+  public static void update(Map<Algorithm, Hasher> hashers, byte[] data, int off, int len) {
     if (hashers == null || hashers.size() == 0) return;
-
-    InputStream stream = null;
-    if (buffer != null) {
-      stream = buffer.inputStream();
-      size = buffer.length();
+    for (Map.Entry<Algorithm, Hasher> entry : hashers.entrySet()) {
+      entry.getValue().update(data, off, len);
     }
+  }
+
+  /** Updates each hasher using the specified file, ending at the specified size. */
+  public static void update(Map<Algorithm, Hasher> hashers, RandomAccessFile file, long size)
+      throws MinioException {
+    if (hashers == null || hashers.size() == 0) return;
 
     byte[] buf16k = new byte[16384];
     long bytesRead = 0;
     while (bytesRead != size) {
       try {
         int length = (int) Math.min(size - bytesRead, buf16k.length);
-        int n = file != null ? file.read(buf16k, 0, length) : stream.read(buf16k, 0, length);
+        int n = file.read(buf16k, 0, length);
         if (n < 0) throw new MinioException("unexpected EOF");
         if (n != 0) {
           bytesRead += n;
@@ -121,16 +159,52 @@ public class Checksum {
     }
   }
 
-  /** Updates each hasher using the specified file, ending at the specified size. */
-  public static void update(Map<Algorithm, Hasher> hashers, RandomAccessFile file, long size)
+  /**
+   * Updates each hasher using size bytes of the specified file starting at position. Positional
+   * reads are used so the file pointer is not changed.
+   */
+  public static void update(
+      Map<Algorithm, Hasher> hashers, RandomAccessFile file, long position, long size)
       throws MinioException {
-    update(hashers, null, file, size);
+    if (hashers == null || hashers.size() == 0) return;
+
+    FileChannel channel = file.getChannel();
+    byte[] buf16k = new byte[16384];
+    long bytesRead = 0;
+    while (bytesRead != size) {
+      try {
+        int length = (int) Math.min(size - bytesRead, buf16k.length);
+        int n = channel.read(java.nio.ByteBuffer.wrap(buf16k, 0, length), position + bytesRead);
+        if (n < 0) throw new MinioException("unexpected EOF");
+        if (n != 0) {
+          bytesRead += n;
+          update(hashers, buf16k, n);
+        }
+      } catch (IOException e) {
+        throw new MinioException(e);
+      }
+    }
   }
 
   /** Updates each hasher using the specified byte buffer. */
   public static void update(Map<Algorithm, Hasher> hashers, ByteBuffer buffer)
       throws MinioException {
-    update(hashers, buffer, null, null);
+    if (hashers == null || hashers.size() == 0) return;
+    byte[] buf16k = null;
+    for (java.nio.ByteBuffer slab : buffer.slabs()) {
+      if (slab.hasArray()) {
+        update(hashers, slab.array(), slab.arrayOffset() + slab.position(), slab.remaining());
+        continue;
+      }
+
+      // Direct slab is copied to heap in chunks.
+      if (buf16k == null) buf16k = new byte[16384];
+      while (slab.hasRemaining()) {
+        int n = Math.min(slab.remaining(), buf16k.length);
+        slab.get(buf16k, 0, n);
+        update(hashers, buf16k, n);
+      }
+    }
   }
 
   /** Makes checksum headers for given hashers. */
@@ -226,12 +300,19 @@ public class Checksum {
 
   /** CRC32 {@link Hasher}. */
   public static class CRC32 implements Hasher {
+    private static final CrcCombiner COMBINER = new CrcCombiner(0xEDB88320L, 32);
+
     private java.util.zip.CRC32 hasher;
 
     public CRC32() {
       hasher = new java.util.zip.CRC32();
     }
 
+    /** Returns CRC32 of two consecutive data from their CRC32s and length of the second data. */
+    public static long combine(long crc1, long crc2, long len2) {
+      return COMBINER.combine(crc1, crc2, len2);
+    }
+
     @Override
     public void update(byte[] b, int off, int len) {
       hasher.update(b, off, len);
@@ -256,10 +337,16 @@ public class Checksum {
     }
   }
 
-  /** CRC32C {@link Hasher}. */
+  /**
+   * CRC32C {@link Hasher}. It uses java.util.zip.CRC32C on Java 9+, and slicing-by-8 table lookup
+   * on Java 8.
+   */
   public static class CRC32C implements java.util.zip.Checksum, Hasher {
     private static final int[] CRC32C_TABLE = new int[256];
-    private int crc = 0xFFFFFFFF;
+    private static final int[][] SLICING8_TABLE = new int[8][256];
+    private static final CrcCombiner COMBINER = new CrcCombiner(0x82F63B78L, 32);
+    // Constructor of java.util.zip.CRC32C available on Java 9+, which is intrinsified by the JVM.
+    private static final Constructor<?> INTRINSIC_CONSTRUCTOR;
 
     static {
       for (int i = 0; i < 256; i++) {
@@ -269,27 +356,112 @@ public class Checksum {
         }
         CRC32C_TABLE[i] = crc;
       }
+
+      SLICING8_TABLE[0] = CRC32C_TABLE;
+      for (int i = 0; i < 256; i++) {
+        int crc = CRC32C_TABLE[i];
+        for (int j = 1; j < 8; j++) {
+          crc = CRC32C_TABLE[crc & 0xFF] ^ (crc >>> 8);
+          SLICING8_TABLE[j][i] = crc;
+        }
+      }
+
+      Constructor<?> constructor = null;
+      try {
+        constructor = Class.forName("java.util.zip.CRC32C").getConstructor();
+      } catch (ClassNotFoundException | NoSuchMethodException e) {
+        // Java 8; use slicing-by-8 table lookup.
+      }
+      INTRINSIC_CONSTRUCTOR = constructor;
+    }
+
+    private final java.util.zip.Checksum intrinsic;
+    private int crc = 0xFFFFFFFF;
+
+    public CRC32C() {
+      this(true);
+    }
+
+    /** Creates CRC32C hasher; java.util.zip.CRC32C is used if available and intrinsic is set. */
+    CRC32C(boolean intrinsic) {
+      java.util.zip.Checksum checksum = null;
+      if (intrinsic && INTRINSIC_CONSTRUCTOR != null) {
+        try {
+          checksum = (java.util.zip.Checksum) INTRINSIC_CONSTRUCTOR.newInstance();
+        } catch (ReflectiveOperationException e) {
+          // Fall back to table lookup.
+        }
+      }
+      this.intrinsic = checksum;
+    }
+
+    /** Returns CRC32C of two consecutive data from their CRC32Cs and length of the second data. */
+    public static long combine(long crc1, long crc2, long len2) {
+      return COMBINER.combine(crc1, crc2, len2);
+    }
+
+    /** Returns whether java.util.zip.CRC32C is used by this hasher. */
+    public boolean isIntrinsic() {
+      return intrinsic != null;
     }
 
     @Override
     public void update(int b) {
+      if (intrinsic != null) {
+        intrinsic.update(b);
+        return;
+      }
       crc = CRC32C_TABLE[(crc ^ b) & 0xFF] ^ (crc >>> 8);
     }
 
     @Override
     public void update(byte[] b, int off, int len) {
-      for (int i = off; i < off + len; i++) {
-        update(b[i]);
+      if (intrinsic != null) {
+        intrinsic.update(b, off, len);
+        return;
+      }
+
+      int end = off + len;
+      int i = off;
+      int crc = this.crc;
+      // Eight bytes are processed per step as two little-endian ints.
+      for (; end - i >= 8; i += 8) {
+        int one =
+            crc
+                ^ ((b[i] & 0xFF)
+                    | (b[i + 1] & 0xFF) << 8
+                    | (b[i + 2] & 0xFF) << 16
+                    | (b[i + 3] & 0xFF) << 24);
+        int two =
+            (b[i + 4] & 0xFF)
+                | (b[i + 5] & 0xFF) << 8
+                | (b[i + 6] & 0xFF) << 16
+                | (b[i + 7] & 0xFF) << 24;
+        crc =
+            SLICING8_TABLE[7][one & 0xFF]
+                ^ SLICING8_TABLE[6][(one >>> 8) & 0xFF]
+                ^ SLICING8_TABLE[5][(one >>> 16) & 0xFF]
+                ^ SLICING8_TABLE[4][one >>> 24]
+                ^ SLICING8_TABLE[3][two & 0xFF]
+                ^ SLICING8_TABLE[2][(two >>> 8) & 0xFF]
+                ^ SLICING8_TABLE[1][(two >>> 16) & 0xFF]
+                ^ SLICING8_TABLE[0][two >>> 24];
+      }
+      for (; i < end; i++) {
+        crc = CRC32C_TABLE[(crc ^ b[i]) & 0xFF] ^ (crc >>> 8);
       }
+      this.crc = crc;
     }
 
     @Override
     public long getValue() {
+      if (intrinsic != null) return intrinsic.getValue();
       return (crc ^ 0xFFFFFFFFL) & 0xFFFFFFFFL;
     }
 
     @Override
     public void reset() {
+      if (intrinsic != null) intrinsic.reset();
       crc = 0xFFFFFFFF;
     }
 
@@ -311,6 +483,7 @@ public class Checksum {
   public static class CRC64NVME implements java.util.zip.Checksum, Hasher {
     private static final long[] CRC64_TABLE = new long[256];
     private static final long[][] SLICING8_TABLE_NVME = new long[8][256];
+    private static final CrcCombiner COMBINER = new CrcCombiner(0x9A6C9329AC4BC9B5L, 64);
 
     static {
       long polynomial = 0x9A6C9329AC4BC9B5L;
@@ -340,14 +513,23 @@ public class Checksum {
 
     public CRC64NVME() {}
 
+    /**
+     * Returns CRC64NVME of two consecutive data from their CRC64NVMEs and length of the second
+     * data.
+     */
+    public static long combine(long crc1, long crc2, long len2) {
+      return COMBINER.combine(crc1, crc2, len2);
+    }
+
     @Override
     public void update(byte[] p, int off, int len) {
       java.nio.ByteBuffer byteBuffer = java.nio.ByteBuffer.wrap(p, off, len);
       byteBuffer.order(ByteOrder.LITTLE_ENDIAN);
       int offset = byteBuffer.position();
+      int end = off + len;
 
       crc = ~crc;
-      while (p.length >= 64 && (p.length - offset) > 8) {
+      while (end - offset >= 8) {
         long value = byteBuffer.getLong();
         crc ^= value;
         crc =
@@ -362,7 +544,7 @@ public class Checksum {
         offset = byteBuffer.position();
       }
 
-      for (; offset < len; offset++) {
+      for (; offset < end; offset++) {
         crc = CRC64_TABLE[(int) ((crc ^ (long) p[offset]) & 0xFF)] ^ (crc >>> 8);
       }
 
@@ -530,4 +712,58 @@ public class Checksum {
       return sum(b, 0, b.length);
     }
   }
+
+  /**
+   * Combines reflected CRCs of given polynomial and width in GF(2) arithmetic like zlib's
+   * crc32_combine(), in O(log(len2)) time without reading data.
+   */
+  private static class CrcCombiner {
+    private final long polynomial;
+    private final int width;
+    // x^(2^n) modulo polynomial for n < 67, enough for any non-negative long length in bytes, i.e.
+    // 63 bits shifted by 3 bits. It does not repeat with period of width for every polynomial
+    // (e.g. CRC32C), hence no wrap around.
+    private final long[] x2nTable = new long[Long.SIZE + 3];
+
+    private CrcCombiner(long polynomial, int width) {
+      this.polynomial = polynomial;
+      this.width = width;
+      long p = 1L << (width - 2); // x^1
+      for (int n = 0; n < x2nTable.length; n++) {
+        x2nTable[n] = p;
+        p = multModP(p, p);
+      }
+    }
+
+    // Returns a(x) * b(x) modulo polynomial; a must be non-zero.
+    private long multModP(long a, long b) {
+      long m = 1L << (width - 1);
+      long p = 0;
+      while (true) {
+        if ((a & m) != 0) {
+          p ^= b;
+          if ((a & (m - 1)) == 0) break;
+        }
+        m >>>= 1;
+        b = (b & 1) != 0 ? (b >>> 1) ^ polynomial : b >>> 1;
+      }
+      return p;
+    }
+
+    // Returns x^(n * 2^k) modulo polynomial.
+    private long x2nModP(long n, int k) {
+      long p = 1L << (width - 1); // x^0
+      while (n != 0) {
+        if ((n & 1) != 0) p = multModP(x2nTable[k], p);
+        n >>>= 1;
+        k++;
+      }
+      return p;
+    }
+
+    private long combine(long crc1, long crc2, long len2) {
+      if (len2 < 0) throw new IllegalArgumentException("valid length must be provided");
+      return multModP(x2nModP(len2, 3), crc1) ^ crc2;
+    }
+  }
 }
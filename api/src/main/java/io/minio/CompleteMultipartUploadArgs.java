@@ -25,6 +25,7 @@ public class CompleteMultipartUploadArgs extends ObjectArgs {
   private String uploadId;
   private Part[] parts;
   private ServerSideEncryption.CustomerKey ssec;
+  private Http.Headers headers;
   private long delayMs = 200L;
   private int maxRetries = 5;
 
@@ -39,7 +40,14 @@ public class CompleteMultipartUploadArgs extends ObjectArgs {
   }
 
   public CompleteMultipartUploadArgs(PutObjectBaseArgs args, String uploadId, Part[] parts) {
+    this(args, uploadId, parts, null);
+  }
+
+  /** Creates arguments with checksum headers of whole object. */
+  public CompleteMultipartUploadArgs(
+      PutObjectBaseArgs args, String uploadId, Part[] parts, Http.Headers checksumHeaders) {
     super(args);
+    this.headers = checksumHeaders;
     this.uploadId = uploadId;
     this.parts = parts;
     if (args.sse() != null && args.sse() instanceof ServerSideEncryption.CustomerKey) {
@@ -61,6 +69,10 @@ public class CompleteMultipartUploadArgs extends ObjectArgs {
     return ssec;
   }
 
+  public Http.Headers headers() {
+    return headers;
+  }
+
   public long delayMs() {
     return delayMs;
   }
@@ -99,6 +111,11 @@ public class CompleteMultipartUploadArgs extends ObjectArgs {
       return this;
     }
 
+    public Builder headers(Http.Headers headers) {
+      operations.add(args -> args.headers = headers);
+      return this;
+    }
+
     public Builder ssec(ServerSideEncryption.CustomerKey ssec) {
       operations.add(args -> args.ssec = ssec);
       return this;
@@ -126,12 +143,13 @@ public class CompleteMultipartUploadArgs extends ObjectArgs {
     return Objects.equals(uploadId, that.uploadId)
         && Arrays.equals(parts, that.parts)
         && Objects.equals(ssec, that.ssec)
+        && Objects.equals(headers, that.headers)
         && delayMs == that.delayMs
         && maxRetries == that.maxRetries;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(super.hashCode(), uploadId, parts, ssec, delayMs, maxRetries);
+    return Objects.hash(super.hashCode(), uploadId, parts, ssec, headers, delayMs, maxRetries);
   }
 }
@@ -16,6 +16,8 @@
 
 package io.minio;
 
+import io.minio.messages.Tags;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -25,9 +27,23 @@ import java.util.Objects;
  * MinioClient#composeObject}.
  */
 public class ComposeObjectArgs extends ObjectWriteArgs {
+  /** Default number of part copies and source HEADs in flight. */
+  public static final int DEFAULT_PARALLEL_COPIES = 8;
+
+  private static final List<String> CONTENT_HEADERS =
+      Arrays.asList(
+          Http.Headers.CONTENT_TYPE,
+          Http.Headers.CONTENT_ENCODING,
+          "Content-Disposition",
+          "Content-Language",
+          "Cache-Control",
+          "Expires");
+
   List<SourceObject> sources;
   private long delayMs = 200L;
   private int maxRetries = 5;
+  private int parallelCopies = DEFAULT_PARALLEL_COPIES;
+  private Long partSize;
 
   protected ComposeObjectArgs() {}
 
@@ -35,14 +51,50 @@ public class ComposeObjectArgs extends ObjectWriteArgs {
     super(args);
     this.delayMs = args.delayMs;
     this.maxRetries = args.maxRetries;
+    this.parallelCopies = args.parallelCopies;
+    this.partSize = args.partSize;
     this.sources = sources;
   }
 
   public ComposeObjectArgs(CopyObjectArgs args) {
     super(args);
+    this.parallelCopies = args.parallelCopies();
+    this.partSize = args.partSize();
     this.sources = Collections.singletonList(args.source());
   }
 
+  /**
+   * Creates arguments of multipart copy of whole source of known size. Content headers and user
+   * metadata of source stat, and source tags are used if they are given. Part size is grown to keep
+   * part count within {@link ObjectWriteArgs#MAX_MULTIPART_COUNT}.
+   */
+  public ComposeObjectArgs(CopyObjectArgs args, HeadObjectResponse sourceStat, Tags sourceTags) {
+    this(args);
+    long size = args.source().objectSize();
+    long partSize = args.partSize() != null ? args.partSize() : CopyObjectArgs.DEFAULT_PART_SIZE;
+    partSize = Math.max(partSize, (size + MAX_MULTIPART_COUNT - 1) / MAX_MULTIPART_COUNT);
+    this.partSize = Math.min(partSize, MAX_PART_SIZE);
+
+    if (sourceStat != null) {
+      Http.Headers headers = new Http.Headers();
+      if (args.headers() != null) headers.putAll(args.headers());
+      for (String name : CONTENT_HEADERS) {
+        headers.removeAll(name);
+        String value = sourceStat.headers().get(name);
+        if (value != null) headers.put(name, value);
+      }
+      this.headers = headers;
+
+      Http.Headers userMetadata = new Http.Headers();
+      for (String key : sourceStat.userMetadata().keySet()) {
+        userMetadata.put("x-amz-meta-" + key, sourceStat.userMetadata().get(key));
+      }
+      this.userMetadata = userMetadata;
+    }
+
+    if (sourceTags != null) this.tags = sourceTags;
+  }
+
   public List<SourceObject> sources() {
     return sources;
   }
@@ -55,6 +107,15 @@ public class ComposeObjectArgs extends ObjectWriteArgs {
     return maxRetries;
   }
 
+  public int parallelCopies() {
+    return parallelCopies;
+  }
+
+  /** Gets size of parts a source is split into, which is 5 GiB if not set. */
+  public long partSize() {
+    return partSize != null ? partSize : MAX_PART_SIZE;
+  }
+
   public static Builder builder() {
     return new Builder();
   }
@@ -98,6 +159,32 @@ public class ComposeObjectArgs extends ObjectWriteArgs {
       operations.add(args -> args.maxRetries = maxRetries);
       return this;
     }
+
+    /**
+     * Set maximum number of part copies and source HEADs in flight (default {@link
+     * #DEFAULT_PARALLEL_COPIES}).
+     */
+    public Builder parallelCopies(int parallelCopies) {
+      if (parallelCopies < 1) {
+        throw new IllegalArgumentException("parallel copies must be at least 1");
+      }
+      operations.add(args -> args.parallelCopies = parallelCopies);
+      return this;
+    }
+
+    /** Set size of parts that sources larger than it are split into (default 5 GiB). */
+    public Builder partSize(Long partSize) {
+      if (partSize != null) {
+        if (partSize < ObjectWriteArgs.MIN_MULTIPART_SIZE) {
+          throw new IllegalArgumentException("part size must be minimum of 5 MiB");
+        }
+        if (partSize > ObjectWriteArgs.MAX_PART_SIZE) {
+          throw new IllegalArgumentException("part size must be less than 5 GiB");
+        }
+      }
+      operations.add(args -> args.partSize = partSize);
+      return this;
+    }
   }
 
   @Override
@@ -108,11 +195,13 @@ public class ComposeObjectArgs extends ObjectWriteArgs {
     ComposeObjectArgs that = (ComposeObjectArgs) o;
     return Objects.equals(sources, that.sources)
         && delayMs == that.delayMs
-        && maxRetries == that.maxRetries;
+        && maxRetries == that.maxRetries
+        && parallelCopies == that.parallelCopies
+        && Objects.equals(partSize, that.partSize);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(super.hashCode(), sources, delayMs, maxRetries);
+    return Objects.hash(super.hashCode(), sources, delayMs, maxRetries, parallelCopies, partSize);
   }
 }
@@ -23,9 +23,14 @@ import java.util.Objects;
  * MinioClient#copyObject}.
  */
 public class CopyObjectArgs extends ObjectWriteArgs {
+  /** Default part size of multipart copy of source larger than 5 GiB. */
+  public static final long DEFAULT_PART_SIZE = 1024L * 1024 * 1024;
+
   private SourceObject source;
   private Directive metadataDirective;
   private Directive taggingDirective;
+  private Long partSize;
+  private int parallelCopies = ComposeObjectArgs.DEFAULT_PARALLEL_COPIES;
 
   protected CopyObjectArgs() {}
 
@@ -33,6 +38,8 @@ public class CopyObjectArgs extends ObjectWriteArgs {
     super(args);
     this.metadataDirective = args.metadataDirective;
     this.taggingDirective = args.taggingDirective;
+    this.partSize = args.partSize;
+    this.parallelCopies = args.parallelCopies;
     this.source = source;
   }
 
@@ -53,6 +60,14 @@ public class CopyObjectArgs extends ObjectWriteArgs {
     return taggingDirective;
   }
 
+  public Long partSize() {
+    return partSize;
+  }
+
+  public int parallelCopies() {
+    return parallelCopies;
+  }
+
   public static Builder builder() {
     return new Builder();
   }
@@ -96,6 +111,36 @@ public class CopyObjectArgs extends ObjectWriteArgs {
       operations.add(args -> args.taggingDirective = directive);
       return this;
     }
+
+    /**
+     * Set part size of multipart copy of source larger than 5 GiB (default {@link
+     * #DEFAULT_PART_SIZE}). Part size grows if the source needs more than {@link
+     * ObjectWriteArgs#MAX_MULTIPART_COUNT} parts.
+     */
+    public Builder partSize(Long partSize) {
+      if (partSize != null) {
+        if (partSize < ObjectWriteArgs.MIN_MULTIPART_SIZE) {
+          throw new IllegalArgumentException("part size must be minimum of 5 MiB");
+        }
+        if (partSize > ObjectWriteArgs.MAX_PART_SIZE) {
+          throw new IllegalArgumentException("part size must be less than 5 GiB");
+        }
+      }
+      operations.add(args -> args.partSize = partSize);
+      return this;
+    }
+
+    /**
+     * Set maximum number of part copies in flight of multipart copy (default {@link
+     * ComposeObjectArgs#DEFAULT_PARALLEL_COPIES}).
+     */
+    public Builder parallelCopies(int parallelCopies) {
+      if (parallelCopies < 1) {
+        throw new IllegalArgumentException("parallel copies must be at least 1");
+      }
+      operations.add(args -> args.parallelCopies = parallelCopies);
+      return this;
+    }
   }
 
   @Override
@@ -106,11 +151,14 @@ public class CopyObjectArgs extends ObjectWriteArgs {
     CopyObjectArgs that = (CopyObjectArgs) o;
     return Objects.equals(source, that.source)
         && metadataDirective == that.metadataDirective
-        && taggingDirective == that.taggingDirective;
+        && taggingDirective == that.taggingDirective
+        && Objects.equals(partSize, that.partSize)
+        && parallelCopies == that.parallelCopies;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(super.hashCode(), source, metadataDirective, taggingDirective);
+    return Objects.hash(
+        super.hashCode(), source, metadataDirective, taggingDirective, partSize, parallelCopies);
   }
 }
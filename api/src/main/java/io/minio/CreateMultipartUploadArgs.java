@@ -27,13 +27,21 @@ public class CreateMultipartUploadArgs extends ObjectArgs {
 
   public CreateMultipartUploadArgs(
       PutObjectBaseArgs args, MediaType contentType, Checksum.Algorithm algorithm) {
+    this(args, contentType, algorithm, null);
+  }
+
+  public CreateMultipartUploadArgs(
+      PutObjectBaseArgs args,
+      MediaType contentType,
+      Checksum.Algorithm algorithm,
+      Checksum.Type checksumType) {
     super(args);
-    this.headers =
-        args.makeHeaders(
-            contentType,
-            algorithm == null
-                ? null
-                : new Http.Headers("x-amz-checksum-algorithm", algorithm.toString()));
+    Http.Headers checksumHeaders = null;
+    if (algorithm != null) {
+      checksumHeaders = new Http.Headers("x-amz-checksum-algorithm", algorithm.toString());
+      if (checksumType != null) checksumHeaders.put("x-amz-checksum-type", checksumType.name());
+    }
+    this.headers = args.makeHeaders(contentType, checksumHeaders);
   }
 
   public CreateMultipartUploadArgs(ComposeObjectArgs args) {
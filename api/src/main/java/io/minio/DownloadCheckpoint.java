@@ -0,0 +1,191 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage,
+ * (C) 2026 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import io.minio.errors.MinioException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Checkpoint of resumable {@link MinioAsyncClient#downloadObject}. Download appends each byte range
+ * written to its temporary file as "offset length" line to a ranges file next to it, after the
+ * range is forced to storage, so that an interrupted download fetches only missing ranges. A
+ * temporary file without ranges file, e.g. left by another tool, is reused from its start to its
+ * length only if the download can be verified by checksum of the object.
+ */
+public class DownloadCheckpoint {
+  private final Path path;
+  private final long size;
+  // Written ranges as start offset to end offset (exclusive); adjacent ranges are merged.
+  private final TreeMap<Long, Long> ranges = new TreeMap<>();
+
+  private DownloadCheckpoint(Path path, long size) {
+    this.path = path;
+    this.size = size;
+  }
+
+  /**
+   * Loads checkpoint of given temporary file of a download of given object size. If verifiable is
+   * set, the temporary file without ranges file is treated as written up to its length.
+   */
+  public static DownloadCheckpoint load(String tempFilename, long size, boolean verifiable)
+      throws MinioException {
+    Path tempFilePath = Paths.get(tempFilename);
+    DownloadCheckpoint checkpoint =
+        new DownloadCheckpoint(Paths.get(tempFilename + ".ranges"), size);
+    try {
+      if (!Files.exists(tempFilePath)) {
+        Files.deleteIfExists(checkpoint.path);
+        return checkpoint;
+      }
+
+      long length = Files.size(tempFilePath);
+      if (!Files.exists(checkpoint.path)) {
+        if (verifiable && length <= size) checkpoint.merge(0, length);
+        return checkpoint;
+      }
+
+      for (String line : Files.readAllLines(checkpoint.path, StandardCharsets.UTF_8)) {
+        String[] tokens = line.trim().split(" ");
+        // Last line may be partially written by interrupted download.
+        if (tokens.length != 2) continue;
+        try {
+          long offset = Long.parseLong(tokens[0]);
+          long end = offset + Long.parseLong(tokens[1]);
+          if (offset >= 0 && offset < end && end <= Math.min(length, size)) {
+            checkpoint.merge(offset, end);
+          }
+        } catch (NumberFormatException e) {
+          continue;
+        }
+      }
+      return checkpoint;
+    } catch (IOException e) {
+      throw new MinioException(e);
+    }
+  }
+
+  private void merge(long offset, long end) {
+    if (offset == end) return;
+    Map.Entry<Long, Long> entry = ranges.floorEntry(offset);
+    if (entry != null && entry.getValue() >= offset) {
+      offset = entry.getKey();
+      end = Math.max(end, entry.getValue());
+    }
+    while ((entry = ranges.ceilingEntry(offset)) != null && entry.getKey() <= end) {
+      end = Math.max(end, entry.getValue());
+      ranges.remove(entry.getKey());
+    }
+    ranges.put(offset, end);
+  }
+
+  /** Gets number of bytes written from start of the temporary file without a gap. */
+  public synchronized long writtenPrefix() {
+    Map.Entry<Long, Long> entry = ranges.firstEntry();
+    return (entry != null && entry.getKey() == 0) ? entry.getValue() : 0;
+  }
+
+  /** Gets number of bytes written to the temporary file. */
+  public synchronized long writtenBytes() {
+    long bytes = 0;
+    for (Map.Entry<Long, Long> entry : ranges.entrySet()) {
+      bytes += entry.getValue() - entry.getKey();
+    }
+    return bytes;
+  }
+
+  /** Gets missing byte ranges as offset and length pairs, split to at most partSize. */
+  public synchronized List<long[]> missingRanges(long partSize) {
+    List<long[]> missing = new ArrayList<>();
+    long offset = 0;
+    for (Map.Entry<Long, Long> entry : ranges.entrySet()) {
+      split(missing, offset, entry.getKey(), partSize);
+      offset = entry.getValue();
+    }
+    split(missing, offset, size, partSize);
+    return missing;
+  }
+
+  private static void split(List<long[]> ranges, long offset, long end, long partSize) {
+    while (offset < end) {
+      long length = Math.min(partSize, end - offset);
+      ranges.add(new long[] {offset, length});
+      offset += length;
+    }
+  }
+
+  /** Drops written ranges after given length of the temporary file and saves ranges file. */
+  public synchronized void truncate(long length) throws MinioException {
+    while (!ranges.isEmpty() && ranges.lastKey() >= length) ranges.pollLastEntry();
+    if (!ranges.isEmpty() && ranges.lastEntry().getValue() > length) {
+      ranges.put(ranges.lastKey(), length);
+    }
+    save();
+  }
+
+  /** Saves written ranges to ranges file, replacing its content. */
+  public synchronized void save() throws MinioException {
+    StringBuilder builder = new StringBuilder();
+    for (Map.Entry<Long, Long> entry : ranges.entrySet()) {
+      builder
+          .append(entry.getKey())
+          .append(" ")
+          .append(entry.getValue() - entry.getKey())
+          .append("\n");
+    }
+    try {
+      Files.write(path, builder.toString().getBytes(StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new MinioException(e);
+    }
+  }
+
+  /**
+   * Adds a written range and appends it to ranges file. The range must be forced to storage before,
+   * so that the ranges file never records data lost by a crash.
+   */
+  public synchronized void add(long offset, long length) throws MinioException {
+    merge(offset, offset + length);
+    try {
+      Files.write(
+          path,
+          (offset + " " + length + "\n").getBytes(StandardCharsets.UTF_8),
+          StandardOpenOption.CREATE,
+          StandardOpenOption.APPEND);
+    } catch (IOException e) {
+      throw new MinioException(e);
+    }
+  }
+
+  /** Deletes ranges file. */
+  public void delete() throws MinioException {
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      throw new MinioException(e);
+    }
+  }
+}
@@ -24,8 +24,14 @@ import java.util.Objects;
  * MinioClient#downloadObject}.
  */
 public class DownloadObjectArgs extends ObjectReadArgs {
+  /** Default size of byte ranges of parallel download. */
+  public static final long DEFAULT_PART_SIZE = 16L * 1024 * 1024;
+
   private String filename;
   private boolean overwrite;
+  private long partSize = DEFAULT_PART_SIZE;
+  private int parallelDownloads = 1;
+  private boolean resume;
   protected String matchETag;
   protected String notMatchETag;
   protected ZonedDateTime modifiedSince;
@@ -39,6 +45,18 @@ public class DownloadObjectArgs extends ObjectReadArgs {
     return overwrite;
   }
 
+  public long partSize() {
+    return partSize;
+  }
+
+  public int parallelDownloads() {
+    return parallelDownloads;
+  }
+
+  public boolean resume() {
+    return resume;
+  }
+
   public String matchETag() {
     return matchETag;
   }
@@ -76,6 +94,38 @@ public class DownloadObjectArgs extends ObjectReadArgs {
       return this;
     }
 
+    /** Set size of byte ranges of parallel download (default {@link #DEFAULT_PART_SIZE}). */
+    public Builder partSize(long partSize) {
+      if (partSize <= 0) throw new IllegalArgumentException("valid part size must be provided");
+      operations.add(args -> args.partSize = partSize);
+      return this;
+    }
+
+    /**
+     * Set maximum number of byte ranges fetched in parallel. Value more than 1 downloads byte
+     * ranges of part size concurrently, and writes each range at its offset of the temporary file
+     * (default 1).
+     */
+    public Builder parallelDownloads(int parallelDownloads) {
+      if (parallelDownloads < 1) {
+        throw new IllegalArgumentException("parallel downloads must be at least 1");
+      }
+      operations.add(args -> args.parallelDownloads = parallelDownloads);
+      return this;
+    }
+
+    /**
+     * Set whether to resume from the temporary file left by an interrupted download of the same
+     * ETag (default false). Sequential download continues from the end of data recorded in the
+     * temporary file, and parallel download fetches only byte ranges missing in it; resumed
+     * download is validated against full object checksum of the object if available. On failure,
+     * the temporary file is kept to resume from.
+     */
+    public Builder resume(boolean flag) {
+      operations.add(args -> args.resume = flag);
+      return this;
+    }
+
     public Builder matchETag(String etag) {
       Utils.validateNullOrNotEmptyString(etag, "etag");
       operations.add(args -> args.matchETag = etag);
@@ -107,6 +157,9 @@ public class DownloadObjectArgs extends ObjectReadArgs {
     DownloadObjectArgs that = (DownloadObjectArgs) o;
     return Objects.equals(filename, that.filename)
         && overwrite == that.overwrite
+        && partSize == that.partSize
+        && parallelDownloads == that.parallelDownloads
+        && resume == that.resume
         && Objects.equals(matchETag, that.matchETag)
         && Objects.equals(notMatchETag, that.notMatchETag)
         && Objects.equals(modifiedSince, that.modifiedSince)
@@ -119,6 +172,9 @@ public class DownloadObjectArgs extends ObjectReadArgs {
         super.hashCode(),
         filename,
         overwrite,
+        partSize,
+        parallelDownloads,
+        resume,
         matchETag,
         notMatchETag,
         modifiedSince,
@@ -24,6 +24,14 @@ public class GetObjectArgs extends ObjectConditionalReadArgs {
     super(args);
   }
 
+  /** Creates arguments to get byte range of given ETag of the object to download. */
+  public GetObjectArgs(DownloadObjectArgs args, String etag, long offset, long length) {
+    super(args);
+    this.matchETag = etag;
+    this.offset = offset;
+    this.length = length;
+  }
+
   public static Builder builder() {
     return new Builder();
   }
@@ -32,6 +32,12 @@ public class HeadObjectArgs extends HeadObjectBaseArgs {
     super(args);
   }
 
+  /** Creates arguments to get information of the object to download, optionally with checksum. */
+  public HeadObjectArgs(DownloadObjectArgs args, boolean fetchChecksum) {
+    super(args);
+    this.fetchChecksum = fetchChecksum;
+  }
+
   public HeadObjectArgs(HeadObjectBaseArgs args) {
     super(args);
   }
@@ -19,7 +19,9 @@ package io.minio;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Multimap;
 import io.minio.credentials.Credentials;
+import io.minio.errors.InsufficientDataException;
 import io.minio.errors.MinioException;
+import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -27,6 +29,7 @@ import java.io.PrintWriter;
 import java.io.RandomAccessFile;
 import java.net.URL;
 import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -46,7 +49,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -69,14 +71,19 @@ import javax.net.ssl.SSLSocketFactory;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.TrustManagerFactory;
 import javax.net.ssl.X509TrustManager;
+import okhttp3.Dispatcher;
 import okhttp3.Interceptor;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.Response;
+import okio.Buffer;
 import okio.BufferedSink;
 import okio.Okio;
+import okio.Sink;
+import okio.Source;
+import okio.Timeout;
 
 /** HTTP utilities. */
 public class Http {
@@ -85,6 +92,10 @@ public class Http {
   public static final MediaType JSON_MEDIA_TYPE = MediaType.parse("application/json");
   public static final String US_EAST_1 = "us-east-1";
   public static final long DEFAULT_TIMEOUT = TimeUnit.MINUTES.toMillis(5);
+  // maximum concurrent requests per host a window of parallel requests raises the default client
+  // to.
+  public static final int MAX_WINDOW_REQUESTS_PER_HOST = 64;
+  private static final Object DISPATCHER_LOCK = new Object();
   public static final Body EMPTY_BODY =
       new Body(
           Utils.EMPTY_BYTE_ARRAY,
@@ -721,7 +732,16 @@ public class Http {
     return traceBuilder.toString();
   }
 
+  /**
+   * Retries requests failed by retriable HTTP status. Requests of {@link S3Request} built with
+   * statusRetry unset are not retried, as their callers retry them.
+   */
   public static class StatusRetryInterceptor implements Interceptor {
+    /** Tag of request not to be retried by this interceptor. */
+    private static final class NoRetry {}
+
+    private static final NoRetry NO_RETRY = new NoRetry();
+
     private final Set<Integer> retryStatusCodes;
     private final long delayMs;
     private final int maxRetries;
@@ -794,6 +814,8 @@ public class Http {
 
         if (response.isSuccessful()
             || i == maxRetries - 1
+            || request.tag(NoRetry.class) != null
+            || (request.body() != null && request.body().isOneShot())
             || retryStatusCodes == null
             || !retryStatusCodes.contains(response.code())) return response;
 
@@ -835,6 +857,21 @@ public class Http {
     }
   }
 
+  /**
+   * Raises maximum requests per host, and maximum requests if lower, of dispatcher of the specified
+   * HTTP client to the window of parallel requests, capped at {@link
+   * #MAX_WINDOW_REQUESTS_PER_HOST}. Limits are never lowered.
+   */
+  public static void raiseMaxRequestsPerHost(OkHttpClient client, int window) {
+    int limit = Math.min(window, MAX_WINDOW_REQUESTS_PER_HOST);
+    Dispatcher dispatcher = client.dispatcher();
+    // Dispatcher must not be locked by callers of its setters.
+    synchronized (DISPATCHER_LOCK) {
+      if (dispatcher.getMaxRequestsPerHost() < limit) dispatcher.setMaxRequestsPerHost(limit);
+      if (dispatcher.getMaxRequests() < limit) dispatcher.setMaxRequests(limit);
+    }
+  }
+
   /**
    * Disables TLS certificate check as a special case for self-signed certificate and testing to the
    * specified HTTP client.
@@ -894,12 +931,16 @@ public class Http {
   public static class Body {
     private okhttp3.RequestBody requestBody;
     private RandomAccessFile file;
+    private Long position;
     private ByteBuffer buffer;
     private byte[] data;
+    private InputStream stream;
     private Long length;
     private MediaType contentType;
     private String sha256Hash;
     private String md5Hash;
+    private Checksum.Algorithm trailingChecksum;
+    private boolean signedChunks;
     private String bodyString = "<<<BYTE>>>";
 
     /** Creates Body for okhttp3 RequestBody. */
@@ -920,6 +961,30 @@ public class Http {
       set(length, contentType, sha256Hash, md5Hash);
     }
 
+    /** Creates Body for length bytes of RandomAccessFile starting at position. */
+    public Body(
+        RandomAccessFile file,
+        long position,
+        long length,
+        MediaType contentType,
+        String sha256Hash,
+        String md5Hash) {
+      this(file, length, contentType, sha256Hash, md5Hash);
+      if (position < 0) throw new IllegalArgumentException("valid position must be provided");
+      this.position = position;
+    }
+
+    /**
+     * Creates Body for length bytes of InputStream. The stream is read once while the body is
+     * written, hence the body cannot be hashed upfront nor sent again.
+     */
+    public Body(
+        InputStream stream, long length, MediaType contentType, String sha256Hash, String md5Hash) {
+      if (length < 0) throw new IllegalArgumentException("valid length must be provided");
+      this.stream = stream;
+      set(length, contentType, sha256Hash, md5Hash);
+    }
+
     /** Creates Body for byte array. */
     public Body(byte[] data, int length, MediaType contentType, String sha256Hash, String md5Hash) {
       if (length < 0) throw new IllegalArgumentException("valid length must be provided");
@@ -979,23 +1044,83 @@ public class Http {
       return requestBody != null;
     }
 
+    /**
+     * Sets checksum algorithm to be computed while this body is written. The body is sent as
+     * aws-chunked encoded data with the checksum in its trailer, so the payload is read once.
+     */
+    public void setTrailingChecksum(@Nonnull Checksum.Algorithm algorithm) {
+      if (requestBody != null) {
+        throw new IllegalArgumentException("trailing checksum is not supported for request body");
+      }
+      if (algorithm == Checksum.Algorithm.MD5) {
+        throw new IllegalArgumentException("trailing checksum is not supported for " + algorithm);
+      }
+      this.trailingChecksum = Utils.validateNotNull(algorithm, "checksum algorithm");
+      this.sha256Hash = Checksum.STREAMING_UNSIGNED_PAYLOAD_TRAILER;
+      this.md5Hash = null;
+    }
+
+    /**
+     * Sets this body without SHA256 hash to be sent as signed aws-chunked data over plain HTTP,
+     * where each chunk is signed while it is written.
+     */
+    public void setSignedChunks() {
+      if (requestBody != null) {
+        throw new IllegalArgumentException("signed chunks are not supported for request body");
+      }
+      this.signedChunks = true;
+    }
+
+    /** Checks whether this body is sent as signed chunks over plain HTTP. */
+    public boolean signedChunks() {
+      return signedChunks;
+    }
+
+    /** Gets length of this body; null for HTTP request body. */
+    public Long length() {
+      if (buffer != null) return buffer.length();
+      return length;
+    }
+
+    /** Gets trailing checksum algorithm of this body. */
+    public Checksum.Algorithm trailingChecksum() {
+      return trailingChecksum;
+    }
+
     /** Creates headers for this body. */
     public Headers headers() {
       Headers headers = new Headers(Headers.CONTENT_TYPE, contentType.toString());
       if (sha256Hash != null) headers.put(Headers.X_AMZ_CONTENT_SHA256, sha256Hash);
       if (md5Hash != null) headers.put(Headers.CONTENT_MD5, md5Hash);
+      if (trailingChecksum != null) {
+        headers.put(Headers.CONTENT_ENCODING, "aws-chunked");
+        headers.put(Headers.X_AMZ_DECODED_CONTENT_LENGTH, String.valueOf(length()));
+        headers.put(Headers.X_AMZ_TRAILER, trailingChecksum.header());
+      }
       return headers;
     }
 
     /** Creates HTTP RequestBody for this body. */
-    public RequestBody toRequestBody() throws MinioException {
+    public okhttp3.RequestBody toRequestBody() throws MinioException {
+      RequestBody body = toPayloadRequestBody();
+      if (trailingChecksum != null) return new ChunkedRequestBody(body, trailingChecksum);
+      return body;
+    }
+
+    private RequestBody toPayloadRequestBody() throws MinioException {
       if (requestBody != null) return new RequestBody(requestBody);
+      if (file != null && position != null) {
+        return new RequestBody(file, position, length, contentType, bodyString);
+      }
       if (file != null) {
         return new RequestBody(file, length, contentType, bodyString);
       }
       if (buffer != null) {
         return new RequestBody(buffer, contentType, bodyString);
       }
+      if (stream != null) {
+        return new RequestBody(stream, length, contentType, bodyString);
+      }
       return new RequestBody(data, length.intValue(), contentType, bodyString);
     }
 
@@ -1005,13 +1130,228 @@ public class Http {
     }
   }
 
+  /**
+   * aws-chunked encoded HTTP request body of {@link RequestBody}. Checksum of the payload is
+   * computed while the payload is written, and is sent in the trailer. If signed, each chunk and
+   * the trailer are signed while they are written, chained from the seed signature of the request.
+   */
+  public static class ChunkedRequestBody extends okhttp3.RequestBody {
+    /** Size of payload in a chunk. */
+    public static final int CHUNK_SIZE = 64 * 1024;
+
+    private static final byte[] CRLF = {'\r', '\n'};
+    private static final String CHUNK_SIGNATURE = ";chunk-signature=";
+    private static final String TRAILER_SIGNATURE = "x-amz-trailer-signature:";
+    private static final int SIGNATURE_LENGTH = 64;
+
+    private final RequestBody body;
+    private final Checksum.Algorithm trailingChecksum;
+    private final int checksumLength;
+    private final boolean signed;
+
+    // Set by setSeedSignature() after the request is signed.
+    private volatile String seedSignature;
+    // Checksum sent in the trailer by the last write of this body.
+    private volatile String trailingChecksumValue;
+    private ZonedDateTime date;
+    private String region;
+    private String secretKey;
+
+    /** Creates ChunkedRequestBody for body with checksum of given algorithm in trailer. */
+    public ChunkedRequestBody(
+        @Nonnull RequestBody body, @Nonnull Checksum.Algorithm trailingChecksum)
+        throws MinioException {
+      this(body, Utils.validateNotNull(trailingChecksum, "checksum algorithm"), false);
+    }
+
+    /**
+     * Creates ChunkedRequestBody for body with optional checksum of given algorithm in trailer. If
+     * signed, {@link #setSeedSignature} must be called before this body is written.
+     */
+    public ChunkedRequestBody(
+        @Nonnull RequestBody body, Checksum.Algorithm trailingChecksum, boolean signed)
+        throws MinioException {
+      if (trailingChecksum == null && !signed) {
+        throw new IllegalArgumentException("unsigned chunked body must have trailing checksum");
+      }
+      this.body = Utils.validateNotNull(body, "body");
+      this.trailingChecksum = trailingChecksum;
+      this.checksumLength =
+          trailingChecksum == null
+              ? 0
+              : Checksum.base64String(trailingChecksum.hasher().sum()).length();
+      this.signed = signed;
+    }
+
+    /** Sets seed signature of the request and its signing parameters to sign chunks. */
+    public void setSeedSignature(
+        @Nonnull String seedSignature,
+        @Nonnull ZonedDateTime date,
+        @Nonnull String region,
+        @Nonnull String secretKey) {
+      this.date = date;
+      this.region = region;
+      this.secretKey = secretKey;
+      this.seedSignature = Utils.validateNotNull(seedSignature, "seed signature");
+    }
+
+    private long chunkLength(long size) {
+      long length = Long.toHexString(size).length() + CRLF.length;
+      if (signed) length += CHUNK_SIGNATURE.length() + SIGNATURE_LENGTH;
+      return size == 0 ? length : length + size + CRLF.length;
+    }
+
+    /** Gets content type. */
+    @Override
+    public MediaType contentType() {
+      return body.contentType();
+    }
+
+    /** Returns whether this body is written at most once. */
+    @Override
+    public boolean isOneShot() {
+      return body.isOneShot();
+    }
+
+    /** Gets content length of encoded body. */
+    @Override
+    public long contentLength() {
+      long length = body.contentLength();
+      long encodedLength = (length / CHUNK_SIZE) * chunkLength(CHUNK_SIZE);
+      if (length % CHUNK_SIZE != 0) encodedLength += chunkLength(length % CHUNK_SIZE);
+      // Final zero sized chunk, trailer and empty line.
+      encodedLength += chunkLength(0);
+      if (trailingChecksum != null) {
+        encodedLength += trailingChecksum.header().length() + 1 + checksumLength + CRLF.length;
+        if (signed) encodedLength += TRAILER_SIGNATURE.length() + SIGNATURE_LENGTH + CRLF.length;
+      }
+      return encodedLength + CRLF.length;
+    }
+
+    /** Gets trailing checksum algorithm of this body, or null if it has no trailing checksum. */
+    public Checksum.Algorithm trailingChecksum() {
+      return trailingChecksum;
+    }
+
+    /**
+     * Gets base64 encoded checksum sent in the trailer by the last write of this body, or null if
+     * not written.
+     */
+    public String trailingChecksumValue() {
+      return trailingChecksumValue;
+    }
+
+    /** Writes encoded data to the specified sink. */
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+      if (signed && seedSignature == null) {
+        throw new IOException("seed signature must be set to write signed chunks");
+      }
+      Checksum.Hasher hasher = null;
+      try {
+        if (trailingChecksum != null) hasher = trailingChecksum.hasher();
+      } catch (MinioException e) {
+        throw new IOException(e);
+      }
+      ChunkingSink chunkingSink = new ChunkingSink(sink, hasher);
+      BufferedSink bufferedSink = Okio.buffer(chunkingSink);
+      body.writeTo(bufferedSink);
+      bufferedSink.emit();
+      chunkingSink.finish();
+    }
+
+    /** Okio sink to write data as chunks to underneath sink. */
+    private class ChunkingSink implements Sink {
+      private final BufferedSink sink;
+      private final Checksum.Hasher hasher;
+      private final byte[] chunk = new byte[CHUNK_SIZE];
+      private int length = 0;
+      private String prevSignature = seedSignature;
+
+      private ChunkingSink(BufferedSink sink, Checksum.Hasher hasher) {
+        this.sink = sink;
+        this.hasher = hasher;
+      }
+
+      @Override
+      public void write(Buffer source, long byteCount) throws IOException {
+        while (byteCount > 0) {
+          int n = source.read(chunk, length, (int) Math.min(byteCount, CHUNK_SIZE - length));
+          if (n < 0) throw new EOFException("unexpected EOF");
+          length += n;
+          byteCount -= n;
+          if (length == CHUNK_SIZE) writeChunk();
+        }
+      }
+
+      private String sha256Hex(byte[] data, int length) throws MinioException {
+        Checksum.Hasher sha256 = Checksum.Algorithm.SHA256.hasher();
+        sha256.update(data, 0, length);
+        return Checksum.hexString(sha256.sum());
+      }
+
+      private void writeChunk() throws IOException {
+        if (hasher != null) hasher.update(chunk, 0, length);
+        sink.writeUtf8(Long.toHexString(length));
+        if (signed) {
+          try {
+            prevSignature =
+                Signer.getChunkSignature(
+                    sha256Hex(chunk, length), date, region, secretKey, prevSignature);
+          } catch (MinioException e) {
+            throw new IOException(e);
+          }
+          sink.writeUtf8(CHUNK_SIGNATURE).writeUtf8(prevSignature);
+        }
+        sink.write(CRLF);
+        if (length > 0) sink.write(chunk, 0, length).write(CRLF);
+        length = 0;
+      }
+
+      private void finish() throws IOException {
+        if (length > 0) writeChunk();
+        writeChunk();
+        if (hasher != null) {
+          trailingChecksumValue = Checksum.base64String(hasher.sum());
+          String trailer = trailingChecksum.header() + ":" + trailingChecksumValue;
+          sink.writeUtf8(trailer).write(CRLF);
+          if (signed) {
+            try {
+              byte[] data = (trailer + "\n").getBytes(StandardCharsets.UTF_8);
+              prevSignature =
+                  Signer.getTrailerSignature(
+                      sha256Hex(data, data.length), date, region, secretKey, prevSignature);
+            } catch (MinioException e) {
+              throw new IOException(e);
+            }
+            sink.writeUtf8(TRAILER_SIGNATURE).writeUtf8(prevSignature).write(CRLF);
+          }
+        }
+        sink.write(CRLF);
+      }
+
+      @Override
+      public void flush() {}
+
+      @Override
+      public Timeout timeout() {
+        return sink.timeout();
+      }
+
+      @Override
+      public void close() {}
+    }
+  }
+
   /** HTTP request body of {@link RandomAccessFile}, {@link ByteBuffer} or byte array. */
   public static class RequestBody extends okhttp3.RequestBody {
     private okhttp3.RequestBody body;
     private ByteBuffer buffer;
     private RandomAccessFile file;
     private long position;
+    private boolean positional;
     private byte[] bytes;
+    private InputStream stream;
     private long length;
     private MediaType contentType;
     private String bodyString;
@@ -1048,6 +1388,27 @@ public class Http {
       this.bodyString = bodyString;
     }
 
+    /**
+     * Creates RequestBody for length bytes of RandomAccessFile starting at position. Data is
+     * transferred by positional reads of its file channel, so the file pointer is not used and
+     * regions of the same file can be sent concurrently.
+     */
+    public RequestBody(
+        @Nonnull final RandomAccessFile file,
+        final long position,
+        final long length,
+        @Nonnull final MediaType contentType,
+        final String bodyString) {
+      this.file = Utils.validateNotNull(file, "randome access file");
+      if (position < 0) throw new IllegalArgumentException("position must not be negative value");
+      if (length < 0) throw new IllegalArgumentException("length must not be negative value");
+      this.position = position;
+      this.positional = true;
+      this.length = length;
+      this.contentType = Utils.validateNotNull(contentType, "content type");
+      this.bodyString = bodyString;
+    }
+
     /** Creates RequestBody for ByteBuffer. */
     public RequestBody(
         @Nonnull final ByteBuffer buffer,
@@ -1059,6 +1420,23 @@ public class Http {
       this.bodyString = bodyString;
     }
 
+    /**
+     * Creates one-shot RequestBody for length bytes of InputStream. The stream is not closed after
+     * the body is written. Writing the body fails by {@link IOException} caused by {@link
+     * InsufficientDataException} if the stream ends before length bytes.
+     */
+    public RequestBody(
+        @Nonnull final InputStream stream,
+        final long length,
+        @Nonnull final MediaType contentType,
+        final String bodyString) {
+      this.stream = Utils.validateNotNull(stream, "stream");
+      if (length < 0) throw new IllegalArgumentException("length must not be negative value");
+      this.length = length;
+      this.contentType = Utils.validateNotNull(contentType, "content type");
+      this.bodyString = bodyString;
+    }
+
     /** Creates RequestBody for byte array. */
     @Deprecated
     public RequestBody(
@@ -1108,16 +1486,44 @@ public class Http {
       return length;
     }
 
+    /** Returns whether this body is written at most once. */
+    @Override
+    public boolean isOneShot() {
+      return stream != null || (body != null && body.isOneShot());
+    }
+
     /** Writes data to the specified sink. */
     @Override
     public void writeTo(BufferedSink sink) throws IOException {
       if (body != null) {
         body.writeTo(sink);
       } else if (buffer != null) {
-        sink.write(Okio.source(buffer.inputStream()), length);
+        for (java.nio.ByteBuffer slab : buffer.slabs()) sink.write(slab);
+      } else if (file != null && positional) {
+        FileChannel channel = file.getChannel();
+        long offset = position;
+        long end = position + length;
+        while (offset < end) {
+          long n = channel.transferTo(offset, end - offset, sink);
+          if (n <= 0) throw new EOFException("unexpected EOF");
+          offset += n;
+        }
       } else if (file != null) {
         file.seek(position);
         sink.write(Okio.source(Channels.newInputStream(file.getChannel())), length);
+      } else if (stream != null) {
+        Source source = Okio.source(stream);
+        long bytesWritten = 0;
+        while (bytesWritten < length) {
+          long n = source.read(sink.getBuffer(), length - bytesWritten);
+          if (n < 0) {
+            throw new IOException(
+                new InsufficientDataException(
+                    "insufficient data; expected=" + length + ", got=" + bytesWritten));
+          }
+          bytesWritten += n;
+          sink.emitCompleteSegments();
+        }
       } else {
         sink.write(bytes, 0, (int) length);
       }
@@ -1163,8 +1569,10 @@ public class Http {
     public static final String X_AMZ_CONTENT_SHA256 = "X-Amz-Content-Sha256";
     public static final String X_AMZ_COPY_SOURCE_RANGE = "X-Amz-Copy-Source-Range";
     public static final String X_AMZ_DATE = "X-Amz-Date";
+    public static final String X_AMZ_DECODED_CONTENT_LENGTH = "X-Amz-Decoded-Content-Length";
     public static final String X_AMZ_SDK_CHECKSUM_ALGORITHM = "X-Amz-Sdk-Checksum-Algorithm";
     public static final String X_AMZ_SECURITY_TOKEN = "X-Amz-Security-Token";
+    public static final String X_AMZ_TRAILER = "X-Amz-Trailer";
 
     private static final Set<String> NON_EMPTY_HEADERS =
         ImmutableSet.of(
@@ -1272,14 +1680,14 @@ public class Http {
     public void add(@Nonnull String name, @Nonnull String value) {
       name = validateName(name);
       value = validateValue(name, value);
-      headers.computeIfAbsent(name, k -> new HashSet<>()).add(value);
+      headers.computeIfAbsent(name, k -> new LinkedHashSet<>()).add(value);
     }
 
     /** Sets the specified name and value in this headers. */
     public void set(@Nonnull String name, @Nonnull String value) {
       name = validateName(name);
       value = validateValue(name, value);
-      headers.put(name, new HashSet<>(Collections.singletonList(value)));
+      headers.put(name, new LinkedHashSet<>(Collections.singletonList(value)));
     }
 
     /** Gets the first value of the specified name in this headers. */
@@ -1702,6 +2110,7 @@ public class Http {
     private Headers headers;
     private QueryParameters queryParams;
     private Body body;
+    private boolean statusRetry;
 
     private String bucket;
     private String region;
@@ -1714,6 +2123,7 @@ public class Http {
       this.headers = builder.headers;
       this.queryParams = builder.queryParams;
       this.body = builder.body;
+      this.statusRetry = builder.statusRetry;
 
       if (args != null) {
         this.headers = Headers.merge(args.extraHeaders(), builder.headers);
@@ -1759,6 +2169,11 @@ public class Http {
       return object;
     }
 
+    /** Returns whether {@link StatusRetryInterceptor} retries this request. */
+    public boolean statusRetry() {
+      return statusRetry;
+    }
+
     private Request toRequest(
         BaseUrl baseUrl, String region, Credentials credentials, Integer expiry)
         throws MinioException {
@@ -1781,24 +2196,47 @@ public class Http {
       }
 
       String sha256Hash = null;
+      ChunkedRequestBody signedBody = null;
       if (!body.isHttpRequestBody()) {
         if (credentials == null) {
-          if (body.md5Hash() == null) {
+          if (body.md5Hash() == null && body.trailingChecksum() == null) {
             throw new IllegalArgumentException("MD5 hash must be provided to request body");
           }
         } else if (!url.isHttps()) {
-          if (body.sha256Hash() == null) {
-            throw new IllegalArgumentException("SHA256 hash must be provided to request body");
+          // Payload with trailing checksum or marked for signed chunks is signed while written.
+          if (body.trailingChecksum() != null) {
+            sha256Hash = Checksum.STREAMING_AWS4_HMAC_SHA256_PAYLOAD_TRAILER;
+          } else if (body.sha256Hash() == null) {
+            if (!body.signedChunks()) {
+              throw new IllegalArgumentException("SHA256 hash must be provided to request body");
+            }
+            sha256Hash = Checksum.STREAMING_AWS4_HMAC_SHA256_PAYLOAD;
+          }
+          if (sha256Hash != null) {
+            signedBody =
+                new ChunkedRequestBody(body.toPayloadRequestBody(), body.trailingChecksum(), true);
           }
         } else if (body.sha256Hash() == null) {
           sha256Hash = Checksum.UNSIGNED_PAYLOAD;
         }
       }
 
-      okhttp3.RequestBody requestBody = body.toRequestBody();
+      okhttp3.RequestBody requestBody = signedBody != null ? signedBody : body.toRequestBody();
 
       Headers headers = Headers.merge(this.headers, body.headers());
-      if (sha256Hash != null) headers.put(Headers.X_AMZ_CONTENT_SHA256, sha256Hash);
+      if (sha256Hash != null) {
+        headers.remove(Headers.X_AMZ_CONTENT_SHA256);
+        headers.put(Headers.X_AMZ_CONTENT_SHA256, sha256Hash);
+      }
+      if (signedBody != null && body.trailingChecksum() == null) {
+        headers.put(Headers.X_AMZ_DECODED_CONTENT_LENGTH, String.valueOf(body.length()));
+      }
+      if (signedBody != null || body.trailingChecksum() != null) {
+        // aws-chunked comes first, followed by content encodings of the payload given by caller.
+        Set<String> encodings = headers.remove(Headers.CONTENT_ENCODING);
+        headers.put(Headers.CONTENT_ENCODING, "aws-chunked");
+        if (encodings != null) headers.put(Headers.CONTENT_ENCODING, encodings);
+      }
       if (credentials != null) {
         String sessionToken = credentials.sessionToken();
         if (sessionToken != null) headers.put(Headers.X_AMZ_SECURITY_TOKEN, sessionToken);
@@ -1824,14 +2262,17 @@ public class Http {
         headers.remove(Headers.CONTENT_TYPE);
       }
 
-      okhttp3.Request request =
+      okhttp3.Request.Builder requestBuilder =
           new okhttp3.Request.Builder()
               .url(url)
               .headers(headers.toHttpHeaders())
               .method(
                   method.toString(),
-                  (method == Method.PUT || method == Method.POST) ? requestBody : null)
-              .build();
+                  (method == Method.PUT || method == Method.POST) ? requestBody : null);
+      if (!statusRetry) {
+        requestBuilder.tag(StatusRetryInterceptor.NoRetry.class, StatusRetryInterceptor.NO_RETRY);
+      }
+      okhttp3.Request request = requestBuilder.build();
       if (!body.isHttpRequestBody()) {
         if (credentials != null) {
           if (expiry == null) {
@@ -1842,6 +2283,14 @@ public class Http {
                     credentials.accessKey(),
                     credentials.secretKey(),
                     sha256Hash != null ? sha256Hash : body.sha256Hash());
+            if (signedBody != null) {
+              String authorization = request.header(Headers.AUTHORIZATION);
+              signedBody.setSeedSignature(
+                  authorization.substring(authorization.lastIndexOf("Signature=") + 10),
+                  ZonedDateTime.parse(request.header(Headers.X_AMZ_DATE), Time.AMZ_DATE_FORMAT),
+                  region,
+                  credentials.secretKey());
+            }
           } else {
             okhttp3.HttpUrl signedUrl =
                 Signer.presignV4(
@@ -1876,6 +2325,7 @@ public class Http {
       private Headers headers;
       private QueryParameters queryParams;
       private Body body;
+      private boolean statusRetry = true;
 
       public Builder userAgent(String userAgent) {
         this.userAgent = Utils.validateNotNull(userAgent, "user agent");
@@ -1907,6 +2357,12 @@ public class Http {
         return this;
       }
 
+      /** Sets whether {@link StatusRetryInterceptor} retries the request; default is true. */
+      public Builder statusRetry(boolean statusRetry) {
+        this.statusRetry = statusRetry;
+        return this;
+      }
+
       public S3Request build() {
         if (userAgent == null) throw new IllegalArgumentException("user agent must be provided");
         if (method == null) throw new IllegalArgumentException("method must be provided");
@@ -24,6 +24,14 @@ public class ListPartsArgs extends ObjectArgs {
   private Integer maxParts;
   private Integer partNumberMarker;
 
+  protected ListPartsArgs() {}
+
+  public ListPartsArgs(PutObjectBaseArgs args, String uploadId, Integer partNumberMarker) {
+    super(args);
+    this.uploadId = uploadId;
+    this.partNumberMarker = partNumberMarker;
+  }
+
   public String uploadId() {
     return uploadId;
   }
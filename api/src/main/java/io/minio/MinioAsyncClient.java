@@ -33,6 +33,7 @@ import io.minio.errors.BucketPolicyTooLargeException;
 import io.minio.errors.ErrorResponseException;
 import io.minio.errors.InsufficientDataException;
 import io.minio.errors.MinioException;
+import io.minio.errors.ServerException;
 import io.minio.errors.XmlParserException;
 import io.minio.messages.AccessControlPolicy;
 import io.minio.messages.CORSConfiguration;
@@ -66,6 +67,7 @@ import java.io.OutputStream;
 import java.io.RandomAccessFile;
 import java.math.BigInteger;
 import java.net.URL;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -84,17 +86,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Scanner;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
 import okhttp3.HttpUrl;
 import okhttp3.MediaType;
 import okhttp3.MultipartBody;
@@ -157,6 +160,10 @@ public class MinioAsyncClient extends BaseS3Client {
     private Provider provider;
     private OkHttpClient httpClient;
     private boolean closeHttpClient;
+    private boolean defaultHttpClient;
+    private UploadScheduler uploadScheduler;
+    private boolean closeUploadScheduler;
+    private boolean streamingChecksum;
 
     public Builder baseUrl(Http.BaseUrl baseUrl) {
       if (baseUrl.region() == null) {
@@ -208,6 +215,7 @@ public class MinioAsyncClient extends BaseS3Client {
     public Builder httpClient(OkHttpClient httpClient) {
       Utils.validateNotNull(httpClient, "http client");
       this.httpClient = httpClient;
+      this.defaultHttpClient = false;
       return this;
     }
 
@@ -215,6 +223,49 @@ public class MinioAsyncClient extends BaseS3Client {
       Utils.validateNotNull(httpClient, "http client");
       this.httpClient = httpClient;
       this.closeHttpClient = close;
+      this.defaultHttpClient = false;
+      return this;
+    }
+
+    /**
+     * Sets maximum number of worker threads and part buffers of client-wide scheduler used by
+     * parallel multipart uploads.
+     */
+    public Builder uploadScheduler(int maxThreads, int maxBuffers) {
+      return uploadScheduler(new UploadScheduler(maxThreads, maxBuffers), true);
+    }
+
+    /**
+     * Sets maximum number of worker threads, part buffers and total bytes of part buffers of
+     * client-wide scheduler used by parallel multipart uploads. Once the budget is used up, a new
+     * upload waits for buffers, or fails if failFast is set.
+     */
+    public Builder uploadScheduler(
+        int maxThreads, int maxBuffers, long maxBufferBytes, boolean failFast) {
+      return uploadScheduler(
+          new UploadScheduler(maxThreads, maxBuffers, maxBufferBytes, failFast), true);
+    }
+
+    public Builder uploadScheduler(UploadScheduler uploadScheduler) {
+      Utils.validateNotNull(uploadScheduler, "upload scheduler");
+      this.uploadScheduler = uploadScheduler;
+      return this;
+    }
+
+    public Builder uploadScheduler(UploadScheduler uploadScheduler, boolean close) {
+      Utils.validateNotNull(uploadScheduler, "upload scheduler");
+      this.uploadScheduler = uploadScheduler;
+      this.closeUploadScheduler = close;
+      return this;
+    }
+
+    /**
+     * Sets whether streaming checksum is used. Upload payload is sent as aws-chunked encoded data,
+     * and its checksum is computed while it is written and sent in the trailer instead of reading
+     * the payload upfront.
+     */
+    public Builder streamingChecksum(boolean streamingChecksum) {
+      this.streamingChecksum = streamingChecksum;
       return this;
     }
 
@@ -230,10 +281,24 @@ public class MinioAsyncClient extends BaseS3Client {
 
       if (httpClient == null) {
         closeHttpClient = true;
+        defaultHttpClient = true;
         httpClient = Http.newDefaultClient();
       }
 
-      return new MinioAsyncClient(baseUrl, provider, httpClient, closeHttpClient);
+      if (uploadScheduler == null) {
+        closeUploadScheduler = true;
+        uploadScheduler = new UploadScheduler();
+      }
+
+      return new MinioAsyncClient(
+          baseUrl,
+          provider,
+          httpClient,
+          closeHttpClient,
+          defaultHttpClient,
+          streamingChecksum,
+          uploadScheduler,
+          closeUploadScheduler);
     }
   }
 
@@ -242,13 +307,142 @@ public class MinioAsyncClient extends BaseS3Client {
     return new Builder();
   }
 
+  /** Default maximum number of retries of a failed part of multipart upload. */
+  public static final int DEFAULT_PART_MAX_RETRIES = 3;
+  /** Default base delay in milliseconds between retries of a failed part. */
+  public static final long DEFAULT_PART_RETRY_DELAY_MS = 500;
+  /** Default maximum number of part retries of a multipart upload. */
+  public static final int DEFAULT_PART_RETRY_BUDGET = 100;
+
+  private static final int SNOWBALL_PIPE_SIZE = 1024 * 1024;
+  private static final AtomicInteger SNOWBALL_WRITER_COUNT = new AtomicInteger();
+  private static final int COMPRESSION_PARALLELISM = Runtime.getRuntime().availableProcessors();
+  private static final AtomicInteger COMPRESSION_EXECUTOR_COUNT = new AtomicInteger();
+
+  private static final ScheduledExecutorService PART_RETRY_TIMER =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "minio-part-retry");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  // Set if HTTP client is created by the builder, so that its request limits may be raised.
+  private final boolean defaultHttpClient;
+  protected UploadScheduler uploadScheduler;
+  protected boolean closeUploadScheduler;
+  protected volatile int partMaxRetries = DEFAULT_PART_MAX_RETRIES;
+  protected volatile long partRetryDelayMs = DEFAULT_PART_RETRY_DELAY_MS;
+  protected volatile int partRetryBudget = DEFAULT_PART_RETRY_BUDGET;
+  // Compresses blocks of snowball archives; created on first use and shared with derived clients.
+  private final CompressionExecutor compressionExecutor;
+  protected boolean closeCompressionExecutor;
+
   private MinioAsyncClient(
-      Http.BaseUrl baseUrl, Provider provider, OkHttpClient httpClient, boolean closeHttpClient) {
-    super(baseUrl, provider, httpClient, closeHttpClient);
+      Http.BaseUrl baseUrl,
+      Provider provider,
+      OkHttpClient httpClient,
+      boolean closeHttpClient,
+      boolean defaultHttpClient,
+      boolean streamingChecksum,
+      UploadScheduler uploadScheduler,
+      boolean closeUploadScheduler) {
+    super(baseUrl, provider, httpClient, closeHttpClient, streamingChecksum);
+    this.defaultHttpClient = defaultHttpClient;
+    this.uploadScheduler = uploadScheduler;
+    this.closeUploadScheduler = closeUploadScheduler;
+    this.compressionExecutor = new CompressionExecutor();
+    this.closeCompressionExecutor = true;
   }
 
   protected MinioAsyncClient(MinioAsyncClient client) {
     super(client);
+    this.defaultHttpClient = client.defaultHttpClient;
+    this.uploadScheduler = client.uploadScheduler;
+    this.closeUploadScheduler = client.closeUploadScheduler;
+    this.partMaxRetries = client.partMaxRetries;
+    this.partRetryDelayMs = client.partRetryDelayMs;
+    this.partRetryBudget = client.partRetryBudget;
+    // Compression executor is shut down only by the client created it.
+    this.compressionExecutor = client.compressionExecutor;
+    this.closeCompressionExecutor = false;
+  }
+
+  /** Executor of compression threads, which is created on first use. */
+  private static class CompressionExecutor {
+    private ExecutorService executor;
+    private boolean isShutdown = false;
+
+    private synchronized ExecutorService get() throws IOException {
+      if (isShutdown) throw new IOException("compression executor is shut down by closed client");
+      if (executor == null) {
+        final String prefix =
+            "minio-compression-" + COMPRESSION_EXECUTOR_COUNT.incrementAndGet() + "-";
+        final AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory =
+            runnable -> {
+              Thread thread = new Thread(runnable, prefix + threadCount.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            };
+        executor = Executors.newFixedThreadPool(COMPRESSION_PARALLELISM, threadFactory);
+      }
+      return executor;
+    }
+
+    private synchronized boolean isCreated() {
+      return executor != null;
+    }
+
+    private synchronized void shutdown() {
+      isShutdown = true;
+      if (executor != null) executor.shutdown();
+    }
+  }
+
+  /** Returns whether compression threads of this client are created. */
+  boolean isCompressionExecutorCreated() {
+    return compressionExecutor.isCreated();
+  }
+
+  /** Gets upload scheduler of this client to monitor its part buffer usage. */
+  public UploadScheduler uploadScheduler() {
+    return uploadScheduler;
+  }
+
+  /**
+   * Sets retry of failed parts of multipart uploads. A part failed by I/O error or retriable HTTP
+   * status is uploaded again from its buffer or file region up to maxRetries times after jittered
+   * exponential backoff of delayMs, and at most retryBudget parts are retried in an upload. Part
+   * retry is on by default with {@link #DEFAULT_PART_MAX_RETRIES} retries, {@link
+   * #DEFAULT_PART_RETRY_DELAY_MS} delay and {@link #DEFAULT_PART_RETRY_BUDGET} budget. While part
+   * retry is on, part requests are retried only by this setting, not by {@link #setRetry}. Zero
+   * maxRetries disables part retry, and part requests are then retried on retriable HTTP status as
+   * other requests are, see {@link #setRetry}.
+   *
+   * <pre>Example:{@code
+   * minioAsyncClient.setPartRetry(5, 1000, 50);
+   * }</pre>
+   *
+   * @param maxRetries Maximum number of retries of a part.
+   * @param delayMs Base delay between retries.
+   * @param retryBudget Maximum number of part retries of an upload.
+   */
+  public synchronized void setPartRetry(int maxRetries, long delayMs, int retryBudget) {
+    if (maxRetries < 0) throw new IllegalArgumentException("valid max retries must be provided");
+    if (delayMs < 0) throw new IllegalArgumentException("valid delay must be provided");
+    if (retryBudget < 0) throw new IllegalArgumentException("valid retry budget must be provided");
+    this.partMaxRetries = maxRetries;
+    this.partRetryDelayMs = delayMs;
+    this.partRetryBudget = retryBudget;
+  }
+
+  /** Closes underneath HTTP client, upload scheduler and compression threads. */
+  @Override
+  public void close() {
+    super.close();
+    if (closeUploadScheduler) uploadScheduler.close();
+    if (closeCompressionExecutor) compressionExecutor.shutdown();
   }
 
   /**
@@ -317,6 +511,11 @@ public class MinioAsyncClient extends BaseS3Client {
    * @see GetObjectResponse
    */
   public CompletableFuture<GetObjectResponse> getObject(GetObjectArgs args) {
+    return getObject(args, true);
+  }
+
+  /** Gets object; the request is not retried on retriable HTTP status if statusRetry is unset. */
+  private CompletableFuture<GetObjectResponse> getObject(GetObjectArgs args, boolean statusRetry) {
     checkArgs(args);
     args.validateSsec(this.baseUrl.isHttps());
     return executeGetAsync(
@@ -324,7 +523,8 @@ public class MinioAsyncClient extends BaseS3Client {
             args.makeHeaders(),
             (args.versionId() != null)
                 ? new Http.QueryParameters("versionId", args.versionId())
-                : null)
+                : null,
+            statusRetry)
         .thenApply(
             response -> {
               return new GetObjectResponse(
@@ -378,7 +578,302 @@ public class MinioAsyncClient extends BaseS3Client {
   }
 
   /**
-   * Downloads data of a SSE-C encrypted object to file.
+   * Writes data of ranged GET response at given position of the channel. If checkpoint is given,
+   * written data is forced to storage and recorded in it every checkpoint size and at the end.
+   */
+  private void writeRange(
+      GetObjectResponse response,
+      FileChannel channel,
+      long position,
+      long length,
+      DownloadCheckpoint checkpoint,
+      long checkpointSize)
+      throws MinioException {
+    try {
+      byte[] buf = new byte[16384];
+      long bytesWritten = 0;
+      long bytesRecorded = 0;
+      int n;
+      while ((n = response.read(buf)) >= 0) {
+        if (bytesWritten + n > length) break;
+        java.nio.ByteBuffer data = java.nio.ByteBuffer.wrap(buf, 0, n);
+        while (data.hasRemaining()) {
+          bytesWritten += channel.write(data, position + bytesWritten);
+        }
+        if (checkpoint != null && bytesWritten - bytesRecorded >= checkpointSize) {
+          channel.force(false);
+          checkpoint.add(position + bytesRecorded, bytesWritten - bytesRecorded);
+          bytesRecorded = bytesWritten;
+        }
+      }
+      if (n >= 0 || bytesWritten != length) {
+        throw new IOException(
+            "unexpected data of range at "
+                + position
+                + ".  expected = "
+                + length
+                + ", received = "
+                + (n >= 0 ? "more" : String.valueOf(bytesWritten)));
+      }
+      if (checkpoint != null && bytesWritten > bytesRecorded) {
+        channel.force(false);
+        checkpoint.add(position + bytesRecorded, bytesWritten - bytesRecorded);
+      }
+    } catch (IOException e) {
+      throw new MinioException(e);
+    } finally {
+      try {
+        response.close();
+      } catch (IOException e) {
+        throw new MinioException(e);
+      }
+    }
+  }
+
+  /**
+   * Gets full object checksum of the object to validate its download, or null if not available.
+   * Checksum of multipart object with "-<parts>" suffix is not of its data.
+   */
+  private static Map.Entry<Checksum.Algorithm, String> fullObjectChecksum(
+      HeadObjectResponse headObjectResponse) {
+    Map<Checksum.Algorithm, String> checksums = headObjectResponse.checksums();
+    if (checksums == null || headObjectResponse.checksumType() == Checksum.Type.COMPOSITE) {
+      return null;
+    }
+    for (Map.Entry<Checksum.Algorithm, String> entry : checksums.entrySet()) {
+      if (!entry.getValue().contains("-")) return entry;
+    }
+    return null;
+  }
+
+  /**
+   * Validates size of temporary file of downloaded object and renames it to the file. Resumed
+   * download is also validated against full object checksum of the object if available; temporary
+   * file is removed on checksum mismatch.
+   */
+  private void finishDownload(
+      DownloadObjectArgs args,
+      HeadObjectResponse headObjectResponse,
+      String tempFilename,
+      DownloadCheckpoint checkpoint,
+      boolean resumed)
+      throws MinioException {
+    Path tempFilePath = Paths.get(tempFilename);
+    try {
+      long size = Files.size(tempFilePath);
+      if (size != headObjectResponse.size()) {
+        throw new IOException(
+            tempFilename
+                + ": unexpected data written.  expected = "
+                + headObjectResponse.size()
+                + ", written = "
+                + size);
+      }
+
+      Map.Entry<Checksum.Algorithm, String> expected =
+          resumed ? fullObjectChecksum(headObjectResponse) : null;
+      if (expected != null) {
+        Map<Checksum.Algorithm, Checksum.Hasher> hashers =
+            Checksum.newHasherMap(new Checksum.Algorithm[] {expected.getKey()});
+        try (RandomAccessFile file = new RandomAccessFile(tempFilename, "r")) {
+          Checksum.update(hashers, file, size);
+        }
+        String checksum = Checksum.base64String(hashers.get(expected.getKey()).sum());
+        if (!checksum.equals(expected.getValue())) {
+          Files.delete(tempFilePath);
+          checkpoint.delete();
+          throw new IOException(
+              tempFilename
+                  + ": checksum mismatch of resumed download.  expected "
+                  + expected.getKey()
+                  + " = "
+                  + expected.getValue()
+                  + ", computed = "
+                  + checksum);
+        }
+      }
+
+      checkpoint.delete();
+      Path filePath = Paths.get(args.filename());
+      if (args.overwrite()) {
+        Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+      } else {
+        Files.move(tempFilePath, filePath);
+      }
+    } catch (IOException e) {
+      throw new MinioException(e);
+    }
+  }
+
+  /**
+   * Downloads object by a ranged GET from the end of data written to the temporary file by an
+   * interrupted download of the same ETag. Written data is recorded in {@link DownloadCheckpoint}
+   * every part size, and the temporary file is kept on failure to resume from.
+   */
+  private CompletableFuture<Void> resumeDownloadObject(
+      DownloadObjectArgs args, HeadObjectResponse headObjectResponse) {
+    String tempFilename =
+        args.filename() + "." + Utils.encode(headObjectResponse.etag()) + ".part.minio";
+    long size = headObjectResponse.size();
+    DownloadCheckpoint checkpoint = null;
+    long offset = 0;
+    FileChannel channel = null;
+    try {
+      checkpoint =
+          DownloadCheckpoint.load(
+              tempFilename, size, fullObjectChecksum(headObjectResponse) != null);
+      offset = checkpoint.writtenPrefix();
+      channel =
+          FileChannel.open(
+              Paths.get(tempFilename), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+      // Drop data after the end of written prefix, e.g. gaps of interrupted parallel download.
+      channel.truncate(offset);
+      checkpoint.truncate(offset);
+      if (offset == size) {
+        channel.close();
+        finishDownload(args, headObjectResponse, tempFilename, checkpoint, offset > 0);
+        return CompletableFuture.completedFuture(null);
+      }
+    } catch (IOException | MinioException e) {
+      try {
+        if (channel != null) channel.close();
+      } catch (IOException ex) {
+        e.addSuppressed(ex);
+      }
+      return Utils.failedFuture(e instanceof MinioException ? e : new MinioException(e));
+    }
+
+    final DownloadCheckpoint finalCheckpoint = checkpoint;
+    final long finalOffset = offset;
+    final FileChannel finalChannel = channel;
+    return getObject(new GetObjectArgs(args, headObjectResponse.etag(), offset, size - offset))
+        .thenAccept(
+            response -> {
+              try {
+                writeRange(
+                    response,
+                    finalChannel,
+                    finalOffset,
+                    size - finalOffset,
+                    finalCheckpoint,
+                    args.partSize());
+              } catch (MinioException e) {
+                throw new CompletionException(e);
+              }
+            })
+        .handle(
+            (nullValue, e) -> {
+              if (e instanceof CompletionException && e.getCause() != null) e = e.getCause();
+              try {
+                finalChannel.close();
+                if (e == null) {
+                  finishDownload(
+                      args, headObjectResponse, tempFilename, finalCheckpoint, finalOffset > 0);
+                }
+              } catch (IOException | MinioException ex) {
+                if (e == null) {
+                  throw new CompletionException(
+                      ex instanceof MinioException ? ex : new MinioException(ex));
+                }
+                e.addSuppressed(ex);
+              }
+              if (e != null) throw new CompletionException(e);
+              return null;
+            });
+  }
+
+  /**
+   * Downloads object by ranged GETs of part size with at most parallel downloads of them in flight.
+   * Each range is written at its offset of preallocated temporary file and recorded in {@link
+   * DownloadCheckpoint}, and the temporary file is renamed to the file once all ranges are written.
+   * On resume, only ranges missing in the temporary file are fetched; else the temporary file is
+   * removed on failure. A failed range is fetched again as a failed part is uploaded again, see
+   * {@link #setPartRetry}.
+   */
+  private CompletableFuture<Void> downloadObjectInParts(
+      DownloadObjectArgs args, HeadObjectResponse headObjectResponse) {
+    String tempFilename =
+        args.filename() + "." + Utils.encode(headObjectResponse.etag()) + ".part.minio";
+    Path tempFilePath = Paths.get(tempFilename);
+    long size = headObjectResponse.size();
+    DownloadCheckpoint checkpoint = null;
+    RandomAccessFile file = null;
+    try {
+      if (!args.resume()) Files.deleteIfExists(tempFilePath);
+      checkpoint =
+          DownloadCheckpoint.load(
+              tempFilename, size, fullObjectChecksum(headObjectResponse) != null);
+      checkpoint.save();
+      file = new RandomAccessFile(tempFilename, "rw");
+      file.setLength(size);
+    } catch (IOException | MinioException e) {
+      try {
+        if (file != null) file.close();
+      } catch (IOException ex) {
+        e.addSuppressed(ex);
+      }
+      return Utils.failedFuture(e instanceof MinioException ? e : new MinioException(e));
+    }
+
+    raiseRequestWindow(args.parallelDownloads());
+    final DownloadCheckpoint finalCheckpoint = checkpoint;
+    final boolean resumed = checkpoint.writtenBytes() > 0;
+    final List<long[]> ranges = checkpoint.missingRanges(args.partSize());
+    final RandomAccessFile finalFile = file;
+    FileChannel channel = file.getChannel();
+    AtomicInteger retryBudget = new AtomicInteger(partRetryBudget);
+    return BoundedTasks.run(
+            ranges.size(),
+            args.parallelDownloads(),
+            i -> {
+              long offset = ranges.get(i)[0];
+              long length = ranges.get(i)[1];
+              return retryPart(
+                  () ->
+                      getObject(
+                              new GetObjectArgs(args, headObjectResponse.etag(), offset, length),
+                              partMaxRetries == 0)
+                          .thenApply(
+                              response -> {
+                                try {
+                                  writeRange(
+                                      response, channel, offset, length, finalCheckpoint, length);
+                                } catch (MinioException e) {
+                                  throw new CompletionException(e);
+                                }
+                                return length;
+                              }),
+                  true,
+                  retryBudget,
+                  null,
+                  0);
+            })
+        .handle(
+            (lengths, e) -> {
+              if (e instanceof CompletionException && e.getCause() != null) e = e.getCause();
+              try {
+                finalFile.close();
+                if (e == null) {
+                  finishDownload(args, headObjectResponse, tempFilename, finalCheckpoint, resumed);
+                } else if (!args.resume()) {
+                  Files.deleteIfExists(tempFilePath);
+                  finalCheckpoint.delete();
+                }
+              } catch (IOException | MinioException ex) {
+                if (e == null) {
+                  throw new CompletionException(
+                      ex instanceof MinioException ? ex : new MinioException(ex));
+                }
+                e.addSuppressed(ex);
+              }
+              if (e != null) throw new CompletionException(e);
+              return null;
+            });
+  }
+
+  /**
+   * Downloads data of a SSE-C encrypted object to file. Download interrupted earlier can be resumed
+   * from its temporary file of the same ETag; see {@link DownloadObjectArgs.Builder#resume}.
    *
    * <pre>Example:{@code
    * CompletableFuture<Void> future = minioAsyncClient.downloadObject(
@@ -400,6 +895,15 @@ public class MinioAsyncClient extends BaseS3Client {
       throw new IllegalArgumentException("Destination file " + filename + " already exists");
     }
 
+    if (args.parallelDownloads() > 1 || args.resume()) {
+      return headObject(new HeadObjectArgs(args, args.resume()))
+          .thenCompose(
+              headObjectResponse ->
+                  args.parallelDownloads() > 1
+                      ? downloadObjectInParts(args, headObjectResponse)
+                      : resumeDownloadObject(args, headObjectResponse));
+    }
+
     return headObject(new HeadObjectArgs(args))
         .thenCombine(
             getObject(new GetObjectArgs(args)),
@@ -415,7 +919,9 @@ public class MinioAsyncClient extends BaseS3Client {
   }
 
   /**
-   * Creates an object by server-side copying data from another object.
+   * Creates an object by server-side copying data from another object. Source object larger than 5
+   * GiB is copied by parallel part copies of a multipart upload; see {@link
+   * CopyObjectArgs.Builder#partSize} and {@link CopyObjectArgs.Builder#parallelCopies}.
    *
    * <pre>Example:{@code
    * // Create object "my-objectname" in bucket "my-bucketname" by copying from object
@@ -527,63 +1033,175 @@ public class MinioAsyncClient extends BaseS3Client {
         args.source().objectSize() == null
             ? headObject(new HeadObjectArgs(args.source()))
             : CompletableFuture.completedFuture((HeadObjectResponse) null);
-    return future
-        .thenApply(
-            response ->
-                response == null
-                    ? args
-                    : new CopyObjectArgs(
-                        args, new SourceObject(args.source(), response.size(), response.etag())))
+    return future.thenCompose(
+        response -> {
+          CopyObjectArgs copyArgs =
+              response == null
+                  ? args
+                  : new CopyObjectArgs(
+                      args, new SourceObject(args.source(), response.size(), response.etag()));
+          if (copyArgs.source().offset() != null || copyArgs.source().length() != null) {
+            return composeObject(new ComposeObjectArgs(copyArgs));
+          }
+          if (copyArgs.source().objectSize() <= ObjectWriteArgs.MAX_PART_SIZE) {
+            return super.copyObject(copyArgs);
+          }
+          return copyObjectInParts(copyArgs, response);
+        });
+  }
+
+  /**
+   * Copies whole source larger than 5 GiB by parallel part copies of a multipart upload. As
+   * CopyObject does, content headers and user metadata, and tags of the source are kept unless
+   * directives replace them. Source stat is fetched only if it was not fetched by the caller.
+   */
+  private CompletableFuture<ObjectWriteResponse> copyObjectInParts(
+      CopyObjectArgs args, HeadObjectResponse sourceStat) {
+    boolean copyMetadata = args.metadataDirective() != Directive.REPLACE;
+    boolean copyTags = args.taggingDirective() != Directive.REPLACE;
+    CompletableFuture<HeadObjectResponse> statFuture =
+        sourceStat == null && (copyMetadata || copyTags)
+            ? headObject(new HeadObjectArgs(args.source()))
+            : CompletableFuture.completedFuture(sourceStat);
+    return statFuture
         .thenCompose(
-            copyArgs -> {
-              long size = copyArgs.source().objectSize();
-              if (size < ObjectWriteArgs.MAX_PART_SIZE
-                  && copyArgs.source().offset() == null
-                  && copyArgs.source().length() == null) {
-                return super.copyObject(copyArgs);
+            stat -> {
+              String tagCount = stat == null ? null : stat.headers().get("x-amz-tagging-count");
+              CompletableFuture<Tags> tagsFuture =
+                  CompletableFuture.completedFuture(copyTags ? new Tags() : null);
+              if (copyTags && tagCount != null && !tagCount.equals("0")) {
+                tagsFuture =
+                    getObjectTags(
+                        GetObjectTagsArgs.builder()
+                            .bucket(args.source().bucket())
+                            .region(args.source().region())
+                            .object(args.source().object())
+                            .versionId(args.source().versionId())
+                            .build());
               }
+              return tagsFuture.thenApply(
+                  tags -> new ComposeObjectArgs(args, copyMetadata ? stat : null, tags));
+            })
+        .thenCompose(
+            composeArgs ->
+                calculatePartCount(
+                        composeArgs.sources(), composeArgs.partSize(), composeArgs.parallelCopies())
+                    .thenCompose(partCount -> composeObject(composeArgs, partCount)));
+  }
 
-              if (size > ObjectWriteArgs.MAX_PART_SIZE) {
-                if (copyArgs.metadataDirective() == Directive.COPY) {
-                  throw new IllegalArgumentException(
-                      "COPY metadata directive is not applicable to source object size greater"
-                          + " than 5 GiB");
+  /**
+   * Runs given number of tasks with at most parallelism of them in flight, and completes with their
+   * results in task order. Once a task fails, no more tasks are started and the failure is reported
+   * after the tasks in flight are done.
+   */
+  private static class BoundedTasks<T> {
+    private final int count;
+    private final int parallelism;
+    private final IntFunction<CompletableFuture<T>> task;
+    private final List<T> results;
+    private final CompletableFuture<List<T>> future = new CompletableFuture<>();
+    private int next = 0;
+    private int inFlight = 0;
+    private Throwable exception = null;
+    private boolean done = false;
+
+    private BoundedTasks(int count, int parallelism, IntFunction<CompletableFuture<T>> task) {
+      this.count = count;
+      this.parallelism = parallelism;
+      this.task = task;
+      this.results = new ArrayList<>(Collections.<T>nCopies(count, null));
+    }
+
+    private static <T> CompletableFuture<List<T>> run(
+        int count, int parallelism, IntFunction<CompletableFuture<T>> task) {
+      BoundedTasks<T> tasks = new BoundedTasks<>(count, parallelism, task);
+      tasks.startNext();
+      return tasks.future;
+    }
+
+    private void startNext() {
+      Throwable failure = null;
+      while (true) {
+        int index;
+        synchronized (this) {
+          if (exception != null || next == count) {
+            if (inFlight > 0 || done) return;
+            done = true;
+            failure = exception;
+            break;
+          }
+          if (inFlight >= parallelism) return;
+          index = next++;
+          inFlight++;
+        }
+
+        CompletableFuture<T> taskFuture = null;
+        try {
+          taskFuture = task.apply(index);
+        } catch (RuntimeException e) {
+          taskFuture = Utils.failedFuture(e);
+        }
+        taskFuture.whenComplete(
+            (result, e) -> {
+              synchronized (this) {
+                inFlight--;
+                if (e != null) {
+                  if (e instanceof CompletionException && e.getCause() != null) e = e.getCause();
+                  if (exception == null) exception = e;
+                } else {
+                  results.set(index, result);
                 }
               }
-              if (copyArgs.taggingDirective() == Directive.COPY) {
-                throw new IllegalArgumentException(
-                    "COPY tagging directive is not applicable to source object size greater than"
-                        + " 5 GiB");
-              }
-
-              return composeObject(new ComposeObjectArgs(copyArgs));
+              startNext();
             });
+      }
+
+      if (failure != null) {
+        future.completeExceptionally(failure);
+      } else {
+        future.complete(results);
+      }
+    }
   }
 
   /** Calculates part count for given list of {@link SourceObject}. */
   protected CompletableFuture<Integer> calculatePartCount(List<SourceObject> sources) {
-    long[] objectSize = {0};
-
-    CompletableFuture<Integer> completableFuture = supplyAsync(() -> 0);
-
-    int sourceSize = sources.size();
-    for (int i = 0; i < sourceSize; i++) {
-      final int index = i;
-      final boolean interimPart = sourceSize != 1 && sourceSize != (i + 1);
-
-      CompletableFuture<HeadObjectResponse> future =
-          sources.get(index).objectSize() == null
-              ? headObject(new HeadObjectArgs(sources.get(index)))
-              : CompletableFuture.completedFuture((HeadObjectResponse) null);
-      completableFuture =
-          completableFuture.thenCombine(
-              future,
-              (partCount, response) -> {
-                SourceObject source = sources.get(index);
-                if (response != null) {
-                  source = new SourceObject(source, response.size(), response.etag());
-                  sources.set(index, source);
-                }
+    return calculatePartCount(
+        sources, ObjectWriteArgs.MAX_PART_SIZE, ComposeObjectArgs.DEFAULT_PARALLEL_COPIES);
+  }
+
+  /**
+   * Calculates part count for given list of {@link SourceObject} split into parts of given size.
+   * Sources of unknown size are fetched by HEAD requests with at most parallelism of them in
+   * flight.
+   */
+  protected CompletableFuture<Integer> calculatePartCount(
+      List<SourceObject> sources, long partSize, int parallelism) {
+    raiseRequestWindow(parallelism);
+    List<Integer> indices = new ArrayList<>();
+    for (int i = 0; i < sources.size(); i++) {
+      if (sources.get(i).objectSize() == null) indices.add(i);
+    }
+
+    return BoundedTasks.run(
+            indices.size(),
+            parallelism,
+            i -> headObject(new HeadObjectArgs(sources.get(indices.get(i)))))
+        .thenApply(
+            responses -> {
+              for (int i = 0; i < indices.size(); i++) {
+                int index = indices.get(i);
+                HeadObjectResponse response = responses.get(i);
+                sources.set(
+                    index, new SourceObject(sources.get(index), response.size(), response.etag()));
+              }
+
+              long objectSize = 0;
+              int partCount = 0;
+              int sourceSize = sources.size();
+              for (int i = 0; i < sourceSize; i++) {
+                SourceObject source = sources.get(i);
+                boolean interimPart = sourceSize != 1 && sourceSize != (i + 1);
 
                 List<String> keys =
                     new ArrayList<>(
@@ -622,20 +1240,20 @@ public class MinioAsyncClient extends BaseS3Client {
                           + ObjectWriteArgs.MIN_MULTIPART_SIZE);
                 }
 
-                objectSize[0] += size;
-                if (objectSize[0] > ObjectWriteArgs.MAX_OBJECT_SIZE) {
+                objectSize += size;
+                if (objectSize > ObjectWriteArgs.MAX_OBJECT_SIZE) {
                   throw new IllegalArgumentException(
                       "source objects yield destination object size greater than "
                           + ObjectWriteArgs.MAX_OBJECT_SIZE);
                 }
 
-                if (size > ObjectWriteArgs.MAX_PART_SIZE) {
-                  long count = size / ObjectWriteArgs.MAX_PART_SIZE;
-                  long lastPartSize = size - (count * ObjectWriteArgs.MAX_PART_SIZE);
+                if (size > partSize) {
+                  long count = size / partSize;
+                  long lastPartSize = size - (count * partSize);
                   if (lastPartSize > 0) {
                     count++;
                   } else {
-                    lastPartSize = ObjectWriteArgs.MAX_PART_SIZE;
+                    lastPartSize = partSize;
                   }
 
                   if (lastPartSize < ObjectWriteArgs.MIN_MULTIPART_SIZE && interimPart) {
@@ -659,11 +1277,9 @@ public class MinioAsyncClient extends BaseS3Client {
                           + " more than allowed multipart count "
                           + ObjectWriteArgs.MAX_MULTIPART_COUNT);
                 }
-                return partCount;
-              });
-    }
-
-    return completableFuture;
+              }
+              return partCount;
+            });
   }
 
   private CompletableFuture<Part[]> uploadParts(
@@ -673,8 +1289,8 @@ public class MinioAsyncClient extends BaseS3Client {
             ? args.sse().headers()
             : null;
 
+    List<UploadPartCopyArgs> partArgsList = new ArrayList<>(partCount);
     int partNumber = 0;
-    CompletableFuture<Part[]> future = supplyAsync(() -> new Part[partCount]);
     for (SourceObject source : args.sources()) {
       long size = source.objectSize();
       if (source.length() != null) {
@@ -692,7 +1308,7 @@ public class MinioAsyncClient extends BaseS3Client {
       }
       final Http.Headers headers = Http.Headers.merge(sourceHeaders, ssecHeaders);
 
-      if (size <= ObjectWriteArgs.MAX_PART_SIZE) {
+      if (size <= args.partSize()) {
         partNumber++;
         if (source.length() != null) {
           headers.put(
@@ -703,21 +1319,14 @@ public class MinioAsyncClient extends BaseS3Client {
               Http.Headers.X_AMZ_COPY_SOURCE_RANGE, "bytes=" + offset + "-" + (offset + size - 1));
         }
 
-        final int finalPartNumber = partNumber;
-        future =
-            future.thenCombine(
-                uploadPartCopy(new UploadPartCopyArgs(args, uploadId, finalPartNumber, headers)),
-                (parts, response) -> {
-                  parts[response.partNumber() - 1] = response.part();
-                  return parts;
-                });
+        partArgsList.add(new UploadPartCopyArgs(args, uploadId, partNumber, headers));
         continue;
       }
 
       while (size > 0) {
         partNumber++;
 
-        long length = Math.min(size, ObjectWriteArgs.MAX_PART_SIZE);
+        long length = Math.min(size, args.partSize());
         long endBytes = offset + length - 1;
 
         Http.Headers finalHeaders =
@@ -725,20 +1334,25 @@ public class MinioAsyncClient extends BaseS3Client {
                 Http.Headers.X_AMZ_COPY_SOURCE_RANGE, "bytes=" + offset + "-" + endBytes);
         finalHeaders.putAll(headers);
 
-        final int finalPartNumber = partNumber;
-        future =
-            future.thenCombine(
-                uploadPartCopy(new UploadPartCopyArgs(args, uploadId, finalPartNumber, headers)),
-                (parts, response) -> {
-                  parts[response.partNumber() - 1] = response.part();
-                  return parts;
-                });
+        partArgsList.add(new UploadPartCopyArgs(args, uploadId, partNumber, finalHeaders));
         offset += length;
         size -= length;
       }
     }
 
-    return future;
+    AtomicInteger retryBudget = new AtomicInteger(partRetryBudget);
+    return BoundedTasks.run(
+            partArgsList.size(),
+            args.parallelCopies(),
+            i -> uploadPartCopy(partArgsList.get(i), retryBudget))
+        .thenApply(
+            responses -> {
+              Part[] parts = new Part[partCount];
+              for (UploadPartCopyResponse response : responses) {
+                parts[response.partNumber() - 1] = response.part();
+              }
+              return parts;
+            });
   }
 
   private CompletableFuture<ObjectWriteResponse> composeObject(
@@ -819,7 +1433,7 @@ public class MinioAsyncClient extends BaseS3Client {
     checkArgs(args);
     args.validateSse(this.baseUrl.isHttps());
 
-    return calculatePartCount(args.sources())
+    return calculatePartCount(args.sources(), args.partSize(), args.parallelCopies())
         .thenCompose(
             partCount -> {
               if (partCount == 1
@@ -1789,6 +2403,99 @@ public class MinioAsyncClient extends BaseS3Client {
         .thenAccept(response -> regionCache.remove(args.bucket()));
   }
 
+  private static boolean isRetriablePartError(Throwable e) {
+    if (e instanceof IOException) return true;
+    if (e instanceof ServerException) {
+      return Http.RETRIABLE_STATUS_CODES.contains(((ServerException) e).statusCode());
+    }
+    if (e instanceof ErrorResponseException) {
+      Response response = ((ErrorResponseException) e).response();
+      return response != null && Http.RETRIABLE_STATUS_CODES.contains(response.code());
+    }
+    return e instanceof MinioException && e.getCause() instanceof IOException;
+  }
+
+  /**
+   * Uploads a part, and uploads it again from its buffer or file region if it fails by I/O error or
+   * retriable HTTP status, as long as retry budget of the upload is left.
+   */
+  private CompletableFuture<UploadPartResponse> uploadPart(
+      UploadPartArgs partArgs,
+      AtomicInteger retryBudget,
+      Consumer<Throwable> onFailure,
+      int retry) {
+    // Stream part cannot be replayed.
+    return retryPart(
+        () -> uploadPart(partArgs, partMaxRetries == 0),
+        partArgs.stream() == null,
+        retryBudget,
+        onFailure,
+        retry);
+  }
+
+  /** Copies a part, and copies it again if it fails by I/O error or retriable HTTP status. */
+  private CompletableFuture<UploadPartCopyResponse> uploadPartCopy(
+      UploadPartCopyArgs partArgs, AtomicInteger retryBudget) {
+    return retryPart(
+        () -> uploadPartCopy(partArgs, partMaxRetries == 0), true, retryBudget, null, 0);
+  }
+
+  /**
+   * Runs a part request, and runs it again after jittered exponential backoff if it fails by I/O
+   * error or retriable HTTP status, as long as retry budget of the upload is left. Each failure is
+   * passed to onFailure before it is decided to retry the request.
+   */
+  private <T> CompletableFuture<T> retryPart(
+      Supplier<CompletableFuture<T>> request,
+      boolean replayable,
+      AtomicInteger retryBudget,
+      Consumer<Throwable> onFailure,
+      int retry) {
+    CompletableFuture<T> future = null;
+    try {
+      future = request.get();
+    } catch (RuntimeException e) {
+      future = Utils.failedFuture(e);
+    }
+
+    return future
+        .handle(
+            (response, e) -> {
+              if (e == null) return CompletableFuture.completedFuture(response);
+              if (e instanceof CompletionException && e.getCause() != null) e = e.getCause();
+              if (onFailure != null) onFailure.accept(e);
+              if (retry >= partMaxRetries
+                  || !replayable
+                  || !isRetriablePartError(e)
+                  || retryBudget.getAndDecrement() <= 0) {
+                return Utils.<T>failedFuture(e);
+              }
+
+              CompletableFuture<T> retried = new CompletableFuture<>();
+              long maxBackoffLimit = Math.max(1, partRetryDelayMs * (1L << (retry + 1)));
+              long jitteredDelay = ThreadLocalRandom.current().nextLong(0, maxBackoffLimit);
+              PART_RETRY_TIMER.schedule(
+                  () ->
+                      retryPart(request, replayable, retryBudget, onFailure, retry + 1)
+                          .whenComplete(
+                              (result, ex) -> {
+                                if (ex != null) {
+                                  retried.completeExceptionally(ex);
+                                } else {
+                                  retried.complete(result);
+                                }
+                              }),
+                  jitteredDelay,
+                  TimeUnit.MILLISECONDS);
+              return retried;
+            })
+        .thenCompose(f -> f);
+  }
+
+  /**
+   * Uploads parts one after another. If a spare buffer is available from {@link UploadScheduler},
+   * next part is read and hashed into it while current part is uploaded.
+   */
   private CompletableFuture<List<UploadPartResponse>> uploadPartsSequentially(
       PutObjectBaseArgs args,
       String uploadId,
@@ -1796,145 +2503,700 @@ public class MinioAsyncClient extends BaseS3Client {
       boolean addContentSha256,
       boolean addSha256Checksum,
       ByteBuffer buffer,
-      long partSize,
+      long partSize) {
+    ByteBuffer spare = null;
+    if (partReader.partNumber() != partReader.partCount()) {
+      spare = uploadScheduler.tryTakeBuffer(partSize);
+    }
+    final ByteBuffer finalSpare = spare;
+    return uploadPartsSequentially(
+            args,
+            uploadId,
+            partReader,
+            addContentSha256,
+            addSha256Checksum,
+            buffer,
+            spare,
+            uploadScheduler.newSession(),
+            new AtomicInteger(partRetryBudget),
+            new ArrayList<UploadPartResponse>())
+        .whenComplete((responses, e) -> releaseBuffer(finalSpare));
+  }
+
+  private CompletableFuture<List<UploadPartResponse>> uploadPartsSequentially(
+      PutObjectBaseArgs args,
+      String uploadId,
+      PartReader partReader,
+      boolean addContentSha256,
+      boolean addSha256Checksum,
+      ByteBuffer buffer,
+      ByteBuffer spare,
+      UploadScheduler.Session session,
+      AtomicInteger retryBudget,
       List<UploadPartResponse> responses) {
-    return supplyAsync(
-            () ->
-                new UploadPartArgs(
-                    args,
-                    uploadId,
-                    partReader.partNumber(),
-                    buffer,
-                    Checksum.makeHeaders(
-                        partReader.hashers(), addContentSha256, addSha256Checksum)))
-        .thenCompose(partArgs -> uploadPart(partArgs))
+    boolean lastPart = partReader.partNumber() == partReader.partCount();
+    CompletableFuture<UploadPartResponse> uploadFuture = null;
+    try {
+      uploadFuture =
+          uploadPart(
+              new UploadPartArgs(
+                  args,
+                  uploadId,
+                  partReader.partNumber(),
+                  buffer,
+                  checksumHeaders(args, partReader.hashers(), addContentSha256, addSha256Checksum)),
+              retryBudget,
+              null,
+              0);
+    } catch (RuntimeException e) {
+      return Utils.failedFuture(e);
+    }
+
+    if (lastPart) {
+      return uploadFuture.thenApply(
+          response -> {
+            responses.add(response);
+            return responses;
+          });
+    }
+
+    if (spare == null) {
+      // Next part is read on upload scheduler than on HTTP callback thread.
+      return uploadFuture.thenComposeAsync(
+          response -> {
+            responses.add(response);
+            try {
+              buffer.reset();
+              partReader.read(buffer);
+            } catch (MinioException e) {
+              return Utils.failedFuture(e);
+            }
+            return uploadPartsSequentially(
+                args,
+                uploadId,
+                partReader,
+                addContentSha256,
+                addSha256Checksum,
+                buffer,
+                null,
+                session,
+                retryBudget,
+                responses);
+          },
+          task -> uploadScheduler.execute(session, task));
+    }
+
+    // Read next part into spare buffer while current part is uploaded.
+    CompletableFuture<Void> readFuture = new CompletableFuture<>();
+    uploadScheduler.execute(
+        session,
+        () -> {
+          try {
+            spare.reset();
+            partReader.read(spare);
+            readFuture.complete(null);
+          } catch (MinioException | RuntimeException e) {
+            readFuture.completeExceptionally(e);
+          }
+        });
+
+    // Wait for both so that neither buffer is in use when this fails.
+    final CompletableFuture<UploadPartResponse> finalUploadFuture = uploadFuture;
+    return CompletableFuture.allOf(uploadFuture, readFuture)
         .thenCompose(
-            response -> {
-              responses.add(response);
-              try {
-                buffer.reset();
-                if (partReader.partNumber() == partReader.partCount()) {
-                  return CompletableFuture.completedFuture(responses);
-                }
-                partReader.read(buffer);
-              } catch (MinioException e) {
-                return Utils.failedFuture(e);
-              }
+            v -> {
+              responses.add(finalUploadFuture.join());
               return uploadPartsSequentially(
                   args,
                   uploadId,
                   partReader,
                   addContentSha256,
                   addSha256Checksum,
+                  spare,
                   buffer,
-                  partSize,
+                  session,
+                  retryBudget,
                   responses);
             });
   }
 
+  /**
+   * Uploads parts one after another directly from the stream. Each part is read while it is sent,
+   * and its checksum is sent in the trailer.
+   */
+  private CompletableFuture<List<UploadPartResponse>> uploadStreamParts(
+      PutObjectBaseArgs args,
+      String uploadId,
+      InputStream stream,
+      int partNumber,
+      List<UploadPartResponse> responses) {
+    long offset = (partNumber - 1) * args.partSize();
+    long length = Math.min(args.partSize(), args.objectSize() - offset);
+    return uploadPart(
+            new UploadPartArgs(
+                args,
+                uploadId,
+                partNumber,
+                stream,
+                length,
+                checksumHeaders(args, null, false, false)))
+        .thenCompose(
+            response -> {
+              responses.add(response);
+              if (partNumber == args.partCount()) {
+                return CompletableFuture.completedFuture(responses);
+              }
+              return uploadStreamParts(args, uploadId, stream, partNumber + 1, responses);
+            });
+  }
+
+  /**
+   * Uploads parts in parallel using {@link UploadScheduler} of this client. Parts of a stream are
+   * copied by {@link PartReader} one after another on scheduler threads, and are hashed
+   * concurrently by up to parallelUploads scheduler threads. Parts of a file are uploaded as
+   * regions of the file without copying them into buffers, and are hashed by positional reads
+   * concurrently. A window of at most parallelUploads asynchronous part uploads is kept in flight
+   * without any thread waiting on HTTP I/O.
+   */
+  private class ParallelPartUploader {
+    private final PutObjectBaseArgs args;
+    private final String uploadId;
+    private final PartReader partReader;
+    private final RandomAccessFile file;
+    private final long filePosition;
+    private final Checksum.Algorithm[] algorithms;
+    private final boolean addContentSha256;
+    private final boolean addSha256Checksum;
+    private final long partSize;
+    private final int parallelUploads;
+    private final UploadCheckpoint checkpoint;
+    private final UploadScheduler.Session session;
+    private final UploadScheduler.Session hashSession;
+    private final UploadScheduler.Session checkpointSession;
+    private final AtomicInteger retryBudget = new AtomicInteger(partRetryBudget);
+    private final AdaptiveUploadWindow window;
+    private final CompletableFuture<List<UploadPartResponse>> future = new CompletableFuture<>();
+
+    // Guarded by this.
+    private final List<UploadPartResponse> responses = new ArrayList<>();
+    private final List<Throwable> exceptions = new ArrayList<>();
+    private int inFlight = 0;
+    private int reading = 0;
+    private int hashing = 0;
+    private int saving = 0;
+    private boolean savePending = false;
+    private int nextPartNumber = 1;
+    private boolean completed = false;
+
+    private ParallelPartUploader(
+        PutObjectBaseArgs args,
+        String uploadId,
+        PartReader partReader,
+        RandomAccessFile file,
+        long filePosition,
+        Checksum.Algorithm[] algorithms,
+        boolean addContentSha256,
+        boolean addSha256Checksum,
+        long partSize,
+        int parallelUploads,
+        UploadCheckpoint checkpoint) {
+      this.args = args;
+      this.uploadId = uploadId;
+      this.partReader = partReader;
+      this.file = file;
+      this.filePosition = filePosition;
+      this.algorithms = algorithms;
+      this.addContentSha256 = addContentSha256;
+      this.addSha256Checksum = addSha256Checksum;
+      this.partSize = partSize;
+      this.parallelUploads = parallelUploads;
+      this.checkpoint = checkpoint;
+      this.session = uploadScheduler.newSession(file != null ? parallelUploads : 1);
+      this.hashSession = file != null ? null : uploadScheduler.newSession(parallelUploads);
+      this.checkpointSession = checkpoint != null ? uploadScheduler.newSession(1) : null;
+      if (args.adaptiveUploads()) {
+        // Part size grows only for stream of unknown size, within buffer budget of all parts.
+        long maxPartSize = partSize;
+        if (partReader != null && partReader.partCount() < 0) {
+          maxPartSize =
+              AdaptiveUploadWindow.maxPartSize(uploadScheduler.maxBufferBytes(), parallelUploads);
+        }
+        this.window = new AdaptiveUploadWindow(parallelUploads, partSize, maxPartSize);
+      } else {
+        this.window = null;
+      }
+    }
+
+    // Must be called with lock held.
+    private int windowSize() {
+      return window != null ? window.window() : parallelUploads;
+    }
+
+    private CompletableFuture<List<UploadPartResponse>> upload(ByteBuffer buffer) {
+      if (buffer != null) {
+        final int partNumber = partReader.partNumber();
+        synchronized (this) {
+          hashing++;
+        }
+        uploadScheduler.execute(hashSession, () -> hash(buffer, partNumber));
+      }
+      readNext();
+      return future;
+    }
+
+    private synchronized boolean isFailed() {
+      return !exceptions.isEmpty();
+    }
+
+    // Must be called with lock held.
+    private boolean isFullyRead() {
+      if (file != null) return nextPartNumber > args.partCount();
+      return partReader.partNumber() == partReader.partCount();
+    }
+
+    private void readNext() {
+      if (file != null) {
+        readNextRegions();
+        return;
+      }
+
+      synchronized (this) {
+        if (reading > 0
+            || inFlight + hashing >= windowSize()
+            || !exceptions.isEmpty()
+            || isFullyRead()) {
+          return;
+        }
+        reading++;
+      }
+      long size = window != null && partReader.partCount() < 0 ? window.partSize() : partSize;
+      uploadScheduler.takeBuffer(
+          size, buffer -> uploadScheduler.execute(session, () -> read(buffer, size)));
+    }
+
+    private void readNextRegions() {
+      while (true) {
+        int partNumber = 0;
+        synchronized (this) {
+          while (checkpoint != null
+              && nextPartNumber <= args.partCount()
+              && checkpoint.hasPart(nextPartNumber)) {
+            nextPartNumber++;
+          }
+          if (inFlight + reading < windowSize() && exceptions.isEmpty() && !isFullyRead()) {
+            reading++;
+            partNumber = nextPartNumber++;
+          }
+        }
+        if (partNumber == 0) {
+          // Nothing to upload is left when checkpoint already has all parts, e.g. upload was
+          // interrupted before completing multipart upload.
+          complete();
+          return;
+        }
+        final int finalPartNumber = partNumber;
+        uploadScheduler.execute(session, () -> readRegion(finalPartNumber));
+      }
+    }
+
+    private void read(ByteBuffer buffer, long size) {
+      int partNumber = 0;
+      Throwable error = null;
+      if (!isFailed()) {
+        try {
+          if (size != partSize) partReader.setPartSize(size);
+          partReader.read(buffer);
+          partNumber = partReader.partNumber();
+        } catch (MinioException | RuntimeException e) {
+          error = e;
+        }
+      }
+
+      synchronized (this) {
+        reading--;
+        if (error != null) exceptions.add(error);
+        if (partNumber > 0) hashing++;
+      }
+
+      if (partNumber == 0) {
+        uploadScheduler.putBuffer(buffer);
+        complete();
+        return;
+      }
+
+      // Next part is read while this part is hashed by another thread.
+      final int finalPartNumber = partNumber;
+      uploadScheduler.execute(hashSession, () -> hash(buffer, finalPartNumber));
+      readNext();
+    }
+
+    private void hash(ByteBuffer buffer, int partNumber) {
+      UploadPartArgs partArgs = null;
+      Throwable error = null;
+      if (!isFailed()) {
+        try {
+          Map<Checksum.Algorithm, Checksum.Hasher> hashers = Checksum.newHasherMap(algorithms);
+          Checksum.update(hashers, buffer);
+          partArgs =
+              new UploadPartArgs(
+                  args,
+                  uploadId,
+                  partNumber,
+                  buffer,
+                  checksumHeaders(args, hashers, addContentSha256, addSha256Checksum));
+        } catch (MinioException | RuntimeException e) {
+          error = e;
+        }
+      }
+
+      synchronized (this) {
+        hashing--;
+        if (error != null) exceptions.add(error);
+        if (partArgs != null) inFlight++;
+      }
+
+      if (partArgs == null) {
+        uploadScheduler.putBuffer(buffer);
+        complete();
+        return;
+      }
+
+      send(partArgs);
+      readNext();
+    }
+
+    private void readRegion(int partNumber) {
+      UploadPartArgs partArgs = null;
+      Throwable error = null;
+      if (!isFailed()) {
+        long position = filePosition + (partNumber - 1) * partSize;
+        long length =
+            partNumber == args.partCount()
+                ? args.objectSize() - (partNumber - 1) * partSize
+                : partSize;
+        try {
+          Map<Checksum.Algorithm, Checksum.Hasher> hashers = Checksum.newHasherMap(algorithms);
+          Checksum.update(hashers, file, position, length);
+          partArgs =
+              new UploadPartArgs(
+                  args,
+                  uploadId,
+                  partNumber,
+                  file,
+                  position,
+                  length,
+                  checksumHeaders(args, hashers, addContentSha256, addSha256Checksum));
+        } catch (MinioException | RuntimeException e) {
+          error = e;
+        }
+      }
+
+      if (!onRead(partArgs, error)) return;
+
+      send(partArgs);
+      readNext();
+    }
+
+    private boolean onRead(UploadPartArgs partArgs, Throwable error) {
+      synchronized (this) {
+        reading--;
+        if (error != null) exceptions.add(error);
+        if (partArgs != null) inFlight++;
+      }
+
+      if (partArgs == null) complete();
+      return partArgs != null;
+    }
+
+    private void send(UploadPartArgs partArgs) {
+      CompletableFuture<UploadPartResponse> uploadFuture = null;
+      long startNanos = System.nanoTime();
+      try {
+        uploadFuture = uploadPart(partArgs, retryBudget, this::onPartFailure, 0);
+      } catch (RuntimeException e) {
+        uploadFuture = Utils.failedFuture(e);
+      }
+      uploadFuture.whenComplete(
+          (response, e) -> {
+            if (window != null && response != null && response.partSize() != null) {
+              window.onUploaded(response.partSize(), System.nanoTime() - startNanos);
+            }
+            onUploaded(partArgs, response, e);
+          });
+    }
+
+    private void onPartFailure(Throwable e) {
+      if (window != null) window.onPartFailure(e);
+    }
+
+    private void onUploaded(UploadPartArgs partArgs, UploadPartResponse response, Throwable error) {
+      if (error instanceof CompletionException && error.getCause() != null) {
+        error = error.getCause();
+      }
+      if (partArgs.buffer() != null) uploadScheduler.putBuffer(partArgs.buffer());
+      if (checkpoint != null && response != null) {
+        checkpoint.add(response);
+        saveCheckpoint();
+      }
+
+      synchronized (this) {
+        inFlight--;
+        if (error != null) exceptions.add(error);
+        if (response != null) responses.add(response);
+      }
+
+      readNext();
+      complete();
+    }
+
+    /**
+     * Saves parts added to checkpoint on upload scheduler than on HTTP callback thread. Parts added
+     * while a save is queued are saved by it.
+     */
+    private void saveCheckpoint() {
+      synchronized (this) {
+        if (savePending) return;
+        savePending = true;
+        saving++;
+      }
+      uploadScheduler.execute(
+          checkpointSession,
+          () -> {
+            synchronized (this) {
+              savePending = false;
+            }
+            Throwable error = null;
+            try {
+              checkpoint.saveAddedParts();
+            } catch (MinioException | RuntimeException e) {
+              error = e;
+            }
+            synchronized (this) {
+              saving--;
+              if (error != null) exceptions.add(error);
+            }
+            complete();
+          });
+    }
+
+    private void complete() {
+      List<Throwable> errors = null;
+      List<UploadPartResponse> results = null;
+      synchronized (this) {
+        if (completed
+            || inFlight > 0
+            || reading > 0
+            || hashing > 0
+            || saving > 0
+            || (exceptions.isEmpty() && !isFullyRead())) {
+          return;
+        }
+        completed = true;
+        errors = new ArrayList<>(exceptions);
+        results = new ArrayList<>(responses);
+      }
+
+      if (!errors.isEmpty()) {
+        CompletionException combined =
+            new CompletionException("uploadPartsParallelly failed", errors.get(0));
+        errors.stream().skip(1).forEach(combined::addSuppressed);
+        future.completeExceptionally(combined);
+        return;
+      }
+
+      results.sort(Comparator.comparingInt(r -> r.part().partNumber()));
+      future.complete(results);
+    }
+  }
+
   private CompletableFuture<List<UploadPartResponse>> uploadPartsParallelly(
       PutObjectBaseArgs args,
       String uploadId,
       PartReader partReader,
+      Checksum.Algorithm[] algorithms,
       boolean addContentSha256,
       boolean addSha256Checksum,
       ByteBuffer buffer,
       long partSize,
       int parallelUploads) {
-    ByteBufferPool bufferPool = new ByteBufferPool(parallelUploads, partSize);
-    ExecutorService uploadExecutor = Executors.newFixedThreadPool(parallelUploads);
-    BlockingQueue<UploadPartArgs.Wrapper> queue = new ArrayBlockingQueue<>(parallelUploads);
-    CountDownLatch doneLatch = new CountDownLatch(parallelUploads);
-    List<UploadPartResponse> uploadResults = Collections.synchronizedList(new ArrayList<>());
-    AtomicBoolean errorOccurred = new AtomicBoolean(false);
-    ConcurrentLinkedQueue<Throwable> exceptions = new ConcurrentLinkedQueue<>();
+    return new ParallelPartUploader(
+            args,
+            uploadId,
+            partReader,
+            null,
+            0,
+            algorithms,
+            addContentSha256,
+            addSha256Checksum,
+            partSize,
+            parallelUploads,
+            null)
+        .upload(buffer);
+  }
 
-    return supplyAsync(
-        () -> {
-          try {
-            // Start uploader workers
-            for (int i = 0; i < parallelUploads; i++) {
-              Future<?> result =
-                  uploadExecutor.submit(
-                      () -> {
-                        try {
-                          while (!errorOccurred.get()) {
-                            UploadPartArgs.Wrapper part = queue.take();
-                            if (part.args() == null) break; // poison pill
-                            UploadPartResponse response = uploadPart(part.args()).join();
-                            bufferPool.put(part.args().buffer());
-                            uploadResults.add(response);
-                          }
-                        } catch (InterruptedException e) {
-                          errorOccurred.set(true); // signal to all threads
-                          exceptions.add(e);
-                        } finally {
-                          doneLatch.countDown();
-                        }
-                      });
-              if (result == null) {
-                throw new IllegalStateException(
-                    "uploadExecutor.submit() returns null; this should not happen");
-              }
-            }
+  /**
+   * Gets upload ID of checkpoint after verifying its parts by {@link #listParts}, or creates new
+   * multipart upload if checkpoint has no upload or its upload no longer exists.
+   */
+  private CompletableFuture<String> resumeMultipartUpload(
+      PutObjectBaseArgs args, CreateMultipartUploadArgs createArgs, UploadCheckpoint checkpoint) {
+    CompletableFuture<String> future =
+        checkpoint.uploadId() == null
+            ? CompletableFuture.completedFuture(null)
+            : listAllParts(args, checkpoint.uploadId(), null, new ArrayList<Part>())
+                .thenApply(
+                    parts -> {
+                      try {
+                        checkpoint.retain(parts);
+                      } catch (MinioException e) {
+                        throw new CompletionException(e);
+                      }
+                      return checkpoint.uploadId();
+                    })
+                .exceptionally(
+                    e -> {
+                      e = e.getCause();
+                      if (e instanceof ErrorResponseException
+                          && ((ErrorResponseException) e)
+                              .errorResponse()
+                              .code()
+                              .equals("NoSuchUpload")) {
+                        return null;
+                      }
+                      throw new CompletionException(e);
+                    });
+    return future.thenCompose(
+        uploadId -> {
+          if (uploadId != null) return CompletableFuture.completedFuture(uploadId);
+          return createMultipartUpload(createArgs)
+              .thenApply(
+                  response -> {
+                    try {
+                      checkpoint.start(response.result().uploadId());
+                    } catch (MinioException e) {
+                      throw new CompletionException(e);
+                    }
+                    return response.result().uploadId();
+                  });
+        });
+  }
 
-            // Reader: submit initial buffer
-            queue.put(
-                new UploadPartArgs.Wrapper(
-                    new UploadPartArgs(
-                        args,
-                        uploadId,
-                        partReader.partNumber(),
-                        buffer,
-                        Checksum.makeHeaders(
-                            partReader.hashers(), addContentSha256, addSha256Checksum))));
-
-            // Reader: loop to submit remaining parts
-            while (partReader.partNumber() != partReader.partCount() && !errorOccurred.get()) {
-              ByteBuffer buf = bufferPool.take();
-              partReader.read(buf);
-              queue.put(
-                  new UploadPartArgs.Wrapper(
-                      new UploadPartArgs(
-                          args,
-                          uploadId,
-                          partReader.partNumber(),
-                          buf,
-                          Checksum.makeHeaders(
-                              partReader.hashers(), addContentSha256, addSha256Checksum))));
-            }
+  private CompletableFuture<List<Part>> listAllParts(
+      PutObjectBaseArgs args, String uploadId, Integer partNumberMarker, List<Part> parts) {
+    return listParts(new ListPartsArgs(args, uploadId, partNumberMarker))
+        .thenCompose(
+            response -> {
+              parts.addAll(response.result().parts());
+              if (!response.result().isTruncated()) {
+                return CompletableFuture.completedFuture(parts);
+              }
+              return listAllParts(args, uploadId, response.result().nextPartNumberMarker(), parts);
+            });
+  }
 
-            // Signal all workers to stop with poison pills
-            for (int i = 0; i < parallelUploads; i++) {
-              queue.put(new UploadPartArgs.Wrapper(null));
-            }
+  private CompletableFuture<List<UploadPartResponse>> uploadFileParts(
+      PutObjectBaseArgs args,
+      String uploadId,
+      RandomAccessFile file,
+      long filePosition,
+      Checksum.Algorithm[] algorithms,
+      boolean addContentSha256,
+      boolean addSha256Checksum,
+      int parallelUploads,
+      UploadCheckpoint checkpoint) {
+    return new ParallelPartUploader(
+            args,
+            uploadId,
+            null,
+            file,
+            filePosition,
+            algorithms,
+            addContentSha256,
+            addSha256Checksum,
+            args.partSize(),
+            parallelUploads,
+            checkpoint)
+        .upload(null);
+  }
 
-            doneLatch.await();
-            uploadExecutor.shutdown();
+  /**
+   * Makes checksum headers for given hashers. Without hashers, only checksum algorithm is set so
+   * that its checksum is computed while the payload is sent and sent in the trailer.
+   */
+  private Http.Headers checksumHeaders(
+      PutObjectBaseArgs args,
+      Map<Checksum.Algorithm, Checksum.Hasher> hashers,
+      boolean addContentSha256,
+      boolean addSha256Checksum) {
+    if (hashers != null) {
+      return Checksum.makeHeaders(hashers, addContentSha256, addSha256Checksum);
+    }
+    Checksum.Algorithm algorithm =
+        args.checksum() != null ? args.checksum() : Checksum.Algorithm.CRC32C;
+    return new Http.Headers(Http.Headers.X_AMZ_SDK_CHECKSUM_ALGORITHM, algorithm.toString());
+  }
 
-            if (!exceptions.isEmpty()) {
-              CompletionException combined =
-                  new CompletionException("uploadPartsParallelly failed", exceptions.peek());
-              exceptions.stream().skip(1).forEach(combined::addSuppressed);
-              throw combined;
-            }
+  /**
+   * Makes FULL_OBJECT checksum headers for CompleteMultipartUpload by combining checksums computed
+   * by this client for the parts. Checksum returned by the server is used only for a part restored
+   * from a checkpoint.
+   */
+  private static Http.Headers fullObjectChecksumHeaders(
+      Checksum.Algorithm algorithm, List<UploadPartResponse> responses) throws MinioException {
+    byte[] sum = null;
+    for (UploadPartResponse response : responses) {
+      String value = response.checksum(algorithm);
+      if (value == null) {
+        if (algorithm == Checksum.Algorithm.CRC32) value = response.part().checksumCRC32();
+        if (algorithm == Checksum.Algorithm.CRC32C) value = response.part().checksumCRC32C();
+        if (algorithm == Checksum.Algorithm.CRC64NVME) value = response.part().checksumCRC64NVME();
+      }
+      if (value == null || response.partSize() == null) {
+        throw new MinioException(
+            algorithm + " checksum or size of part " + response.part().partNumber() + " unknown");
+      }
+      byte[] partSum = Checksum.base64StringToSum(value);
+      sum = sum == null ? partSum : Checksum.combine(algorithm, sum, partSum, response.partSize());
+    }
+    Http.Headers headers =
+        new Http.Headers("x-amz-checksum-type", Checksum.Type.FULL_OBJECT.name());
+    if (sum != null) headers.put(algorithm.header(), Checksum.base64String(sum));
+    return headers;
+  }
 
-            uploadResults.sort(Comparator.comparingInt(r -> r.part().partNumber()));
-            return uploadResults;
+  private CompletableFuture<ObjectWriteResponse> putObject(
+      PutObjectBaseArgs args,
+      Object fileStreamData,
+      MediaType contentType,
+      boolean addContentSha256) {
+    return putObject(args, fileStreamData, contentType, addContentSha256, null);
+  }
 
-          } catch (InterruptedException | MinioException e) {
-            throw new CompletionException(e);
-          } finally {
-            uploadExecutor.shutdownNow(); // ensure executor exits on error
-          }
-        });
+  private CompletableFuture<ObjectWriteResponse> putObject(
+      PutObjectBaseArgs args,
+      Object fileStreamData,
+      MediaType contentType,
+      boolean addContentSha256,
+      UploadCheckpoint checkpoint) {
+    return putObject(
+        args, fileStreamData, contentType, addContentSha256, checkpoint, false, null, null);
   }
 
+  /**
+   * Uploads file, stream or data. Buffer of first part of stream is taken without blocking the
+   * calling thread. If readAsync is set, or the buffer budget is used up, the part is read on
+   * upload scheduler; else it is read by the calling thread. Part reader of stream whose first part
+   * is already read into firstPartBuffer is given by firstPartReader.
+   */
   private CompletableFuture<ObjectWriteResponse> putObject(
       PutObjectBaseArgs args,
       Object fileStreamData,
       MediaType contentType,
-      boolean addContentSha256) {
+      boolean addContentSha256,
+      UploadCheckpoint checkpoint,
+      boolean readAsync,
+      PartReader firstPartReader,
+      ByteBuffer firstPartBuffer) {
     RandomAccessFile file = null;
     InputStream stream = null;
     byte[] data = null;
@@ -1946,37 +3208,121 @@ public class MinioAsyncClient extends BaseS3Client {
         args.checksum() != null ? args.checksum() : Checksum.Algorithm.CRC32C;
     boolean addSha256Checksum = algorithm == Checksum.Algorithm.SHA256;
     Checksum.Algorithm[] algorithms;
-    if (addContentSha256 && !addSha256Checksum) {
+    if (streamingChecksum) {
+      // Checksum is computed while parts are sent; see checksumHeaders().
+      algorithms = null;
+    } else if (addContentSha256 && !addSha256Checksum) {
       algorithms = new Checksum.Algorithm[] {algorithm, Checksum.Algorithm.SHA256};
     } else {
       algorithms = new Checksum.Algorithm[] {algorithm};
     }
 
-    PartReader partReader = null;
-    ByteBuffer buffer = null;
+    PartReader partReader = firstPartReader;
+    ByteBuffer buffer = firstPartBuffer;
     int partCount = args.partCount();
 
-    if (stream != null) {
+    // Adaptive upload tunes its window up to parallel uploads.
+    int maxParallelUploads =
+        args.adaptiveUploads() ? args.adaptiveMaxWindow() : args.parallelUploads();
+    raiseRequestWindow(maxParallelUploads);
+
+    // With streaming checksum, stream of known size is sent as it is read without staging its
+    // parts in buffers, unless parts are uploaded in parallel.
+    boolean directStream =
+        stream != null
+            && streamingChecksum
+            && args.objectSize() != null
+            && partCount > 0
+            && (partCount == 1 || maxParallelUploads <= 1);
+
+    // For parallel uploads, parts are hashed by worker threads and PartReader only copies them.
+    boolean hashInParallel = stream != null && maxParallelUploads > 1 && partCount != 1;
+
+    if (stream != null && !directStream && partReader == null) {
       try {
         partReader =
             new PartReader(
-                stream, args.objectSize(), args.partSize(), args.partCount(), algorithms);
-        buffer = new ByteBuffer(partReader.partCount() == 1 ? args.objectSize() : args.partSize());
+                stream,
+                args.objectSize(),
+                args.partSize(),
+                args.partCount(),
+                hashInParallel ? null : algorithms);
+      } catch (MinioException e) {
+        return Utils.failedFuture(e);
+      }
+      long size = partReader.partCount() == 1 ? args.objectSize() : args.partSize();
+
+      CompletableFuture<ByteBuffer> bufferFuture = takeBufferAsync(size);
+      if (readAsync || !bufferFuture.isDone() || bufferFuture.isCompletedExceptionally()) {
+        // Buffer taken later is passed by the thread putting back a buffer, e.g. an HTTP callback
+        // thread, which must not read the stream.
+        final PartReader reader = partReader;
+        UploadScheduler.Session session = uploadScheduler.newSession();
+        return bufferFuture
+            .thenApplyAsync(
+                partBuffer -> {
+                  try {
+                    reader.read(partBuffer);
+                    return partBuffer;
+                  } catch (MinioException e) {
+                    releaseBuffer(partBuffer);
+                    throw new CompletionException(e);
+                  }
+                },
+                task -> uploadScheduler.execute(session, task))
+            .thenCompose(
+                partBuffer ->
+                    putObject(
+                        args,
+                        fileStreamData,
+                        contentType,
+                        addContentSha256,
+                        checkpoint,
+                        false,
+                        reader,
+                        partBuffer));
+      }
+
+      try {
+        buffer = bufferFuture.getNow(null);
         partReader.read(buffer);
-        partCount = partReader.partCount();
       } catch (MinioException e) {
+        releaseBuffer(buffer);
         return Utils.failedFuture(e);
       }
     }
+    if (partReader != null) partCount = partReader.partCount();
 
     if (partCount == 1) {
-      if (stream != null) {
+      if (directStream) {
         return putObject(
             new PutObjectAPIArgs(
                 args,
-                buffer,
+                stream,
+                args.objectSize(),
                 contentType,
-                Checksum.makeHeaders(partReader.hashers(), addContentSha256, addSha256Checksum)));
+                checksumHeaders(args, null, addContentSha256, addSha256Checksum)));
+      }
+
+      if (stream != null) {
+        Map<Checksum.Algorithm, Checksum.Hasher> hashers = partReader.hashers();
+        if (hashInParallel) {
+          try {
+            hashers = Checksum.newHasherMap(algorithms);
+            Checksum.update(hashers, buffer);
+          } catch (MinioException e) {
+            releaseBuffer(buffer);
+            return Utils.failedFuture(e);
+          }
+        }
+        final ByteBuffer singleBuffer = buffer;
+        return putObject(
+                new PutObjectAPIArgs(
+                    args,
+                    buffer,
+                    contentType,
+                    checksumHeaders(args, hashers, addContentSha256, addSha256Checksum)))
+            .whenComplete((response, e) -> releaseBuffer(singleBuffer));
       }
 
       if (args.objectSize() == null) {
@@ -1989,16 +3335,14 @@ public class MinioAsyncClient extends BaseS3Client {
         Map<Checksum.Algorithm, Checksum.Hasher> hashers = Checksum.newHasherMap(algorithms);
 
         if (file != null) {
-          long position = file.getFilePointer();
-          Checksum.update(hashers, file, length);
-          file.seek(position);
+          Checksum.update(hashers, file, file.getFilePointer(), length);
           return putObject(
               new PutObjectAPIArgs(
                   args,
                   file,
                   length,
                   contentType,
-                  Checksum.makeHeaders(hashers, addContentSha256, addSha256Checksum)));
+                  checksumHeaders(args, hashers, addContentSha256, addSha256Checksum)));
         }
 
         Checksum.update(hashers, data, (int) length);
@@ -2008,7 +3352,7 @@ public class MinioAsyncClient extends BaseS3Client {
                 data,
                 (int) length,
                 contentType,
-                Checksum.makeHeaders(hashers, addContentSha256, addSha256Checksum)));
+                checksumHeaders(args, hashers, addContentSha256, addSha256Checksum)));
       } catch (MinioException e) {
         return Utils.failedFuture(e);
       } catch (IOException e) {
@@ -2018,36 +3362,75 @@ public class MinioAsyncClient extends BaseS3Client {
 
     // Multipart upload starts here
 
-    if (args.checksum() != null && !args.checksum().compositeSupport()) {
-      throw new IllegalArgumentException(
-          "unsupported checksum " + args.checksum() + " for multipart upload");
+    // Checksum of whole object is combined from part checksums for FULL_OBJECT checksum type.
+    Checksum.Type checksumType = args.checksumType();
+    if (checksumType == null && !algorithm.compositeSupport()) {
+      checksumType = Checksum.Type.FULL_OBJECT;
+    }
+    if (checksumType == Checksum.Type.FULL_OBJECT
+        ? !algorithm.fullObjectSupport()
+        : !algorithm.compositeSupport()) {
+      // Part count of stream is known only after its first part is read into buffer.
+      releaseBuffer(buffer);
+      return Utils.failedFuture(
+          new IllegalArgumentException(
+              "unsupported checksum " + algorithm + " for multipart upload"));
     }
+    final boolean fullObjectChecksum = checksumType == Checksum.Type.FULL_OBJECT;
 
+    long filePosition = 0;
     if (file != null) {
       try {
-        partReader =
-            new PartReader(file, args.objectSize(), args.partSize(), args.partCount(), algorithms);
-        buffer = new ByteBuffer(args.partSize());
-        partReader.read(buffer);
-      } catch (MinioException e) {
-        return Utils.failedFuture(e);
+        filePosition = file.getFilePointer();
+      } catch (IOException e) {
+        return Utils.failedFuture(new MinioException(e));
       }
     }
 
-    int parallelUploads = args.parallelUploads();
+    int parallelUploads = maxParallelUploads;
     if (parallelUploads <= 0) parallelUploads = 1;
-    if (partReader.partCount() > 0 && parallelUploads > partReader.partCount()) {
-      parallelUploads = partReader.partCount();
-    }
+    if (partCount > 0 && parallelUploads > partCount) parallelUploads = partCount;
 
     String[] uploadId = {null};
+    // Buffer of first part; it is owned by parallel uploader once handed over.
+    ByteBuffer[] firstBuffer = {buffer};
+    final RandomAccessFile finalFile = file;
+    final InputStream finalStream = directStream ? stream : null;
+    final long finalFilePosition = filePosition;
     final PartReader finalPartReader = partReader;
     final ByteBuffer finalBuffer = buffer;
     final int finalParallelUploads = parallelUploads;
-    return createMultipartUpload(new CreateMultipartUploadArgs(args, contentType, algorithm))
+    final CreateMultipartUploadArgs createArgs =
+        new CreateMultipartUploadArgs(args, contentType, algorithm, checksumType);
+    return (checkpoint != null
+            ? resumeMultipartUpload(args, createArgs, checkpoint)
+            : createMultipartUpload(createArgs).thenApply(response -> response.result().uploadId()))
         .thenCompose(
-            response -> {
-              uploadId[0] = response.result().uploadId();
+            id -> {
+              uploadId[0] = id;
+              // Upload file parts from file regions
+              if (finalFile != null) {
+                CompletableFuture<List<UploadPartResponse>> future =
+                    uploadFileParts(
+                        args,
+                        uploadId[0],
+                        finalFile,
+                        finalFilePosition,
+                        algorithms,
+                        addContentSha256,
+                        addSha256Checksum,
+                        finalParallelUploads,
+                        checkpoint);
+                // Parts uploaded before resuming are taken from checkpoint.
+                return checkpoint != null ? future.thenApply(r -> checkpoint.responses()) : future;
+              }
+
+              // Upload parts directly from stream
+              if (finalStream != null) {
+                return uploadStreamParts(
+                    args, uploadId[0], finalStream, 1, new ArrayList<UploadPartResponse>());
+              }
+
               // Do sequential multipart uploads
               if (finalParallelUploads == 1) {
                 return uploadPartsSequentially(
@@ -2057,15 +3440,16 @@ public class MinioAsyncClient extends BaseS3Client {
                     addContentSha256,
                     addSha256Checksum,
                     finalBuffer,
-                    args.partSize(),
-                    new ArrayList<UploadPartResponse>());
+                    args.partSize());
               }
 
-              // Do sequential multipart uploads
+              // Do parallel multipart uploads
+              firstBuffer[0] = null;
               return uploadPartsParallelly(
                   args,
                   uploadId[0],
                   finalPartReader,
+                  algorithms,
                   addContentSha256,
                   addSha256Checksum,
                   finalBuffer,
@@ -2073,18 +3457,29 @@ public class MinioAsyncClient extends BaseS3Client {
                   finalParallelUploads);
             })
         .thenCompose(
-            responses ->
-                completeMultipartUpload(
-                    new CompleteMultipartUploadArgs(
-                        args,
-                        uploadId[0],
-                        responses.stream()
-                            .map(UploadPartResponse::part)
-                            .toArray(io.minio.messages.Part[]::new))))
+            responses -> {
+              Http.Headers checksumHeaders = null;
+              try {
+                if (fullObjectChecksum) {
+                  checksumHeaders = fullObjectChecksumHeaders(algorithm, responses);
+                }
+              } catch (MinioException e) {
+                throw new CompletionException(e);
+              }
+              return completeMultipartUpload(
+                  new CompleteMultipartUploadArgs(
+                      args,
+                      uploadId[0],
+                      responses.stream()
+                          .map(UploadPartResponse::part)
+                          .toArray(io.minio.messages.Part[]::new),
+                      checksumHeaders));
+            })
         .exceptionally(
             e -> {
               e = e.getCause();
-              if (uploadId[0] != null) {
+              // Upload of checkpoint is kept to be resumed later.
+              if (uploadId[0] != null && checkpoint == null) {
                 try {
                   abortMultipartUpload(new AbortMultipartUploadArgs(args, uploadId[0])).join();
                 } catch (CompletionException ex) {
@@ -2092,7 +3487,42 @@ public class MinioAsyncClient extends BaseS3Client {
                 }
               }
               throw new CompletionException(e);
-            });
+            })
+        .whenComplete((response, e) -> releaseBuffer(firstBuffer[0]));
+  }
+
+  /**
+   * Takes a buffer from upload scheduler without blocking the calling thread like an HTTP callback
+   * thread. The returned future completes once the buffer budget allows it, or fails if the budget
+   * is used up and the scheduler is fail fast.
+   */
+  private CompletableFuture<ByteBuffer> takeBufferAsync(long size) {
+    try {
+      if (uploadScheduler.failFast()) {
+        // Fail fast scheduler never waits for buffers.
+        return CompletableFuture.completedFuture(uploadScheduler.takeBuffer(size));
+      }
+      CompletableFuture<ByteBuffer> future = new CompletableFuture<>();
+      uploadScheduler.takeBuffer(size, future::complete);
+      return future;
+    } catch (MinioException | IllegalArgumentException e) {
+      // Buffer size more than max buffer bytes of the scheduler fails the future.
+      return Utils.failedFuture(e);
+    }
+  }
+
+  /**
+   * Raises request limits of the HTTP client created by the builder, so that a window of parallel
+   * requests is not capped by OkHttp's default of 5 requests per host. HTTP client given by the
+   * user is left as configured, even if this client closes it.
+   */
+  private void raiseRequestWindow(int window) {
+    if (defaultHttpClient && window > 1) Http.raiseMaxRequestsPerHost(httpClient, window);
+  }
+
+  /** Puts back the buffer taken from upload scheduler. */
+  private void releaseBuffer(ByteBuffer buffer) {
+    if (buffer != null) uploadScheduler.putBuffer(buffer);
   }
 
   /**
@@ -2182,8 +3612,10 @@ public class MinioAsyncClient extends BaseS3Client {
     checkArgs(args);
     args.validateSse(this.baseUrl.isHttps());
     try {
+      final UploadCheckpoint checkpoint =
+          args.checkpoint() != null ? UploadCheckpoint.load(args.checkpoint(), args) : null;
       final RandomAccessFile file = new RandomAccessFile(args.filename(), "r");
-      return putObject(args, file, args.contentType(), !this.baseUrl.isHttps())
+      return putObject(args, file, args.contentType(), !this.baseUrl.isHttps(), checkpoint)
           .exceptionally(
               e -> {
                 e = e.getCause();
@@ -2198,11 +3630,16 @@ public class MinioAsyncClient extends BaseS3Client {
               objectWriteResponse -> {
                 try {
                   file.close();
+                  if (checkpoint != null) checkpoint.delete();
                 } catch (IOException e) {
                   throw new CompletionException(new MinioException(e));
+                } catch (MinioException e) {
+                  throw new CompletionException(e);
                 }
                 return objectWriteResponse;
               });
+    } catch (MinioException e) {
+      return Utils.failedFuture(e);
     } catch (IOException e) {
       return Utils.failedFuture(new MinioException(e));
     }
@@ -3242,13 +4679,13 @@ public class MinioAsyncClient extends BaseS3Client {
       UploadSnowballObjectsArgs args) {
     checkArgs(args);
 
+    if (args.partSize() > 0) return uploadSnowballObjectsInParts(args);
+
     return supplyAsync(
             () -> {
               FileOutputStream fos = null;
               BufferedOutputStream bos = null;
-              SnappyFramedOutputStream sos = null;
               ByteArrayOutputStream baos = null;
-              TarArchiveOutputStream tarOutputStream = null;
 
               try {
                 OutputStream os = null;
@@ -3260,42 +4697,11 @@ public class MinioAsyncClient extends BaseS3Client {
                   baos = new ByteArrayOutputStream();
                   os = baos;
                 }
-
-                if (args.compression()) {
-                  sos = new SnappyFramedOutputStream(os);
-                  os = sos;
-                }
-
-                tarOutputStream = new TarArchiveOutputStream(os);
-                tarOutputStream.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
-                for (SnowballObject object : args.objects()) {
-                  if (object.filename() != null) {
-                    Path filePath = Paths.get(object.filename());
-                    TarArchiveEntry entry = new TarArchiveEntry(filePath.toFile(), object.name());
-                    tarOutputStream.putArchiveEntry(entry);
-                    Files.copy(filePath, tarOutputStream);
-                  } else {
-                    TarArchiveEntry entry = new TarArchiveEntry(object.name());
-                    if (object.modificationTime() != null) {
-                      entry.setModTime(Date.from(object.modificationTime().toInstant()));
-                    }
-                    entry.setSize(object.size());
-                    tarOutputStream.putArchiveEntry(entry);
-                    ByteStreams.copy(object.stream(), tarOutputStream);
-                  }
-                  tarOutputStream.closeArchiveEntry();
-                }
-                tarOutputStream.finish();
+                writeSnowballArchive(args, os);
               } catch (IOException e) {
                 throw new CompletionException(new MinioException(e));
               } finally {
                 try {
-                  if (tarOutputStream != null) tarOutputStream.flush();
-                  if (sos != null) sos.flush();
-                  if (bos != null) bos.flush();
-                  if (fos != null) fos.flush();
-                  if (tarOutputStream != null) tarOutputStream.close();
-                  if (sos != null) sos.close();
                   if (bos != null) bos.close();
                   if (fos != null) fos.close();
                 } catch (IOException e) {
@@ -3307,7 +4713,7 @@ public class MinioAsyncClient extends BaseS3Client {
         .thenCompose(
             baos -> {
               Http.Headers headers = args.makeHeaders();
-              headers.put("X-Amz-Meta-Snowball-Auto-Extract", "true");
+              if (args.autoExtract()) headers.put("X-Amz-Meta-Snowball-Auto-Extract", "true");
 
               if (args.stagingFilename() == null) {
                 byte[] data = baos.toByteArray();
@@ -3327,6 +4733,264 @@ public class MinioAsyncClient extends BaseS3Client {
             });
   }
 
+  /**
+   * Writes TAR archive, optionally compressed, of snowball objects to given stream. The stream is
+   * flushed, but not closed.
+   */
+  private void writeSnowballArchive(UploadSnowballObjectsArgs args, OutputStream os)
+      throws IOException {
+    OutputStream cos = null;
+    if (args.compression()) {
+      if (args.compressionCodec() == null) {
+        cos = new SnappyFramedOutputStream(os);
+      } else {
+        cos =
+            new ParallelCompressedOutputStream(
+                os, args.compressionCodec(), compressionExecutor.get(), COMPRESSION_PARALLELISM);
+      }
+      os = cos;
+    }
+
+    TarArchiveOutputStream tarOutputStream = new TarArchiveOutputStream(os);
+    tarOutputStream.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+    for (SnowballObject object : args.objects()) {
+      if (object.filename() != null) {
+        Path filePath = Paths.get(object.filename());
+        TarArchiveEntry entry = new TarArchiveEntry(filePath.toFile(), object.name());
+        tarOutputStream.putArchiveEntry(entry);
+        Files.copy(filePath, tarOutputStream);
+      } else {
+        TarArchiveEntry entry = new TarArchiveEntry(object.name());
+        if (object.modificationTime() != null) {
+          entry.setModTime(Date.from(object.modificationTime().toInstant()));
+        }
+        entry.setSize(object.size());
+        tarOutputStream.putArchiveEntry(entry);
+        ByteStreams.copy(object.stream(), tarOutputStream);
+      }
+      tarOutputStream.closeArchiveEntry();
+    }
+    tarOutputStream.finish();
+    tarOutputStream.flush();
+    if (cos != null) cos.flush();
+  }
+
+  /**
+   * Uploads snowball archive by multipart upload while it is built. Archive is written to a bounded
+   * pipe by a dedicated thread and parts are read from the pipe as a stream of unknown size, so
+   * that archiving overlaps uploading of previous parts. The writer does not run on a shared pool,
+   * where readers blocked on the pipe could take every thread from their writers.
+   */
+  private CompletableFuture<ObjectWriteResponse> uploadSnowballObjectsInParts(
+      UploadSnowballObjectsArgs args) {
+    args.validateSse(this.baseUrl.isHttps());
+    // Server does not extract archive uploaded by multipart upload; see
+    // UploadSnowballObjectsArgs.Builder#partSize.
+    Http.Headers headers = Http.Headers.merge(args.headers());
+    BoundedPipe pipe = new BoundedPipe(SNOWBALL_PIPE_SIZE);
+    PutObjectArgs putObjectArgs =
+        new PutObjectArgs(
+            args, headers, pipe.inputStream(), args.partSize(), args.parallelUploads());
+
+    CompletableFuture<Void> archiveFuture = new CompletableFuture<>();
+    Thread writer =
+        new Thread(
+            () -> {
+              Throwable error = null;
+              try {
+                writeSnowballArchive(args, pipe.outputStream());
+              } catch (IOException | RuntimeException e) {
+                // Fail the pipe before closing it, so that a partial archive is not uploaded.
+                pipe.fail(e);
+                error = new MinioException(e);
+              } finally {
+                try {
+                  pipe.outputStream().close();
+                } catch (IOException e) {
+                  if (error == null) error = new MinioException(e);
+                }
+              }
+              if (error != null) {
+                archiveFuture.completeExceptionally(error);
+              } else {
+                archiveFuture.complete(null);
+              }
+            },
+            "minio-snowball-writer-" + SNOWBALL_WRITER_COUNT.incrementAndGet());
+    writer.setDaemon(true);
+    writer.start();
+
+    // Parts are read from the pipe on upload scheduler than on the calling thread.
+    return putObject(
+            putObjectArgs,
+            putObjectArgs.stream(),
+            null,
+            !this.baseUrl.isHttps(),
+            null,
+            true,
+            null,
+            null)
+        .whenComplete(
+            (response, e) -> {
+              // Unblocks the archive task if the upload is failed.
+              try {
+                pipe.inputStream().close();
+              } catch (IOException ex) {
+                throw new CompletionException(new MinioException(ex));
+              }
+            })
+        .thenCombine(archiveFuture, (response, v) -> response);
+  }
+
+  /**
+   * Uploads many small objects by batching them into snowball archives. Objects are taken lazily
+   * from {@link UploadSnowballBatchesArgs#objects} and grouped into archives by estimated archive
+   * size and object count, and archives are built and uploaded concurrently. A failure of an object
+   * or an archive is reported in the response instead of failing the whole upload.
+   *
+   * <pre>Example:{@code
+   * // Upload all files of a directory.
+   * List<SnowballObject> objects = new ArrayList<SnowballObject>();
+   * for (File file : new File("my-dir").listFiles()) {
+   *   objects.add(new SnowballObject("my-dir/" + file.getName(), file.getPath()));
+   * }
+   * CompletableFuture<UploadSnowballBatchesResponse> future =
+   *     minioAsyncClient.uploadSnowballBatches(
+   *         UploadSnowballBatchesArgs.builder()
+   *             .bucket("my-bucketname")
+   *             .objects(objects)
+   *             .parallelArchives(8)
+   *             .build());
+   * }</pre>
+   *
+   * @param args {@link UploadSnowballBatchesArgs} object.
+   * @return {@link CompletableFuture}&lt;{@link UploadSnowballBatchesResponse}&gt; object.
+   */
+  public CompletableFuture<UploadSnowballBatchesResponse> uploadSnowballBatches(
+      UploadSnowballBatchesArgs args) {
+    checkArgs(args);
+    args.validateSse(this.baseUrl.isHttps());
+    return new SnowballBatchUploader(args).upload();
+  }
+
+  /**
+   * Uploader of {@link #uploadSnowballBatches}. Each of parallel archives slots takes next batch
+   * from the object iterator, uploads it by {@link #uploadSnowballObjects} and repeats until the
+   * iterator is exhausted.
+   */
+  private class SnowballBatchUploader {
+    private static final long TAR_BLOCK_SIZE = 512;
+
+    private final UploadSnowballBatchesArgs args;
+    private final CompletableFuture<UploadSnowballBatchesResponse> result =
+        new CompletableFuture<>();
+
+    // Guarded by this.
+    private Iterator<SnowballObject> iterator = null;
+    private final List<ObjectWriteResponse> responses = new ArrayList<>();
+    private final List<UploadSnowballBatchesResponse.Failure> failures = new ArrayList<>();
+    private long objectCount = 0;
+    private int inFlight = 0;
+    private boolean exhausted = false;
+    private Throwable error = null;
+
+    private SnowballBatchUploader(UploadSnowballBatchesArgs args) {
+      this.args = args;
+    }
+
+    private CompletableFuture<UploadSnowballBatchesResponse> upload() {
+      for (int i = 0; i < args.parallelArchives(); i++) uploadNext();
+      return result;
+    }
+
+    private void uploadNext() {
+      synchronized (this) {
+        if (exhausted || error != null) return;
+        inFlight++;
+      }
+
+      supplyAsync(this::nextBatch)
+          .thenCompose(
+              batch -> {
+                if (batch.isEmpty()) return CompletableFuture.completedFuture(null);
+                return uploadSnowballObjects(new UploadSnowballObjectsArgs(args, batch))
+                    .handle(
+                        (response, e) -> {
+                          onUploaded(batch, response, e);
+                          return null;
+                        });
+              })
+          .whenComplete(
+              (v, e) -> {
+                boolean next;
+                synchronized (this) {
+                  inFlight--;
+                  if (e != null && error == null) error = unwrap(e);
+                  next = !exhausted && error == null;
+                }
+                if (next) {
+                  uploadNext();
+                } else {
+                  complete();
+                }
+              });
+    }
+
+    /** Takes objects of next batch; objects whose file cannot be read are failed here. */
+    private synchronized List<SnowballObject> nextBatch() {
+      if (iterator == null) iterator = args.objects().iterator();
+      List<SnowballObject> batch = new ArrayList<>();
+      long size = 0;
+      while (batch.size() < args.batchCount() && size < args.batchSize() && iterator.hasNext()) {
+        SnowballObject object = iterator.next();
+        long objectSize = object.size();
+        if (object.filename() != null) {
+          try {
+            objectSize = Files.size(Paths.get(object.filename()));
+          } catch (IOException | RuntimeException e) {
+            failures.add(new UploadSnowballBatchesResponse.Failure(object, e));
+            continue;
+          }
+        }
+        batch.add(object);
+        // TAR entry is a header block followed by content padded to blocks.
+        size +=
+            TAR_BLOCK_SIZE + (objectSize + TAR_BLOCK_SIZE - 1) / TAR_BLOCK_SIZE * TAR_BLOCK_SIZE;
+      }
+      if (!iterator.hasNext()) exhausted = true;
+      return batch;
+    }
+
+    private synchronized void onUploaded(
+        List<SnowballObject> batch, ObjectWriteResponse response, Throwable e) {
+      if (e == null) {
+        responses.add(response);
+        objectCount += batch.size();
+        return;
+      }
+
+      Throwable cause = unwrap(e);
+      for (SnowballObject object : batch) {
+        failures.add(new UploadSnowballBatchesResponse.Failure(object, cause));
+      }
+    }
+
+    private synchronized void complete() {
+      if (inFlight > 0 || result.isDone()) return;
+      if (error != null) {
+        result.completeExceptionally(error);
+        return;
+      }
+      result.complete(
+          new UploadSnowballBatchesResponse(
+              new ArrayList<>(responses), objectCount, new ArrayList<>(failures)));
+    }
+
+    private Throwable unwrap(Throwable e) {
+      return (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+    }
+  }
+
   /**
    * Uploads multiple objects with same content from single stream with optional metadata and tags.
    *
@@ -3356,25 +5020,6 @@ public class MinioAsyncClient extends BaseS3Client {
 
     return supplyAsync(
             () -> {
-              byte[] buf16k = new byte[16384]; // 16KiB buffer for optimization.
-              ByteBuffer buffer = new ByteBuffer(args.size());
-              long bytesWritten = 0;
-              while (bytesWritten != args.size()) {
-                try {
-                  int length = args.stream().read(buf16k);
-                  if (length < 0) {
-                    throw new InsufficientDataException(
-                        "insufficient data; expected=" + args.size() + ", got=" + bytesWritten);
-                  }
-                  buffer.write(buf16k, 0, length);
-                  bytesWritten += length;
-                } catch (IOException e) {
-                  throw new CompletionException(new MinioException(e));
-                } catch (MinioException e) {
-                  throw new CompletionException(e);
-                }
-              }
-
               // Build POST object data
               String objectName =
                   "fan-out-"
@@ -3406,11 +5051,13 @@ public class MinioAsyncClient extends BaseS3Client {
                 }
                 multipartBuilder.addFormDataPart("key", objectName);
                 multipartBuilder.addFormDataPart("x-minio-fanout-list", args.fanOutList());
-                // "file" must be added at last.
+                // "file" must be added at last. Its content is streamed from the stream while the
+                // request is written, so the payload is not buffered.
                 multipartBuilder.addFormDataPart(
                     "file",
                     "fanout-content",
-                    new Http.RequestBody(buffer, Http.DEFAULT_MEDIA_TYPE, null));
+                    new Http.RequestBody(
+                        args.stream(), args.size(), Http.DEFAULT_MEDIA_TYPE, null));
 
                 return multipartBuilder.build();
               } catch (JsonProcessingException e) {
@@ -3420,6 +5067,18 @@ public class MinioAsyncClient extends BaseS3Client {
               }
             })
         .thenCompose(body -> executePostAsync(args, null, null, new Http.Body(body)))
+        .exceptionally(
+            e -> {
+              // Stream shorter than its size fails writing the request body.
+              Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+              if (cause instanceof IOException
+                  && cause.getCause() instanceof InsufficientDataException) {
+                throw new CompletionException(cause.getCause());
+              }
+              throw e instanceof CompletionException
+                  ? (CompletionException) e
+                  : new CompletionException(e);
+            })
         .thenApply(
             response -> {
               try {
@@ -3575,6 +5234,142 @@ public class MinioAsyncClient extends BaseS3Client {
             });
   }
 
+  /**
+   * Appends chunks of part reader one after another. If a spare buffer is available from {@link
+   * UploadScheduler}, next chunk is read and hashed into it while current chunk is appended.
+   */
+  private CompletableFuture<ObjectWriteResponse> appendObjectPipelined(
+      AppendObjectArgs args,
+      long writeOffset,
+      PartReader partReader,
+      long chunkSize,
+      boolean addContentSha256,
+      boolean addSha256Checksum) {
+    long bufferSize = chunkSize;
+    if (args.coalesceSize() != null) {
+      bufferSize = args.coalesceSize();
+    } else if (partReader.partCount() == 1) {
+      bufferSize = args.length();
+    }
+    final long finalBufferSize = bufferSize;
+    // Buffer is taken without blocking the calling HTTP callback thread.
+    return takeBufferAsync(bufferSize)
+        .thenCompose(
+            buffer -> {
+              try {
+                partReader.read(buffer);
+              } catch (MinioException e) {
+                releaseBuffer(buffer);
+                throw new CompletionException(e);
+              }
+
+              ByteBuffer spare = null;
+              if (partReader.partNumber() != partReader.partCount()) {
+                spare = uploadScheduler.tryTakeBuffer(finalBufferSize);
+              }
+              CompletableFuture<ObjectWriteResponse> future = null;
+              if (spare == null) {
+                future =
+                    appendObject(
+                        args,
+                        writeOffset,
+                        partReader,
+                        buffer,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        addContentSha256,
+                        addSha256Checksum);
+              } else {
+                future =
+                    appendObjectPipelined(
+                        args,
+                        writeOffset,
+                        partReader,
+                        buffer,
+                        spare,
+                        uploadScheduler.newSession(),
+                        chunkSize,
+                        addContentSha256,
+                        addSha256Checksum);
+              }
+
+              final ByteBuffer finalSpare = spare;
+              return future.whenComplete(
+                  (response, e) -> {
+                    releaseBuffer(buffer);
+                    releaseBuffer(finalSpare);
+                  });
+            });
+  }
+
+  private CompletableFuture<ObjectWriteResponse> appendObjectPipelined(
+      AppendObjectArgs args,
+      long writeOffset,
+      PartReader partReader,
+      ByteBuffer buffer,
+      ByteBuffer spare,
+      UploadScheduler.Session session,
+      long chunkSize,
+      boolean addContentSha256,
+      boolean addSha256Checksum) {
+    boolean lastChunk = partReader.partNumber() == partReader.partCount();
+    Http.Headers headers =
+        new Http.Headers("x-amz-write-offset-bytes", String.valueOf(writeOffset));
+    if (partReader.hashers() != null) {
+      headers.putAll(
+          Checksum.makeHeaders(partReader.hashers(), addContentSha256, addSha256Checksum));
+    }
+
+    CompletableFuture<ObjectWriteResponse> appendFuture = null;
+    try {
+      appendFuture = putObject(new PutObjectAPIArgs(args, buffer, headers));
+    } catch (RuntimeException e) {
+      return Utils.failedFuture(e);
+    }
+    if (lastChunk) return appendFuture;
+
+    // Read next chunk into spare buffer while current chunk is appended.
+    final CompletableFuture<ObjectWriteResponse> finalAppendFuture = appendFuture;
+    CompletableFuture<Void> readFuture = new CompletableFuture<>();
+    uploadScheduler.execute(
+        session,
+        () -> {
+          try {
+            spare.reset();
+            partReader.read(spare);
+            if (args.coalesceSize() != null && partReader.partCount() < 0) {
+              // Grow chunks while append is the bottleneck, else go back to chunk size.
+              partReader.setPartSize(
+                  finalAppendFuture.isDone()
+                      ? chunkSize
+                      : Math.min(partReader.partSize * 2, args.coalesceSize()));
+            }
+            readFuture.complete(null);
+          } catch (MinioException | RuntimeException e) {
+            readFuture.completeExceptionally(e);
+          }
+        });
+
+    // Wait for both so that neither buffer is in use when this fails.
+    long nextWriteOffset = writeOffset + buffer.length();
+    return CompletableFuture.allOf(appendFuture, readFuture)
+        .thenCompose(
+            v ->
+                appendObjectPipelined(
+                    args,
+                    nextWriteOffset,
+                    partReader,
+                    spare,
+                    buffer,
+                    session,
+                    chunkSize,
+                    addContentSha256,
+                    addSha256Checksum));
+  }
+
   /**
    * Appends from a file, stream or data to existing object in a bucket.
    *
@@ -3620,6 +5415,51 @@ public class MinioAsyncClient extends BaseS3Client {
                         : new Checksum.Algorithm[0];
               }
 
+              if (args.pipelined() && args.filename() != null) {
+                try {
+                  final RandomAccessFile file = new RandomAccessFile(args.filename(), "r");
+                  CompletableFuture<ObjectWriteResponse> future = null;
+                  try {
+                    int partCount = (int) Math.max((args.length() + partSize - 1) / partSize, 1);
+                    future =
+                        appendObjectPipelined(
+                            args,
+                            writeOffset,
+                            new PartReader(file, args.length(), partSize, partCount, algorithms),
+                            partSize,
+                            addContentSha256,
+                            addSha256Checksum);
+                  } catch (MinioException e) {
+                    file.close();
+                    throw e;
+                  }
+                  return future
+                      .exceptionally(
+                          e -> {
+                            e = e.getCause();
+                            try {
+                              file.close();
+                            } catch (IOException ex) {
+                              e.addSuppressed(new MinioException(ex));
+                            }
+                            throw new CompletionException(e);
+                          })
+                      .thenApply(
+                          objectWriteResponse -> {
+                            try {
+                              file.close();
+                            } catch (IOException e) {
+                              throw new CompletionException(new MinioException(e));
+                            }
+                            return objectWriteResponse;
+                          });
+                } catch (MinioException e) {
+                  return Utils.failedFuture(e);
+                } catch (IOException e) {
+                  return Utils.failedFuture(new MinioException(e));
+                }
+              }
+
               if (args.stream() != null) {
                 try {
                   int partCount =
@@ -3628,21 +5468,39 @@ public class MinioAsyncClient extends BaseS3Client {
                           : (int) Math.max((args.length() + partSize - 1) / partSize, 1);
                   PartReader partReader =
                       new PartReader(args.stream(), args.length(), partSize, partCount, algorithms);
-                  ByteBuffer buffer =
-                      new ByteBuffer(partReader.partCount() == 1 ? args.length() : partSize);
-                  partReader.read(buffer);
-                  return appendObject(
-                      args,
-                      writeOffset,
-                      partReader,
-                      buffer,
-                      null,
-                      null,
-                      null,
-                      null,
-                      null,
-                      addContentSha256,
-                      addSha256Checksum);
+                  if (args.pipelined()) {
+                    return appendObjectPipelined(
+                        args,
+                        writeOffset,
+                        partReader,
+                        partSize,
+                        addContentSha256,
+                        addSha256Checksum);
+                  }
+                  // Buffer is taken without blocking this HTTP callback thread.
+                  return takeBufferAsync(partReader.partCount() == 1 ? args.length() : partSize)
+                      .thenCompose(
+                          buffer -> {
+                            try {
+                              partReader.read(buffer);
+                            } catch (MinioException e) {
+                              releaseBuffer(buffer);
+                              throw new CompletionException(e);
+                            }
+                            return appendObject(
+                                    args,
+                                    writeOffset,
+                                    partReader,
+                                    buffer,
+                                    null,
+                                    null,
+                                    null,
+                                    null,
+                                    null,
+                                    addContentSha256,
+                                    addSha256Checksum)
+                                .whenComplete((result, e) -> releaseBuffer(buffer));
+                          });
                 } catch (MinioException e) {
                   return Utils.failedFuture(e);
                 }
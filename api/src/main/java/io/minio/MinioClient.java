@@ -182,7 +182,8 @@ public class MinioClient implements AutoCloseable {
   }
 
   /**
-   * Downloads data of a SSE-C encrypted object to file.
+   * Downloads data of a SSE-C encrypted object to file. Download interrupted earlier can be resumed
+   * from its temporary file of the same ETag; see {@link DownloadObjectArgs.Builder#resume}.
    *
    * <pre>Example:{@code
    * minioClient.downloadObject(
@@ -206,7 +207,9 @@ public class MinioClient implements AutoCloseable {
   }
 
   /**
-   * Creates an object by server-side copying data from another object.
+   * Creates an object by server-side copying data from another object. Source object larger than 5
+   * GiB is copied by parallel part copies of a multipart upload; see {@link
+   * CopyObjectArgs.Builder#partSize} and {@link CopyObjectArgs.Builder#parallelCopies}.
    *
    * <pre>Example:{@code
    * // Create object "my-objectname" in bucket "my-bucketname" by copying from object
@@ -1827,6 +1830,44 @@ public class MinioClient implements AutoCloseable {
     }
   }
 
+  /**
+   * Uploads many small objects by batching them into snowball archives. Objects are taken lazily
+   * from {@link UploadSnowballBatchesArgs#objects} and grouped into archives by estimated archive
+   * size and object count, and archives are built and uploaded concurrently. A failure of an object
+   * or an archive is reported in the response instead of failing the whole upload.
+   *
+   * <pre>Example:{@code
+   * // Upload all files of a directory.
+   * List<SnowballObject> objects = new ArrayList<SnowballObject>();
+   * for (File file : new File("my-dir").listFiles()) {
+   *   objects.add(new SnowballObject("my-dir/" + file.getName(), file.getPath()));
+   * }
+   * UploadSnowballBatchesResponse response =
+   *     minioClient.uploadSnowballBatches(
+   *         UploadSnowballBatchesArgs.builder()
+   *             .bucket("my-bucketname")
+   *             .objects(objects)
+   *             .parallelArchives(8)
+   *             .build());
+   * for (UploadSnowballBatchesResponse.Failure failure : response.failures()) {
+   *   System.out.println(failure.name() + ": " + failure.exception());
+   * }
+   * }</pre>
+   *
+   * @param args {@link UploadSnowballBatchesArgs} object.
+   * @return {@link UploadSnowballBatchesResponse} object.
+   * @throws MinioException thrown to indicate SDK exception.
+   */
+  public UploadSnowballBatchesResponse uploadSnowballBatches(UploadSnowballBatchesArgs args)
+      throws MinioException {
+    try {
+      return asyncClient.uploadSnowballBatches(args).join();
+    } catch (CompletionException e) {
+      asyncClient.throwMinioException(e);
+      return null;
+    }
+  }
+
   /**
    * Uploads multiple objects with same content from single stream with optional metadata and tags.
    *
@@ -1993,6 +2034,32 @@ public class MinioClient implements AutoCloseable {
     asyncClient.setAwsS3Prefix(awsS3Prefix);
   }
 
+  /**
+   * Sets retry of failed parts of multipart uploads. A failed part is uploaded again from its
+   * buffer or file region up to maxRetries times, and at most retryBudget parts are retried in an
+   * upload. Part retry is on by default with {@link MinioAsyncClient#DEFAULT_PART_MAX_RETRIES}
+   * retries, {@link MinioAsyncClient#DEFAULT_PART_RETRY_DELAY_MS} delay and {@link
+   * MinioAsyncClient#DEFAULT_PART_RETRY_BUDGET} budget. While part retry is on, part requests are
+   * retried only by this setting, not by {@link #setRetry}. Zero maxRetries disables part retry,
+   * and part requests are then retried on retriable HTTP status as other requests are.
+   *
+   * <pre>Example:{@code
+   * minioClient.setPartRetry(5, 1000, 50);
+   * }</pre>
+   *
+   * @param maxRetries Maximum number of retries of a part.
+   * @param delayMs Base delay between retries.
+   * @param retryBudget Maximum number of part retries of an upload.
+   */
+  public void setPartRetry(int maxRetries, long delayMs, int retryBudget) {
+    asyncClient.setPartRetry(maxRetries, delayMs, retryBudget);
+  }
+
+  /** Gets upload scheduler of this client to monitor its part buffer usage. */
+  public UploadScheduler uploadScheduler() {
+    return asyncClient.uploadScheduler();
+  }
+
   /** Closes underneath async client. */
   @Override
   public void close() throws Exception {
@@ -2057,6 +2124,45 @@ public class MinioClient implements AutoCloseable {
       return this;
     }
 
+    /**
+     * Sets maximum number of worker threads and part buffers of client-wide scheduler used by
+     * parallel multipart uploads.
+     */
+    public Builder uploadScheduler(int maxThreads, int maxBuffers) {
+      asyncClientBuilder.uploadScheduler(maxThreads, maxBuffers);
+      return this;
+    }
+
+    /**
+     * Sets maximum number of worker threads, part buffers and total bytes of part buffers of
+     * client-wide scheduler used by parallel multipart uploads. Once the budget is used up, a new
+     * upload waits for buffers, or fails if failFast is set.
+     */
+    public Builder uploadScheduler(
+        int maxThreads, int maxBuffers, long maxBufferBytes, boolean failFast) {
+      asyncClientBuilder.uploadScheduler(maxThreads, maxBuffers, maxBufferBytes, failFast);
+      return this;
+    }
+
+    public Builder uploadScheduler(UploadScheduler uploadScheduler) {
+      asyncClientBuilder.uploadScheduler(uploadScheduler);
+      return this;
+    }
+
+    public Builder uploadScheduler(UploadScheduler uploadScheduler, boolean close) {
+      asyncClientBuilder.uploadScheduler(uploadScheduler, close);
+      return this;
+    }
+
+    /**
+     * Sets whether streaming checksum is used. Upload payload is sent as aws-chunked encoded data
+     * with its checksum in the trailer.
+     */
+    public Builder streamingChecksum(boolean streamingChecksum) {
+      asyncClientBuilder.streamingChecksum(streamingChecksum);
+      return this;
+    }
+
     public MinioClient build() {
       MinioAsyncClient asyncClient = asyncClientBuilder.build();
       return new MinioClient(asyncClient);
@@ -0,0 +1,190 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage,
+ * (C) 2025 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.zip.GZIPOutputStream;
+import org.xerial.snappy.Snappy;
+
+/**
+ * Output stream compressing blocks of written data on worker threads and writing compressed blocks
+ * in order. Blocks are compressed independently and written in a format readable by a sequential
+ * reader of the codec: {@link Codec#SNAPPY} writes framed Snappy chunks after single stream
+ * identifier, and {@link Codec#GZIP} writes one GZIP member per block. At most twice parallelism
+ * blocks are pending at a time.
+ */
+public class ParallelCompressedOutputStream extends OutputStream {
+  /** Maximum uncompressed size of a framed Snappy chunk. */
+  public static final int SNAPPY_CHUNK_SIZE = 65536;
+  /** Uncompressed size of a block compressed by a worker. */
+  public static final int BLOCK_SIZE = SNAPPY_CHUNK_SIZE * 16;
+
+  private static final byte[] SNAPPY_STREAM_IDENTIFIER =
+      new byte[] {(byte) 0xff, 0x06, 0x00, 0x00, 0x73, 0x4e, 0x61, 0x50, 0x70, 0x59};
+  private static final int SNAPPY_COMPRESSED_CHUNK = 0x00;
+  private static final int SNAPPY_UNCOMPRESSED_CHUNK = 0x01;
+  // Compressed chunk is written only if it saves at least 1/8 of uncompressed size.
+  private static final double SNAPPY_MIN_COMPRESSION_RATIO = 0.875;
+
+  private final OutputStream out;
+  private final Codec codec;
+  private final Executor executor;
+  private final int maxPending;
+  private final Deque<CompletableFuture<byte[]>> pending = new ArrayDeque<>();
+  private byte[] block = new byte[BLOCK_SIZE];
+  private int count = 0;
+  private boolean submitted = false;
+  private boolean closed = false;
+
+  /**
+   * Creates stream writing data compressed by given codec to given stream, compressing at most
+   * parallelism blocks at a time on given executor.
+   */
+  public ParallelCompressedOutputStream(
+      OutputStream out, Codec codec, Executor executor, int parallelism) throws IOException {
+    if (parallelism <= 0) throw new IllegalArgumentException("valid parallelism must be provided");
+    this.out = Objects.requireNonNull(out, "output stream must not be null");
+    this.codec = Objects.requireNonNull(codec, "codec must not be null");
+    this.executor = Objects.requireNonNull(executor, "executor must not be null");
+    this.maxPending = parallelism * 2;
+    if (codec == Codec.SNAPPY) out.write(SNAPPY_STREAM_IDENTIFIER);
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    write(new byte[] {(byte) b}, 0, 1);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    if (off < 0 || len < 0 || len > b.length - off) throw new IndexOutOfBoundsException();
+    if (closed) throw new IOException("stream closed");
+    while (len > 0) {
+      int n = Math.min(len, block.length - count);
+      System.arraycopy(b, off, block, count, n);
+      count += n;
+      off += n;
+      len -= n;
+      if (count == block.length) submit();
+    }
+  }
+
+  private void submit() throws IOException {
+    final byte[] data = block;
+    final int length = count;
+    pending.add(CompletableFuture.supplyAsync(() -> compress(data, length), executor));
+    submitted = true;
+    block = new byte[BLOCK_SIZE];
+    count = 0;
+    while (pending.size() > maxPending) writeNext();
+  }
+
+  private void writeNext() throws IOException {
+    try {
+      out.write(pending.poll().join());
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) throw (IOException) cause;
+      throw new IOException(cause);
+    }
+  }
+
+  /** Compresses buffered data and writes all pending blocks before flushing underlying stream. */
+  @Override
+  public void flush() throws IOException {
+    if (count > 0) submit();
+    while (!pending.isEmpty()) writeNext();
+    out.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) return;
+    try {
+      // GZIP stream must have at least one member.
+      if (codec == Codec.GZIP && !submitted) submit();
+      flush();
+    } finally {
+      closed = true;
+      out.close();
+    }
+  }
+
+  private byte[] compress(byte[] data, int length) {
+    try {
+      if (codec == Codec.GZIP) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(baos)) {
+          gzip.write(data, 0, length);
+        }
+        return baos.toByteArray();
+      }
+
+      ByteArrayOutputStream baos = new ByteArrayOutputStream(length / 2);
+      byte[] compressed = new byte[Snappy.maxCompressedLength(SNAPPY_CHUNK_SIZE)];
+      for (int offset = 0; offset < length; offset += SNAPPY_CHUNK_SIZE) {
+        int n = Math.min(SNAPPY_CHUNK_SIZE, length - offset);
+        int crc = maskedCrc32c(data, offset, n);
+        int compressedLength = Snappy.compress(data, offset, n, compressed, 0);
+        if (compressedLength < n * SNAPPY_MIN_COMPRESSION_RATIO) {
+          writeSnappyChunkHeader(baos, SNAPPY_COMPRESSED_CHUNK, compressedLength + 4, crc);
+          baos.write(compressed, 0, compressedLength);
+        } else {
+          writeSnappyChunkHeader(baos, SNAPPY_UNCOMPRESSED_CHUNK, n + 4, crc);
+          baos.write(data, offset, n);
+        }
+      }
+      return baos.toByteArray();
+    } catch (IOException e) {
+      throw new CompletionException(e);
+    }
+  }
+
+  private static int maskedCrc32c(byte[] data, int offset, int length) {
+    Checksum.CRC32C crc32c = new Checksum.CRC32C();
+    crc32c.update(data, offset, length);
+    int crc = (int) crc32c.getValue();
+    return ((crc >>> 15) | (crc << 17)) + 0xa282ead8;
+  }
+
+  private static void writeSnappyChunkHeader(
+      ByteArrayOutputStream baos, int type, int length, int crc) {
+    baos.write(type);
+    baos.write(length);
+    baos.write(length >>> 8);
+    baos.write(length >>> 16);
+    baos.write(crc);
+    baos.write(crc >>> 8);
+    baos.write(crc >>> 16);
+    baos.write(crc >>> 24);
+  }
+
+  /** Compression codec of {@link ParallelCompressedOutputStream}. */
+  public enum Codec {
+    SNAPPY,
+    GZIP;
+  }
+}
@@ -160,6 +160,15 @@ public class PartReader {
     if (eof && partCount < 0) partCount = partNumber;
   }
 
+  /** Sets size of next parts of stream of unknown size. */
+  public void setPartSize(long partSize) {
+    if (partCount >= 0) throw new IllegalStateException("part size of known sized data is fixed");
+    if (partSize < ObjectWriteArgs.MIN_MULTIPART_SIZE || partSize > ObjectWriteArgs.MAX_PART_SIZE) {
+      throw new IllegalArgumentException("valid part size must be provided");
+    }
+    this.partSize = partSize;
+  }
+
   public Map<Checksum.Algorithm, Checksum.Hasher> hashers() {
     return hashers;
   }
@@ -16,6 +16,7 @@
 
 package io.minio;
 
+import java.io.InputStream;
 import java.io.RandomAccessFile;
 import java.util.Objects;
 import okhttp3.MediaType;
@@ -55,6 +56,16 @@ public class PutObjectAPIArgs extends PutObjectAPIBaseArgs {
     this.contentType = contentType;
   }
 
+  public PutObjectAPIArgs(
+      PutObjectBaseArgs args,
+      InputStream stream,
+      long length,
+      MediaType contentType,
+      Http.Headers checksumHeaders) {
+    super(args, stream, length, args.makeHeaders(contentType, checksumHeaders));
+    this.contentType = contentType;
+  }
+
   public PutObjectAPIArgs(AppendObjectArgs args, ByteBuffer buffer, Http.Headers headers) {
     super(args, buffer, headers);
   }
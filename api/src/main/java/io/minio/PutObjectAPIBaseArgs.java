@@ -16,6 +16,7 @@
 
 package io.minio;
 
+import java.io.InputStream;
 import java.io.RandomAccessFile;
 import java.util.Arrays;
 import java.util.Objects;
@@ -23,8 +24,10 @@ import java.util.Objects;
 /** Arguments of {@link BaseS3Client#putObject}. */
 public abstract class PutObjectAPIBaseArgs extends ObjectArgs {
   protected RandomAccessFile file;
+  protected Long position;
   protected ByteBuffer buffer;
   protected byte[] data;
+  protected InputStream stream;
   protected Long length;
   protected Http.Headers headers;
 
@@ -47,6 +50,16 @@ public abstract class PutObjectAPIBaseArgs extends ObjectArgs {
     this.length = length;
   }
 
+  protected PutObjectAPIBaseArgs(
+      PutObjectBaseArgs args,
+      RandomAccessFile file,
+      long position,
+      long length,
+      Http.Headers headers) {
+    this(args, file, length, headers);
+    this.position = position;
+  }
+
   protected PutObjectAPIBaseArgs(
       PutObjectBaseArgs args, byte[] data, int length, Http.Headers headers) {
     this(args, headers);
@@ -54,6 +67,13 @@ public abstract class PutObjectAPIBaseArgs extends ObjectArgs {
     this.length = (long) length;
   }
 
+  protected PutObjectAPIBaseArgs(
+      PutObjectBaseArgs args, InputStream stream, long length, Http.Headers headers) {
+    this(args, headers);
+    this.stream = stream;
+    this.length = length;
+  }
+
   private PutObjectAPIBaseArgs(AppendObjectArgs args, Http.Headers headers) {
     super(args);
     this.headers = headers;
@@ -98,6 +118,11 @@ public abstract class PutObjectAPIBaseArgs extends ObjectArgs {
     return file;
   }
 
+  /** Gets position of data in file, or null if data starts at current file pointer. */
+  public Long position() {
+    return position;
+  }
+
   public ByteBuffer buffer() {
     return buffer;
   }
@@ -106,6 +131,11 @@ public abstract class PutObjectAPIBaseArgs extends ObjectArgs {
     return data;
   }
 
+  /** Gets stream of data, which is read once while the request is sent. */
+  public InputStream stream() {
+    return stream;
+  }
+
   public Long length() {
     return length;
   }
@@ -120,16 +150,23 @@ public abstract class PutObjectAPIBaseArgs extends ObjectArgs {
       extends ObjectArgs.Builder<B, A> {
     protected void validate(A args) {
       super.validate(args);
-      if (!((args.file != null) != (args.buffer != null) != (args.data != null)
-          && !(args.file != null && args.buffer != null && args.data != null))) {
-        throw new IllegalArgumentException("only one of file, buffer or data must be provided");
+      int count = 0;
+      if (args.file != null) count++;
+      if (args.buffer != null) count++;
+      if (args.data != null) count++;
+      if (args.stream != null) count++;
+      if (count != 1) {
+        throw new IllegalArgumentException(
+            "only one of file, buffer, data or stream must be provided");
       }
     }
 
     public B setData(RandomAccessFile file, ByteBuffer buffer, byte[] data, Long length) {
       operations.add(args -> args.file = file);
+      operations.add(args -> args.position = null);
       operations.add(args -> args.buffer = buffer);
       operations.add(args -> args.data = data);
+      operations.add(args -> args.stream = null);
       operations.add(args -> args.length = length);
       return (B) this;
     }
@@ -140,6 +177,13 @@ public abstract class PutObjectAPIBaseArgs extends ObjectArgs {
       return setData(file, null, null, length);
     }
 
+    public B file(RandomAccessFile file, long position, long length) {
+      if (position < 0) throw new IllegalArgumentException("valid position must be provided");
+      file(file, length);
+      operations.add(args -> args.position = position);
+      return (B) this;
+    }
+
     public B buffer(ByteBuffer buffer) {
       Utils.validateNotNull(buffer, "buffer");
       return setData(null, buffer, null, null);
@@ -151,6 +195,18 @@ public abstract class PutObjectAPIBaseArgs extends ObjectArgs {
       return setData(null, null, data, (long) length);
     }
 
+    /**
+     * Sets length bytes of stream as data. As the stream cannot be read twice, its checksum is sent
+     * in the trailer unless checksum headers are provided.
+     */
+    public B stream(InputStream stream, long length) {
+      Utils.validateNotNull(stream, "stream");
+      if (length < 0) throw new IllegalArgumentException("valid length must be provided");
+      setData(null, null, null, length);
+      operations.add(args -> args.stream = stream);
+      return (B) this;
+    }
+
     public B headers(Http.Headers headers) {
       operations.add(args -> args.headers = headers);
       return (B) this;
@@ -164,14 +220,16 @@ public abstract class PutObjectAPIBaseArgs extends ObjectArgs {
     if (!super.equals(o)) return false;
     PutObjectAPIBaseArgs that = (PutObjectAPIBaseArgs) o;
     return Objects.equals(file, that.file)
+        && Objects.equals(position, that.position)
         && Objects.equals(buffer, that.buffer)
         && Arrays.equals(data, that.data)
+        && Objects.equals(stream, that.stream)
         && Objects.equals(length, that.length)
         && Objects.equals(headers, that.headers);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(super.hashCode(), file, buffer, data, length, headers);
+    return Objects.hash(super.hashCode(), file, position, buffer, data, stream, length, headers);
   }
 }
@@ -30,6 +30,26 @@ public class PutObjectArgs extends PutObjectBaseArgs {
   private InputStream stream;
   private byte[] data;
 
+  protected PutObjectArgs() {}
+
+  /**
+   * Creates arguments to upload stream of unknown size in parts of given size with given headers
+   * instead of headers of the write arguments.
+   */
+  public PutObjectArgs(
+      ObjectWriteArgs args,
+      Http.Headers headers,
+      InputStream stream,
+      long partSize,
+      int parallelUploads) {
+    super(args);
+    this.headers = headers;
+    this.stream = stream;
+    this.partSize = partSize;
+    this.partCount = -1;
+    this.parallelUploads = parallelUploads;
+  }
+
   public InputStream stream() {
     return stream;
   }
@@ -27,10 +27,18 @@ public abstract class PutObjectBaseArgs extends ObjectWriteArgs {
   protected int partCount;
   protected MediaType contentType;
   protected Checksum.Algorithm checksum;
+  protected Checksum.Type checksumType;
   protected int parallelUploads;
+  protected boolean adaptiveUploads;
   protected long delayMs = 200L;
   protected int maxRetries = 5;
 
+  protected PutObjectBaseArgs() {}
+
+  protected PutObjectBaseArgs(ObjectWriteArgs args) {
+    super(args);
+  }
+
   public Long objectSize() {
     return objectSize;
   }
@@ -51,10 +59,27 @@ public abstract class PutObjectBaseArgs extends ObjectWriteArgs {
     return checksum;
   }
 
+  /** Gets checksum type of multipart upload, or null to use composite checksum when supported. */
+  public Checksum.Type checksumType() {
+    return checksumType;
+  }
+
   public int parallelUploads() {
     return parallelUploads;
   }
 
+  public boolean adaptiveUploads() {
+    return adaptiveUploads;
+  }
+
+  /**
+   * Gets maximum number of parts in flight of adaptive upload, which is parallel uploads, or {@link
+   * AdaptiveUploadWindow#DEFAULT_MAX_WINDOW} if parallel uploads is not set to a positive value.
+   */
+  public int adaptiveMaxWindow() {
+    return parallelUploads > 0 ? parallelUploads : AdaptiveUploadWindow.DEFAULT_MAX_WINDOW;
+  }
+
   public long delayMs() {
     return delayMs;
   }
@@ -72,10 +97,20 @@ public abstract class PutObjectBaseArgs extends ObjectWriteArgs {
       if (args.checksum != null
           && args.partCount > 0
           && (!(args.partCount == 1 && args.checksum.fullObjectSupport()
-              || args.partCount > 1 && args.checksum.compositeSupport()))) {
+              || args.partCount > 1
+                  && (args.checksum.compositeSupport()
+                      || args.checksum.fullObjectSupport()
+                          && args.checksumType != Checksum.Type.COMPOSITE)))) {
         throw new IllegalArgumentException(
             "unsupported checksum " + args.checksum + " for part count " + args.partCount);
       }
+      Checksum.Algorithm algorithm =
+          args.checksum != null ? args.checksum : Checksum.Algorithm.CRC32C;
+      if (args.checksumType == Checksum.Type.FULL_OBJECT && !algorithm.fullObjectSupport()
+          || args.checksumType == Checksum.Type.COMPOSITE && !algorithm.compositeSupport()) {
+        throw new IllegalArgumentException(
+            "unsupported checksum type " + args.checksumType + " for checksum " + algorithm);
+      }
     }
 
     protected long[] getPartInfo(Long objectSize, Long partSize) {
@@ -144,11 +179,32 @@ public abstract class PutObjectBaseArgs extends ObjectWriteArgs {
       return (B) this;
     }
 
+    /**
+     * Sets checksum type of multipart upload. For {@link Checksum.Type#FULL_OBJECT}, checksum of
+     * whole object is combined from checksums of parts uploaded in parallel.
+     */
+    public B checksumType(Checksum.Type checksumType) {
+      operations.add(args -> args.checksumType = checksumType);
+      return (B) this;
+    }
+
     public B parallelUploads(int parallelUploads) {
       operations.add(args -> args.parallelUploads = parallelUploads);
       return (B) this;
     }
 
+    /**
+     * Enables adaptive multipart upload. Number of parts in flight is tuned by measured throughput
+     * up to parallel uploads (or {@link AdaptiveUploadWindow#DEFAULT_MAX_WINDOW} if it is not set
+     * to a positive value), and part size grows for stream of unknown size, within byte budget of
+     * part buffers of upload scheduler or up to {@link AdaptiveUploadWindow#DEFAULT_MAX_PART_SIZE}
+     * without the budget. See {@link AdaptiveUploadWindow}.
+     */
+    public B adaptiveUploads(boolean adaptiveUploads) {
+      operations.add(args -> args.adaptiveUploads = adaptiveUploads);
+      return (B) this;
+    }
+
     /** Set delay between retries. Value &lt;= 0 disables retry (default 200ms). */
     public B delayMs(long delayMs) {
       operations.add(args -> args.delayMs = delayMs);
@@ -173,7 +229,9 @@ public abstract class PutObjectBaseArgs extends ObjectWriteArgs {
         && partCount == that.partCount
         && Objects.equals(contentType, that.contentType)
         && Objects.equals(checksum, that.checksum)
+        && Objects.equals(checksumType, that.checksumType)
         && parallelUploads == that.parallelUploads
+        && adaptiveUploads == that.adaptiveUploads
         && delayMs == that.delayMs
         && maxRetries == that.maxRetries;
   }
@@ -187,7 +245,9 @@ public abstract class PutObjectBaseArgs extends ObjectWriteArgs {
         partCount,
         contentType,
         checksum,
+        checksumType,
         parallelUploads,
+        adaptiveUploads,
         delayMs,
         maxRetries);
   }
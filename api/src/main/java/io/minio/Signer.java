@@ -233,6 +233,19 @@ public class Signer {
             + this.contentSha256;
   }
 
+  private void setTrailerStringToSign() {
+    this.stringToSign =
+        "AWS4-HMAC-SHA256-TRAILER"
+            + "\n"
+            + this.date.format(Time.AMZ_DATE_FORMAT)
+            + "\n"
+            + this.scope
+            + "\n"
+            + this.prevSignature
+            + "\n"
+            + this.contentSha256;
+  }
+
   private void setSigningKey(String serviceName) throws MinioException {
     String aws4SecretKey = "AWS4" + this.secretKey;
 
@@ -280,6 +293,23 @@ public class Signer {
     return signer.signature;
   }
 
+  /** Returns trailer signature calculated using given arguments. */
+  public static String getTrailerSignature(
+      String trailerSha256,
+      ZonedDateTime date,
+      String region,
+      String secretKey,
+      String prevSignature)
+      throws MinioException {
+    Signer signer = new Signer(null, trailerSha256, date, region, null, secretKey, prevSignature);
+    signer.setScope("s3");
+    signer.setTrailerStringToSign();
+    signer.setSigningKey("s3");
+    signer.setSignature();
+
+    return signer.signature;
+  }
+
   /** Returns signed request object for given request, region, access key and secret key. */
   private static Request signV4(
       String serviceName,
@@ -0,0 +1,202 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage,
+ * (C) 2025 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.minio;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.Buffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Pool of fixed size slabs shared by {@link ByteBuffer}s. Slabs are on heap by default. A pool
+ * created by {@link #direct} uses off-heap slabs from an arena capped at given bytes; direct slabs
+ * are kept in the arena for reuse as their memory is released only by garbage collection, and heap
+ * slabs are used once the arena is full.
+ *
+ * <p>Direct slabs return to the arena when their {@link ByteBuffer} is closed, so buffers of a
+ * direct pool must be closed. Slabs of a buffer garbage collected without being closed, e.g. one
+ * abandoned on an error path, are put back once the collection is noticed by this pool.
+ */
+public class SlabPool {
+  /** Default slab size of 1MiB. */
+  public static final int DEFAULT_SLAB_SIZE = 1024 * 1024;
+  /** Default maximum number of idle heap slabs kept in pool. */
+  public static final int DEFAULT_MAX_IDLE_SLABS = 64;
+  /**
+   * Default pool used by {@link ByteBuffer}. As it lives as long as the JVM, it keeps only a few
+   * idle slabs; {@link UploadScheduler} uses its own pool for part buffers.
+   */
+  public static final SlabPool DEFAULT = new SlabPool(DEFAULT_SLAB_SIZE, 4);
+
+  private final int slabSize;
+  private final int maxIdleSlabs;
+  private final long maxDirectBytes;
+
+  // Guarded by this.
+  private final Deque<java.nio.ByteBuffer> idleSlabs = new ArrayDeque<>();
+  private final Deque<java.nio.ByteBuffer> idleDirectSlabs = new ArrayDeque<>();
+  private long directBytes = 0;
+  private final Set<Owner> owners = new HashSet<>();
+
+  private final ReferenceQueue<Object> collectedOwners = new ReferenceQueue<>();
+
+  /** Slabs of a registered owner, which are put back if the owner is garbage collected. */
+  private static class Owner extends WeakReference<Object> {
+    private final List<java.nio.ByteBuffer> slabs;
+
+    private Owner(Object owner, List<java.nio.ByteBuffer> slabs, ReferenceQueue<Object> queue) {
+      super(owner, queue);
+      this.slabs = slabs;
+    }
+  }
+
+  private SlabPool(int slabSize, int maxIdleSlabs, long maxDirectBytes) {
+    if (slabSize <= 0) throw new IllegalArgumentException("valid slab size must be provided");
+    if (maxIdleSlabs < 0) {
+      throw new IllegalArgumentException("valid max idle slabs must be provided");
+    }
+    if (maxDirectBytes < 0) {
+      throw new IllegalArgumentException("valid max direct bytes must be provided");
+    }
+    this.slabSize = slabSize;
+    this.maxIdleSlabs = maxIdleSlabs;
+    this.maxDirectBytes = maxDirectBytes;
+  }
+
+  /** Creates pool of given slab size keeping at most maxIdleSlabs idle heap slabs. */
+  public SlabPool(int slabSize, int maxIdleSlabs) {
+    this(slabSize, maxIdleSlabs, 0);
+  }
+
+  /** Creates pool of direct slabs of given size allocating at most maxDirectBytes off heap. */
+  public static SlabPool direct(int slabSize, long maxDirectBytes) {
+    return new SlabPool(slabSize, DEFAULT_MAX_IDLE_SLABS, maxDirectBytes);
+  }
+
+  /** Creates pool of direct slabs of default size allocating at most maxDirectBytes off heap. */
+  public static SlabPool direct(long maxDirectBytes) {
+    return direct(DEFAULT_SLAB_SIZE, maxDirectBytes);
+  }
+
+  public int slabSize() {
+    return slabSize;
+  }
+
+  public int maxIdleSlabs() {
+    return maxIdleSlabs;
+  }
+
+  public long maxDirectBytes() {
+    return maxDirectBytes;
+  }
+
+  /** Returns whether this pool allocates direct slabs. */
+  public boolean isDirect() {
+    return maxDirectBytes > 0;
+  }
+
+  /** Returns number of idle slabs in this pool. */
+  public synchronized int idleSlabs() {
+    reclaim();
+    return idleSlabs.size() + idleDirectSlabs.size();
+  }
+
+  /** Returns bytes of direct slabs allocated by this pool. */
+  public synchronized long directBytes() {
+    return directBytes;
+  }
+
+  /** Returns bytes of direct slabs taken from this pool and not put back yet. */
+  public synchronized long outstandingDirectBytes() {
+    reclaim();
+    return directBytes - (long) idleDirectSlabs.size() * slabSize;
+  }
+
+  /**
+   * Registers slabs of given owner taken from this pool. Slabs left in the list when the owner is
+   * garbage collected without {@link #unregister} are put back to this pool.
+   */
+  Object register(Object owner, List<java.nio.ByteBuffer> slabs) {
+    if (!isDirect()) return null;
+    Owner registration = new Owner(owner, slabs, collectedOwners);
+    synchronized (this) {
+      owners.add(registration);
+    }
+    return registration;
+  }
+
+  /** Unregisters owner registered by {@link #register} after its slabs are put back. */
+  synchronized void unregister(Object registration) {
+    if (registration != null) owners.remove(registration);
+  }
+
+  // Must be called with lock held.
+  private void reclaim() {
+    Owner owner;
+    while ((owner = (Owner) collectedOwners.poll()) != null) {
+      if (!owners.remove(owner)) continue;
+      for (java.nio.ByteBuffer slab : owner.slabs) {
+        if (slab.isDirect() && slab.capacity() == slabSize) {
+          ((Buffer) slab).clear();
+          idleDirectSlabs.add(slab);
+        }
+      }
+      owner.slabs.clear();
+    }
+  }
+
+  /**
+   * Takes an idle slab from this pool, or allocates new slab if this pool is empty. Direct slabs
+   * are preferred if this pool is direct.
+   */
+  public java.nio.ByteBuffer take() {
+    synchronized (this) {
+      reclaim();
+      java.nio.ByteBuffer slab = idleDirectSlabs.poll();
+      if (slab != null) return slab;
+      if (directBytes + slabSize <= maxDirectBytes) {
+        directBytes += slabSize;
+        return java.nio.ByteBuffer.allocateDirect(slabSize);
+      }
+      slab = idleSlabs.poll();
+      if (slab != null) return slab;
+    }
+    return java.nio.ByteBuffer.allocate(slabSize);
+  }
+
+  /** Drops idle heap slabs of this pool. */
+  public synchronized void clear() {
+    idleSlabs.clear();
+  }
+
+  /** Puts back the slab taken by {@link #take}; heap slab is dropped if this pool is full. */
+  public void put(java.nio.ByteBuffer slab) {
+    if (slab == null || slab.capacity() != slabSize) return;
+    ((Buffer) slab).clear();
+    synchronized (this) {
+      if (slab.isDirect()) {
+        idleDirectSlabs.add(slab);
+      } else if (idleSlabs.size() < maxIdleSlabs) {
+        idleSlabs.add(slab);
+      }
+    }
+  }
+}
@@ -0,0 +1,330 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage,
+ * (C) 2025 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.minio.errors.MinioException;
+import io.minio.messages.Part;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import okhttp3.Headers;
+
+/**
+ * Checkpoint of resumable multipart upload of {@link MinioAsyncClient#uploadObject}. It is saved as
+ * JSON lines file so that an interrupted upload is resumed by uploading only missing parts. First
+ * line holds the upload and parts known at its start; each uploaded part is appended as a line.
+ */
+public class UploadCheckpoint {
+  private static final ObjectMapper objectMapper =
+      JsonMapper.builder()
+          .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+          .build();
+
+  private Path path;
+
+  @JsonProperty("bucket")
+  private String bucket;
+
+  @JsonProperty("object")
+  private String object;
+
+  @JsonProperty("fileSize")
+  private long fileSize;
+
+  @JsonProperty("fileLastModified")
+  private long fileLastModified;
+
+  @JsonProperty("partSize")
+  private long partSize;
+
+  @JsonProperty("partCount")
+  private int partCount;
+
+  @JsonProperty("checksum")
+  private String checksum;
+
+  @JsonProperty("checksumType")
+  private String checksumType;
+
+  @JsonProperty("uploadId")
+  private String uploadId;
+
+  @JsonProperty("parts")
+  private TreeMap<Integer, Entry> parts = new TreeMap<>();
+
+  // Parts added but not yet appended to the file. Guarded by this.
+  private List<Entry> unsavedParts = new ArrayList<>();
+  // Serializes writes of the file; it is taken before this.
+  private final Object fileLock = new Object();
+
+  public UploadCheckpoint() {}
+
+  private UploadCheckpoint(Path path, UploadObjectArgs args, long fileLastModified) {
+    this.path = path;
+    this.bucket = args.bucket();
+    this.object = args.object();
+    this.fileSize = args.objectSize();
+    this.fileLastModified = fileLastModified;
+    this.partSize = args.partSize();
+    this.partCount = args.partCount();
+    this.checksum = args.checksum() == null ? null : args.checksum().name();
+    this.checksumType = args.checksumType() == null ? null : args.checksumType().name();
+  }
+
+  /**
+   * Loads checkpoint of given upload from given file. Upload ID and parts in the file are used only
+   * if the file is saved for the same object, file content and part size.
+   */
+  public static UploadCheckpoint load(String filename, UploadObjectArgs args)
+      throws MinioException {
+    try {
+      Path path = Paths.get(filename);
+      UploadCheckpoint checkpoint =
+          new UploadCheckpoint(
+              path, args, Files.getLastModifiedTime(Paths.get(args.filename())).toMillis());
+      if (!Files.exists(path)) return checkpoint;
+
+      List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+      if (lines.isEmpty()) return checkpoint;
+      UploadCheckpoint saved = objectMapper.readValue(lines.get(0), UploadCheckpoint.class);
+      for (int i = 1; i < lines.size(); i++) {
+        Entry entry = null;
+        try {
+          entry = objectMapper.readValue(lines.get(i), Entry.class);
+        } catch (JsonProcessingException e) {
+          // Last line may be partially written by an interrupted upload.
+          if (i == lines.size() - 1) break;
+          throw e;
+        }
+        if (entry.partNumber != null) saved.parts.put(entry.partNumber, entry);
+      }
+      checkpoint.resume(saved);
+      return checkpoint;
+    } catch (IOException e) {
+      throw new MinioException(e);
+    }
+  }
+
+  private synchronized void resume(UploadCheckpoint saved) {
+    String savedUploadId = saved.uploadId();
+    if (savedUploadId != null && matches(saved)) {
+      uploadId = savedUploadId;
+      if (saved.parts != null) parts.putAll(saved.parts);
+    }
+  }
+
+  private boolean matches(UploadCheckpoint saved) {
+    return Objects.equals(bucket, saved.bucket)
+        && Objects.equals(object, saved.object)
+        && fileSize == saved.fileSize
+        && fileLastModified == saved.fileLastModified
+        && partSize == saved.partSize
+        && partCount == saved.partCount
+        && Objects.equals(checksum, saved.checksum)
+        && Objects.equals(checksumType, saved.checksumType);
+  }
+
+  /** Gets upload ID to resume, or null if there is no upload to resume. */
+  public synchronized String uploadId() {
+    return uploadId;
+  }
+
+  public synchronized boolean hasPart(int partNumber) {
+    return parts.containsKey(partNumber);
+  }
+
+  /** Starts checkpoint of new upload of given upload ID and saves it. */
+  public void start(String uploadId) throws MinioException {
+    synchronized (fileLock) {
+      synchronized (this) {
+        this.uploadId = uploadId;
+        this.parts.clear();
+      }
+      save();
+    }
+  }
+
+  /**
+   * Keeps only parts those are listed by the server with same ETag and size, and saves this
+   * checkpoint.
+   */
+  public void retain(List<Part> serverParts) throws MinioException {
+    Map<Integer, Part> listed = new TreeMap<>();
+    for (Part part : serverParts) listed.put(part.partNumber(), part);
+    synchronized (fileLock) {
+      synchronized (this) {
+        parts
+            .entrySet()
+            .removeIf(
+                entry -> {
+                  Part part = listed.get(entry.getKey());
+                  return part == null
+                      || !part.etag().equals(entry.getValue().etag)
+                      || !Objects.equals(part.partSize(), entry.getValue().size);
+                });
+      }
+      save();
+    }
+  }
+
+  /**
+   * Adds uploaded part. It is written to the file by next {@link #saveAddedParts}, so that this
+   * method does no I/O.
+   */
+  public synchronized void add(UploadPartResponse response) {
+    Part part = response.part();
+    Entry entry = new Entry();
+    entry.partNumber = part.partNumber();
+    entry.etag = part.etag();
+    entry.size = response.partSize();
+    entry.checksumCRC32 = part.checksumCRC32();
+    entry.checksumCRC32C = part.checksumCRC32C();
+    entry.checksumCRC64NVME = part.checksumCRC64NVME();
+    entry.checksumSHA1 = part.checksumSHA1();
+    entry.checksumSHA256 = part.checksumSHA256();
+    parts.put(part.partNumber(), entry);
+    unsavedParts.add(entry);
+  }
+
+  /**
+   * Appends parts added since last save to the file as one line per part. Parts added by concurrent
+   * {@link #add} calls meanwhile are written by next call.
+   */
+  public void saveAddedParts() throws MinioException {
+    synchronized (fileLock) {
+      List<Entry> entries;
+      synchronized (this) {
+        if (unsavedParts.isEmpty()) return;
+        entries = unsavedParts;
+        unsavedParts = new ArrayList<>();
+      }
+      try {
+        StringBuilder builder = new StringBuilder();
+        for (Entry entry : entries) {
+          builder.append(objectMapper.writeValueAsString(entry)).append('\n');
+        }
+        Files.write(
+            path,
+            builder.toString().getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.APPEND);
+      } catch (IOException e) {
+        throw new MinioException(e);
+      }
+    }
+  }
+
+  /** Gets responses of all uploaded parts in part number order. */
+  public synchronized List<UploadPartResponse> responses() {
+    List<UploadPartResponse> responses = new ArrayList<>();
+    for (Map.Entry<Integer, Entry> entry : parts.entrySet()) {
+      responses.add(entry.getValue().toResponse(bucket, object, uploadId, entry.getKey()));
+    }
+    return responses;
+  }
+
+  // Rewrites the file by this checkpoint as first line. Must be called with fileLock held.
+  private void save() throws MinioException {
+    Path tempPath = Paths.get(path.toString() + ".tmp");
+    try {
+      String line;
+      synchronized (this) {
+        line = objectMapper.writeValueAsString(this) + "\n";
+        unsavedParts.clear();
+      }
+      Files.write(tempPath, line.getBytes(StandardCharsets.UTF_8));
+      try {
+        Files.move(
+            tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (IOException e) {
+      throw new MinioException(e);
+    }
+  }
+
+  /** Deletes checkpoint file. */
+  public void delete() throws MinioException {
+    synchronized (fileLock) {
+      try {
+        Files.deleteIfExists(path);
+      } catch (IOException e) {
+        throw new MinioException(e);
+      }
+    }
+  }
+
+  /** Uploaded part of {@link UploadCheckpoint}. */
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  public static class Entry {
+    @JsonProperty("partNumber")
+    private Integer partNumber;
+
+    @JsonProperty("etag")
+    private String etag;
+
+    @JsonProperty("size")
+    private Long size;
+
+    @JsonProperty("checksumCRC32")
+    private String checksumCRC32;
+
+    @JsonProperty("checksumCRC32C")
+    private String checksumCRC32C;
+
+    @JsonProperty("checksumCRC64NVME")
+    private String checksumCRC64NVME;
+
+    @JsonProperty("checksumSHA1")
+    private String checksumSHA1;
+
+    @JsonProperty("checksumSHA256")
+    private String checksumSHA256;
+
+    public Entry() {}
+
+    private UploadPartResponse toResponse(
+        String bucket, String object, String uploadId, int partNumber) {
+      Headers.Builder builder = new Headers.Builder();
+      if (checksumCRC32 != null) builder.add("x-amz-checksum-crc32", checksumCRC32);
+      if (checksumCRC32C != null) builder.add("x-amz-checksum-crc32c", checksumCRC32C);
+      if (checksumCRC64NVME != null) builder.add("x-amz-checksum-crc64nvme", checksumCRC64NVME);
+      if (checksumSHA1 != null) builder.add("x-amz-checksum-sha1", checksumSHA1);
+      if (checksumSHA256 != null) builder.add("x-amz-checksum-sha256", checksumSHA256);
+      return new UploadPartResponse(
+          builder.build(), bucket, null, object, uploadId, partNumber, etag, size);
+    }
+  }
+}
@@ -26,11 +26,16 @@ import okhttp3.MediaType;
 /** Arguments of {@link MinioAsyncClient#uploadObject} and {@link MinioClient#uploadObject}. */
 public class UploadObjectArgs extends PutObjectBaseArgs {
   private String filename;
+  private String checkpoint;
 
   public String filename() {
     return filename;
   }
 
+  public String checkpoint() {
+    return checkpoint;
+  }
+
   public MediaType contentType() throws IOException {
     MediaType contentType = super.contentType();
     if (contentType != null) return contentType;
@@ -79,6 +84,17 @@ public class UploadObjectArgs extends PutObjectBaseArgs {
     public Builder filename(String filename) throws MinioException {
       return this.filename(filename, 0);
     }
+
+    /**
+     * Sets checkpoint file to make multipart upload resumable. Upload ID and uploaded parts are
+     * saved to the file after each part; on failure, the upload is not aborted and uploading again
+     * with the same checkpoint file uploads only missing parts.
+     */
+    public Builder checkpoint(String checkpoint) {
+      Utils.validateNullOrNotEmptyString(checkpoint, "checkpoint");
+      operations.add(args -> args.checkpoint = checkpoint);
+      return this;
+    }
   }
 
   @Override
@@ -87,11 +103,11 @@ public class UploadObjectArgs extends PutObjectBaseArgs {
     if (!(o instanceof UploadObjectArgs)) return false;
     if (!super.equals(o)) return false;
     UploadObjectArgs that = (UploadObjectArgs) o;
-    return Objects.equals(filename, that.filename);
+    return Objects.equals(filename, that.filename) && Objects.equals(checkpoint, that.checkpoint);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(super.hashCode(), filename);
+    return Objects.hash(super.hashCode(), filename, checkpoint);
   }
 }
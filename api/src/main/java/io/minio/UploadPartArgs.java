@@ -16,6 +16,8 @@
 
 package io.minio;
 
+import java.io.InputStream;
+import java.io.RandomAccessFile;
 import java.util.Objects;
 
 /** Arguments of {@link BaseS3Client#uploadPart}. */
@@ -40,6 +42,39 @@ public class UploadPartArgs extends PutObjectAPIBaseArgs {
     }
   }
 
+  /** Creates arguments to upload length bytes of the file starting at position as a part. */
+  public UploadPartArgs(
+      PutObjectBaseArgs args,
+      String uploadId,
+      int partNumber,
+      RandomAccessFile file,
+      long position,
+      long length,
+      Http.Headers checksumHeaders) {
+    super(args, file, position, length, checksumHeaders);
+    this.uploadId = uploadId;
+    this.partNumber = partNumber;
+    if (args.sse() != null && args.sse() instanceof ServerSideEncryption.CustomerKey) {
+      this.headers.putAll(args.sse().headers());
+    }
+  }
+
+  /** Creates arguments to upload next length bytes of the stream as a part. */
+  public UploadPartArgs(
+      PutObjectBaseArgs args,
+      String uploadId,
+      int partNumber,
+      InputStream stream,
+      long length,
+      Http.Headers checksumHeaders) {
+    super(args, stream, length, checksumHeaders);
+    this.uploadId = uploadId;
+    this.partNumber = partNumber;
+    if (args.sse() != null && args.sse() instanceof ServerSideEncryption.CustomerKey) {
+      this.headers.putAll(args.sse().headers());
+    }
+  }
+
   public String uploadId() {
     return uploadId;
   }
@@ -17,12 +17,16 @@
 package io.minio;
 
 import io.minio.messages.Part;
+import java.util.Collections;
+import java.util.Map;
 import okhttp3.Headers;
 
 /** Response of {@link BaseS3Client#uploadPart}. */
 public class UploadPartResponse extends GenericResponse {
   private String uploadId;
   private Part part;
+  private Long partSize;
+  private Map<Checksum.Algorithm, String> checksums = Collections.emptyMap();
 
   public UploadPartResponse(
       Headers headers,
@@ -45,6 +49,33 @@ public class UploadPartResponse extends GenericResponse {
             headers.get("x-amz-checksum-sha256"));
   }
 
+  public UploadPartResponse(
+      Headers headers,
+      String bucket,
+      String region,
+      String object,
+      String uploadId,
+      int partNumber,
+      String etag,
+      Long partSize) {
+    this(headers, bucket, region, object, uploadId, partNumber, etag);
+    this.partSize = partSize;
+  }
+
+  public UploadPartResponse(
+      Headers headers,
+      String bucket,
+      String region,
+      String object,
+      String uploadId,
+      int partNumber,
+      String etag,
+      Long partSize,
+      Map<Checksum.Algorithm, String> checksums) {
+    this(headers, bucket, region, object, uploadId, partNumber, etag, partSize);
+    this.checksums = Collections.unmodifiableMap(checksums);
+  }
+
   public String uploadId() {
     return uploadId;
   }
@@ -52,4 +83,17 @@ public class UploadPartResponse extends GenericResponse {
   public Part part() {
     return part;
   }
+
+  /** Gets size of uploaded part, or null if unknown. */
+  public Long partSize() {
+    return partSize;
+  }
+
+  /**
+   * Gets base64 encoded checksum of given algorithm computed by this client for the uploaded part,
+   * or null if it is not computed by this client, e.g. for a part restored from a checkpoint.
+   */
+  public String checksum(Checksum.Algorithm algorithm) {
+    return checksums.get(algorithm);
+  }
 }
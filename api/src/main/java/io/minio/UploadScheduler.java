@@ -0,0 +1,372 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage,
+ * (C) 2025 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import io.minio.errors.MinioException;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Client-wide scheduler to run parts of all in-flight multipart uploads of a client. It caps total
+ * worker threads, total part buffers and total bytes of part buffers, and picks parts of uploads in
+ * round-robin order so that a large upload does not starve others. Worker threads only read and
+ * hash parts; part data is sent by asynchronous HTTP calls.
+ */
+public class UploadScheduler implements AutoCloseable {
+  /** Default maximum number of worker threads. */
+  public static final int DEFAULT_MAX_THREADS =
+      Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+  /** Default maximum number of part buffers. */
+  public static final int DEFAULT_MAX_BUFFERS = DEFAULT_MAX_THREADS * 2;
+
+  private static final AtomicInteger SCHEDULER_COUNT = new AtomicInteger();
+
+  private final int maxThreads;
+  private final int maxBuffers;
+  private final long maxBufferBytes;
+  private final boolean failFast;
+  private final SlabPool slabPool;
+  private final boolean ownSlabPool;
+  private final ExecutorService executor;
+
+  // Guarded by this.
+  private final Deque<Session> readySessions = new ArrayDeque<>();
+  private final Deque<BufferRequest> bufferRequests = new ArrayDeque<>();
+  // Buffers taken and not yet put back; a buffer is released from the budget only once.
+  private final Set<ByteBuffer> takenBuffers = Collections.newSetFromMap(new IdentityHashMap<>());
+  private int usedBuffers = 0;
+  private long usedBufferBytes = 0;
+  private long peakBufferBytes = 0;
+
+  /**
+   * Creates scheduler with given maximum number of worker threads and part buffers, whose part
+   * buffers use at most maxBufferBytes in total from slabs of given pool. Once the budget is used
+   * up, a new upload waits for buffers put back by other uploads, or fails if failFast is set. Pass
+   * {@link SlabPool#direct} to keep part buffers off heap.
+   */
+  public UploadScheduler(
+      int maxThreads, int maxBuffers, long maxBufferBytes, boolean failFast, SlabPool slabPool) {
+    this(maxThreads, maxBuffers, maxBufferBytes, failFast, slabPool, false);
+  }
+
+  /**
+   * Creates scheduler with given maximum number of worker threads and part buffers, whose part
+   * buffers use at most maxBufferBytes in total from slabs of a pool owned by this scheduler. Idle
+   * slabs of the pool are dropped on {@link #close}.
+   */
+  public UploadScheduler(int maxThreads, int maxBuffers, long maxBufferBytes, boolean failFast) {
+    this(
+        maxThreads,
+        maxBuffers,
+        maxBufferBytes,
+        failFast,
+        new SlabPool(SlabPool.DEFAULT_SLAB_SIZE, SlabPool.DEFAULT_MAX_IDLE_SLABS),
+        true);
+  }
+
+  private UploadScheduler(
+      int maxThreads,
+      int maxBuffers,
+      long maxBufferBytes,
+      boolean failFast,
+      SlabPool slabPool,
+      boolean ownSlabPool) {
+    if (maxThreads <= 0) throw new IllegalArgumentException("valid max threads must be provided");
+    if (maxBuffers <= 0) throw new IllegalArgumentException("valid max buffers must be provided");
+    if (maxBufferBytes <= 0) {
+      throw new IllegalArgumentException("valid max buffer bytes must be provided");
+    }
+    this.maxThreads = maxThreads;
+    this.maxBuffers = maxBuffers;
+    this.maxBufferBytes = maxBufferBytes;
+    this.failFast = failFast;
+    this.slabPool = Objects.requireNonNull(slabPool, "slab pool must not be null");
+    this.ownSlabPool = ownSlabPool;
+    final String prefix = "minio-upload-" + SCHEDULER_COUNT.incrementAndGet() + "-";
+    final AtomicInteger threadCount = new AtomicInteger();
+    ThreadFactory threadFactory =
+        runnable -> {
+          Thread thread = new Thread(runnable, prefix + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        };
+    this.executor = Executors.newFixedThreadPool(maxThreads, threadFactory);
+  }
+
+  /**
+   * Creates scheduler with given maximum number of worker threads and part buffers, whose part
+   * buffers use slabs of given pool. Pass {@link SlabPool#direct} to keep part buffers off heap.
+   */
+  public UploadScheduler(int maxThreads, int maxBuffers, SlabPool slabPool) {
+    this(maxThreads, maxBuffers, Long.MAX_VALUE, false, slabPool);
+  }
+
+  /**
+   * Creates scheduler with given maximum number of worker threads and part buffers, whose part
+   * buffers use slabs of a pool owned by this scheduler.
+   */
+  public UploadScheduler(int maxThreads, int maxBuffers) {
+    this(maxThreads, maxBuffers, Long.MAX_VALUE, false);
+  }
+
+  /** Creates scheduler with default maximum number of worker threads and part buffers. */
+  public UploadScheduler() {
+    this(DEFAULT_MAX_THREADS, DEFAULT_MAX_BUFFERS);
+  }
+
+  public int maxThreads() {
+    return maxThreads;
+  }
+
+  public int maxBuffers() {
+    return maxBuffers;
+  }
+
+  public long maxBufferBytes() {
+    return maxBufferBytes;
+  }
+
+  public boolean failFast() {
+    return failFast;
+  }
+
+  public SlabPool slabPool() {
+    return slabPool;
+  }
+
+  /** Returns number of part buffers in use. */
+  public synchronized int usedBuffers() {
+    return usedBuffers;
+  }
+
+  /** Returns bytes of part buffers in use. */
+  public synchronized long usedBufferBytes() {
+    return usedBufferBytes;
+  }
+
+  /** Returns peak bytes of part buffers in use since this scheduler is created. */
+  public synchronized long peakBufferBytes() {
+    return peakBufferBytes;
+  }
+
+  /** Creates new session for an upload to submit its tasks. */
+  public Session newSession() {
+    return newSession(1);
+  }
+
+  /** Creates new session for an upload to submit its tasks to run at most concurrency at a time. */
+  public Session newSession(int concurrency) {
+    if (concurrency <= 0) throw new IllegalArgumentException("valid concurrency must be provided");
+    return new Session(concurrency);
+  }
+
+  /**
+   * Submits the task of given session. Tasks of the same session start in submission order and
+   * tasks of different sessions are picked in round-robin order.
+   */
+  public void execute(Session session, Runnable task) {
+    synchronized (this) {
+      session.tasks.add(task);
+      if (!session.queued && session.running < session.concurrency) {
+        session.queued = true;
+        readySessions.add(session);
+      }
+    }
+    executor.execute(this::runNext);
+  }
+
+  private void runNext() {
+    Session session = null;
+    Runnable task = null;
+    boolean requeued = false;
+    synchronized (this) {
+      session = readySessions.poll();
+      if (session == null) return;
+      task = session.tasks.poll();
+      session.running++;
+      if (session.tasks.isEmpty() || session.running >= session.concurrency) {
+        session.queued = false;
+      } else {
+        readySessions.add(session);
+        requeued = true;
+      }
+    }
+    // Requeued session needs a worker of its own; earlier runs may already have found no session.
+    if (requeued) executor.execute(this::runNext);
+
+    try {
+      task.run();
+    } finally {
+      requeued = false;
+      synchronized (this) {
+        session.running--;
+        if (!session.queued && !session.tasks.isEmpty()) {
+          session.queued = true;
+          readySessions.add(session);
+          requeued = true;
+        }
+      }
+      if (requeued) executor.execute(this::runNext);
+    }
+  }
+
+  // Must be called with lock held.
+  private boolean reserve(long size) {
+    if (usedBuffers >= maxBuffers || size > maxBufferBytes - usedBufferBytes) return false;
+    usedBuffers++;
+    usedBufferBytes += size;
+    peakBufferBytes = Math.max(peakBufferBytes, usedBufferBytes);
+    return true;
+  }
+
+  private synchronized ByteBuffer newBuffer(long size) {
+    ByteBuffer buffer = new ByteBuffer(size, slabPool);
+    takenBuffers.add(buffer);
+    return buffer;
+  }
+
+  private void validateSize(long size) {
+    if (size < 0) throw new IllegalArgumentException("valid buffer size must be provided");
+    if (size > maxBufferBytes) {
+      throw new IllegalArgumentException(
+          "buffer size " + size + " exceeds max buffer bytes " + maxBufferBytes);
+    }
+  }
+
+  /**
+   * Takes a buffer of given size and passes it to the consumer. If the buffer budget is used up,
+   * the consumer is called when enough buffers are put back to this scheduler.
+   */
+  public void takeBuffer(long size, Consumer<ByteBuffer> consumer) {
+    validateSize(size);
+    synchronized (this) {
+      if (!bufferRequests.isEmpty() || !reserve(size)) {
+        bufferRequests.add(new BufferRequest(size, consumer));
+        return;
+      }
+    }
+    consumer.accept(newBuffer(size));
+  }
+
+  /**
+   * Takes a buffer of given size for a new upload. If the buffer budget is used up, it waits until
+   * enough buffers are put back to this scheduler, or fails if this scheduler is fail fast.
+   */
+  public ByteBuffer takeBuffer(long size) throws MinioException {
+    validateSize(size);
+    CompletableFuture<ByteBuffer> future = new CompletableFuture<>();
+    synchronized (this) {
+      if (bufferRequests.isEmpty() && reserve(size)) return newBuffer(size);
+      if (failFast) {
+        throw new MinioException(
+            "upload buffer budget used up; used="
+                + usedBufferBytes
+                + ", max="
+                + maxBufferBytes
+                + ", requested="
+                + size);
+      }
+      bufferRequests.add(new BufferRequest(size, future::complete));
+    }
+    return future.join();
+  }
+
+  /**
+   * Takes a buffer of given size if the buffer budget allows it without waiting, else returns null.
+   */
+  public ByteBuffer tryTakeBuffer(long size) {
+    validateSize(size);
+    synchronized (this) {
+      if (!bufferRequests.isEmpty() || !reserve(size)) return null;
+    }
+    return newBuffer(size);
+  }
+
+  /**
+   * Puts back the buffer taken by {@link #takeBuffer}. A buffer already put back, or not taken from
+   * this scheduler, is ignored.
+   */
+  public void putBuffer(ByteBuffer buffer) {
+    synchronized (this) {
+      if (!takenBuffers.remove(buffer)) return;
+    }
+
+    try {
+      buffer.close();
+    } catch (IOException e) {
+      throw new IllegalStateException("closing byte buffer failed; this should not happen", e);
+    }
+
+    List<BufferRequest> requests = new ArrayList<>();
+    synchronized (this) {
+      usedBuffers--;
+      usedBufferBytes -= buffer.size();
+      while (!bufferRequests.isEmpty() && reserve(bufferRequests.peek().size)) {
+        requests.add(bufferRequests.poll());
+      }
+    }
+
+    for (BufferRequest request : requests) {
+      request.consumer.accept(newBuffer(request.size));
+    }
+  }
+
+  /** Shuts down worker threads of this scheduler and drops idle slabs of its own pool. */
+  @Override
+  public void close() {
+    executor.shutdown();
+    if (ownSlabPool) slabPool.clear();
+  }
+
+  /** Task queue of an upload. */
+  public static class Session {
+    private final int concurrency;
+
+    // Guarded by enclosing scheduler.
+    private final Deque<Runnable> tasks = new ArrayDeque<>();
+    private boolean queued = false;
+    private int running = 0;
+
+    private Session(int concurrency) {
+      this.concurrency = concurrency;
+    }
+  }
+
+  private static class BufferRequest {
+    private final long size;
+    private final Consumer<ByteBuffer> consumer;
+
+    private BufferRequest(long size, Consumer<ByteBuffer> consumer) {
+      this.size = size;
+      this.consumer = consumer;
+    }
+  }
+}
@@ -0,0 +1,219 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage,
+ * (C) 2025 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import java.util.Objects;
+
+/**
+ * Arguments of {@link MinioAsyncClient#uploadSnowballBatches} and {@link
+ * MinioClient#uploadSnowballBatches}.
+ */
+public class UploadSnowballBatchesArgs extends ObjectWriteArgs {
+  /** Default maximum archive size of a batch, estimated by TAR size of its objects. */
+  public static final long DEFAULT_BATCH_SIZE = 32L * 1024 * 1024;
+  /** Default maximum number of objects in a batch. */
+  public static final int DEFAULT_BATCH_COUNT = 10000;
+  /** Default number of archives to build and upload concurrently. */
+  public static final int DEFAULT_PARALLEL_ARCHIVES = 4;
+
+  private Iterable<SnowballObject> objects;
+  private long batchSize = DEFAULT_BATCH_SIZE;
+  private int batchCount = DEFAULT_BATCH_COUNT;
+  private int parallelArchives = DEFAULT_PARALLEL_ARCHIVES;
+  private boolean compression;
+  private ParallelCompressedOutputStream.Codec compressionCodec;
+  private long partSize;
+  private int parallelUploads;
+  private boolean autoExtract = true;
+
+  public Iterable<SnowballObject> objects() {
+    return objects;
+  }
+
+  public long batchSize() {
+    return batchSize;
+  }
+
+  public int batchCount() {
+    return batchCount;
+  }
+
+  public int parallelArchives() {
+    return parallelArchives;
+  }
+
+  public boolean compression() {
+    return compression;
+  }
+
+  /**
+   * Gets codec to compress the archive on multiple threads, or null to compress it by {@link
+   * org.xerial.snappy.SnappyFramedOutputStream} on the archiving thread.
+   */
+  public ParallelCompressedOutputStream.Codec compressionCodec() {
+    return compressionCodec;
+  }
+
+  public long partSize() {
+    return partSize;
+  }
+
+  public int parallelUploads() {
+    return parallelUploads;
+  }
+
+  /** Gets whether the server is asked to extract objects of archives. */
+  public boolean autoExtract() {
+    return autoExtract;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /** Builder of {@link UploadSnowballBatchesArgs}. */
+  public static final class Builder
+      extends ObjectWriteArgs.Builder<Builder, UploadSnowballBatchesArgs> {
+    @Override
+    protected void validate(UploadSnowballBatchesArgs args) {
+      // Each batch is uploaded as an archive of its own name.
+      args.objectName = "snowball-batches";
+      Utils.validateNotNull(args.objects, "objects");
+      if (args.partSize > 0 && args.autoExtract) {
+        throw new IllegalArgumentException(
+            "part size must be set with auto extract disabled; server extracts only archives"
+                + " uploaded by PutObject");
+      }
+      super.validate(args);
+    }
+
+    /**
+     * Sets objects to upload. Objects are iterated lazily while batches are uploaded, so the
+     * iterable may be unbounded.
+     */
+    public Builder objects(Iterable<SnowballObject> objects) {
+      Utils.validateNotNull(objects, "objects");
+      operations.add(args -> args.objects = objects);
+      return this;
+    }
+
+    /** Sets maximum archive size of a batch. An object larger than it is uploaded alone. */
+    public Builder batchSize(long batchSize) {
+      if (batchSize <= 0) throw new IllegalArgumentException("valid batch size must be provided");
+      operations.add(args -> args.batchSize = batchSize);
+      return this;
+    }
+
+    /** Sets maximum number of objects in a batch. */
+    public Builder batchCount(int batchCount) {
+      if (batchCount <= 0) throw new IllegalArgumentException("valid batch count must be provided");
+      operations.add(args -> args.batchCount = batchCount);
+      return this;
+    }
+
+    /** Sets number of archives to build and upload concurrently. */
+    public Builder parallelArchives(int parallelArchives) {
+      if (parallelArchives <= 0) {
+        throw new IllegalArgumentException("valid parallel archives must be provided");
+      }
+      operations.add(args -> args.parallelArchives = parallelArchives);
+      return this;
+    }
+
+    /** Enables Snappy compression of archives on their archiving threads. */
+    public Builder compression(boolean compression) {
+      operations.add(args -> args.compression = compression);
+      return this;
+    }
+
+    /**
+     * Enables compression of archives by given codec on compression threads of the client. See
+     * {@link UploadSnowballObjectsArgs.Builder#compression(ParallelCompressedOutputStream.Codec)}.
+     */
+    public Builder compression(ParallelCompressedOutputStream.Codec codec) {
+      Utils.validateNotNull(codec, "codec");
+      operations.add(args -> args.compression = true);
+      operations.add(args -> args.compressionCodec = codec);
+      return this;
+    }
+
+    /**
+     * Sets part size to upload each archive by multipart upload while it is built. If not set, each
+     * archive is built in memory before it is uploaded. Part size requires auto extract to be
+     * disabled. See {@link UploadSnowballObjectsArgs.Builder#partSize}.
+     */
+    public Builder partSize(long partSize) {
+      if (partSize < MIN_MULTIPART_SIZE || partSize > MAX_PART_SIZE) {
+        throw new IllegalArgumentException(
+            "part size " + partSize + " is not supported; it must be between 5MiB and 5GiB");
+      }
+      operations.add(args -> args.partSize = partSize);
+      return this;
+    }
+
+    /**
+     * Sets number of parts of each archive to upload in parallel when part size is set. See {@link
+     * UploadSnowballObjectsArgs.Builder#parallelUploads}.
+     */
+    public Builder parallelUploads(int parallelUploads) {
+      operations.add(args -> args.parallelUploads = parallelUploads);
+      return this;
+    }
+
+    /**
+     * Sets whether the server is asked to extract objects of archives (default true). See {@link
+     * UploadSnowballObjectsArgs.Builder#autoExtract}.
+     */
+    public Builder autoExtract(boolean autoExtract) {
+      operations.add(args -> args.autoExtract = autoExtract);
+      return this;
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof UploadSnowballBatchesArgs)) return false;
+    if (!super.equals(o)) return false;
+    UploadSnowballBatchesArgs that = (UploadSnowballBatchesArgs) o;
+    return Objects.equals(objects, that.objects)
+        && batchSize == that.batchSize
+        && batchCount == that.batchCount
+        && parallelArchives == that.parallelArchives
+        && compression == that.compression
+        && compressionCodec == that.compressionCodec
+        && partSize == that.partSize
+        && parallelUploads == that.parallelUploads
+        && autoExtract == that.autoExtract;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(
+        super.hashCode(),
+        objects,
+        batchSize,
+        batchCount,
+        parallelArchives,
+        compression,
+        compressionCodec,
+        partSize,
+        parallelUploads,
+        autoExtract);
+  }
+}
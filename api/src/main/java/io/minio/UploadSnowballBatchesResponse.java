@@ -0,0 +1,79 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage,
+ * (C) 2025 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Response of {@link MinioAsyncClient#uploadSnowballBatches} and {@link
+ * MinioClient#uploadSnowballBatches}.
+ */
+public class UploadSnowballBatchesResponse {
+  private final List<ObjectWriteResponse> responses;
+  private final long objectCount;
+  private final List<Failure> failures;
+
+  public UploadSnowballBatchesResponse(
+      List<ObjectWriteResponse> responses, long objectCount, List<Failure> failures) {
+    this.responses = Collections.unmodifiableList(responses);
+    this.objectCount = objectCount;
+    this.failures = Collections.unmodifiableList(failures);
+  }
+
+  /** Gets responses of uploaded archives. */
+  public List<ObjectWriteResponse> responses() {
+    return responses;
+  }
+
+  /** Gets number of uploaded objects. */
+  public long objectCount() {
+    return objectCount;
+  }
+
+  /** Gets objects failed to upload. */
+  public List<Failure> failures() {
+    return failures;
+  }
+
+  /** Failed object of {@link UploadSnowballBatchesResponse}. */
+  public static class Failure {
+    private final String name;
+    private final String filename;
+    private final Throwable exception;
+
+    public Failure(SnowballObject object, Throwable exception) {
+      this.name = object.name();
+      this.filename = object.filename();
+      this.exception = exception;
+    }
+
+    public String name() {
+      return name;
+    }
+
+    public String filename() {
+      return filename;
+    }
+
+    /** Gets the failure; objects of a failed archive share the failure of the archive. */
+    public Throwable exception() {
+      return exception;
+    }
+  }
+}
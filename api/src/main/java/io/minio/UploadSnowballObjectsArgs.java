@@ -17,6 +17,7 @@
 package io.minio;
 
 import java.security.SecureRandom;
+import java.util.List;
 import java.util.Objects;
 import java.util.Random;
 
@@ -30,6 +31,24 @@ public class UploadSnowballObjectsArgs extends ObjectWriteArgs {
   private Iterable<SnowballObject> objects;
   private String stagingFilename;
   private boolean compression;
+  private ParallelCompressedOutputStream.Codec compressionCodec;
+  private long partSize;
+  private int parallelUploads;
+  private boolean autoExtract = true;
+
+  protected UploadSnowballObjectsArgs() {}
+
+  /** Creates arguments to upload given batch of {@link UploadSnowballBatchesArgs}. */
+  public UploadSnowballObjectsArgs(UploadSnowballBatchesArgs args, List<SnowballObject> objects) {
+    super(args);
+    this.objectName = "snowball." + random.nextLong() + ".tar";
+    this.objects = objects;
+    this.compression = args.compression();
+    this.compressionCodec = args.compressionCodec();
+    this.partSize = args.partSize();
+    this.parallelUploads = args.parallelUploads();
+    this.autoExtract = args.autoExtract();
+  }
 
   public Iterable<SnowballObject> objects() {
     return this.objects;
@@ -43,6 +62,31 @@ public class UploadSnowballObjectsArgs extends ObjectWriteArgs {
     return compression;
   }
 
+  /**
+   * Gets codec to compress the archive on multiple threads, or null to compress it by {@link
+   * org.xerial.snappy.SnappyFramedOutputStream} on the archiving thread.
+   */
+  public ParallelCompressedOutputStream.Codec compressionCodec() {
+    return compressionCodec;
+  }
+
+  /**
+   * Gets part size to upload the archive by multipart upload while it is built, or zero to upload
+   * it after it is built.
+   */
+  public long partSize() {
+    return partSize;
+  }
+
+  public int parallelUploads() {
+    return parallelUploads;
+  }
+
+  /** Gets whether the server is asked to extract objects of the archive. */
+  public boolean autoExtract() {
+    return autoExtract;
+  }
+
   public static Builder builder() {
     return new Builder();
   }
@@ -58,6 +102,15 @@ public class UploadSnowballObjectsArgs extends ObjectWriteArgs {
     protected void validate(UploadSnowballObjectsArgs args) {
       args.objectName = "snowball." + random.nextLong() + ".tar";
       validateObjects(args.objects);
+      if (args.partSize > 0 && args.stagingFilename != null) {
+        throw new IllegalArgumentException(
+            "staging filename and part size must not be set together");
+      }
+      if (args.partSize > 0 && args.autoExtract) {
+        throw new IllegalArgumentException(
+            "part size must be set with auto extract disabled; server extracts only archives"
+                + " uploaded by PutObject");
+      }
       super.validate(args);
     }
 
@@ -75,10 +128,54 @@ public class UploadSnowballObjectsArgs extends ObjectWriteArgs {
       return this;
     }
 
+    /** Enables Snappy compression of the archive on the archiving thread. */
     public Builder compression(boolean compression) {
       operations.add(args -> args.compression = compression);
       return this;
     }
+
+    /**
+     * Enables compression of the archive by given codec on compression threads of the client. See
+     * {@link ParallelCompressedOutputStream}. Archive compressed by {@link
+     * ParallelCompressedOutputStream.Codec#GZIP} is extracted only by servers supporting it.
+     */
+    public Builder compression(ParallelCompressedOutputStream.Codec codec) {
+      Utils.validateNotNull(codec, "codec");
+      operations.add(args -> args.compression = true);
+      operations.add(args -> args.compressionCodec = codec);
+      return this;
+    }
+
+    /**
+     * Sets part size to upload the archive by multipart upload while it is built. Archive is
+     * neither staged in a file nor held in memory; at most part buffers of the upload are used. A
+     * valid part size is between 5MiB to 5GiB (both limits inclusive). Server extracts only
+     * archives uploaded by PutObject, so that part size requires auto extract to be disabled, and
+     * the archive is stored as an object of its name.
+     */
+    public Builder partSize(long partSize) {
+      if (partSize < MIN_MULTIPART_SIZE || partSize > MAX_PART_SIZE) {
+        throw new IllegalArgumentException(
+            "part size " + partSize + " is not supported; it must be between 5MiB and 5GiB");
+      }
+      operations.add(args -> args.partSize = partSize);
+      return this;
+    }
+
+    /** Sets number of parts to upload in parallel when part size is set. */
+    public Builder parallelUploads(int parallelUploads) {
+      operations.add(args -> args.parallelUploads = parallelUploads);
+      return this;
+    }
+
+    /**
+     * Sets whether the server is asked to extract objects of the archive (default true). If
+     * disabled, the archive is stored as an object of its name.
+     */
+    public Builder autoExtract(boolean autoExtract) {
+      operations.add(args -> args.autoExtract = autoExtract);
+      return this;
+    }
   }
 
   @Override
@@ -89,11 +186,23 @@ public class UploadSnowballObjectsArgs extends ObjectWriteArgs {
     UploadSnowballObjectsArgs that = (UploadSnowballObjectsArgs) o;
     return Objects.equals(objects, that.objects)
         && Objects.equals(stagingFilename, that.stagingFilename)
-        && compression == that.compression;
+        && compression == that.compression
+        && compressionCodec == that.compressionCodec
+        && partSize == that.partSize
+        && parallelUploads == that.parallelUploads
+        && autoExtract == that.autoExtract;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(super.hashCode(), objects, stagingFilename, compression);
+    return Objects.hash(
+        super.hashCode(),
+        objects,
+        stagingFilename,
+        compression,
+        compressionCodec,
+        partSize,
+        parallelUploads,
+        autoExtract);
   }
 }
@@ -0,0 +1,150 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage,
+ * (C) 2026 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import io.minio.errors.ErrorResponseException;
+import io.minio.errors.ServerException;
+import io.minio.messages.ErrorResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AdaptiveUploadWindowTest {
+  private static final long MIB = 1024 * 1024;
+  private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final long SLOW = TimeUnit.SECONDS.toNanos(2);
+
+  private long now = 0;
+
+  private AdaptiveUploadWindow newWindow(int maxWindow, long partSize, long maxPartSize) {
+    return new AdaptiveUploadWindow(maxWindow, partSize, maxPartSize, () -> now);
+  }
+
+  // Uploads a round of window parts of given size and latency in parallel; the round takes latency.
+  private void round(AdaptiveUploadWindow window, long size, long latencyNanos) {
+    now += latencyNanos;
+    for (int i = window.window(); i > 0; i--) window.onUploaded(size, latencyNanos);
+  }
+
+  @Test
+  public void testWindowGrowsUpToMaxWindow() {
+    AdaptiveUploadWindow window = newWindow(4, 5 * MIB, 5 * MIB);
+    Assert.assertEquals(2, window.window());
+    round(window, 5 * MIB, SLOW);
+    Assert.assertEquals(3, window.window());
+    round(window, 5 * MIB, SLOW);
+    Assert.assertEquals(4, window.window());
+    round(window, 5 * MIB, SLOW);
+    Assert.assertEquals(4, window.window());
+
+    Assert.assertEquals(1, newWindow(1, 5 * MIB, 5 * MIB).window());
+  }
+
+  @Test
+  public void testSlowDownHalvesWindow() {
+    AdaptiveUploadWindow window = newWindow(8, 5 * MIB, 5 * MIB);
+    round(window, 5 * MIB, SLOW);
+    round(window, 5 * MIB, SLOW);
+    Assert.assertEquals(4, window.window());
+    window.onSlowDown();
+    Assert.assertEquals(2, window.window());
+    window.onSlowDown();
+    window.onSlowDown();
+    Assert.assertEquals(1, window.window());
+  }
+
+  private static ErrorResponseException errorResponse(String code, int statusCode) {
+    Response response =
+        new Response.Builder()
+            .request(new Request.Builder().url("http://localhost:9000/bucket/object").build())
+            .protocol(Protocol.HTTP_1_1)
+            .code(statusCode)
+            .message("")
+            .build();
+    return new ErrorResponseException(
+        new ErrorResponse(code, "", "bucket", "object", "", "", ""), response, "");
+  }
+
+  @Test
+  public void testServiceUnavailableHalvesWindow() {
+    AdaptiveUploadWindow window = newWindow(8, 5 * MIB, 5 * MIB);
+    round(window, 5 * MIB, SLOW);
+    round(window, 5 * MIB, SLOW);
+    Assert.assertEquals(4, window.window());
+
+    window.onPartFailure(errorResponse("SlowDown", 503));
+    Assert.assertEquals(2, window.window());
+    window.onPartFailure(errorResponse("ServiceUnavailable", 503));
+    Assert.assertEquals(1, window.window());
+
+    // Other failures do not shrink the window.
+    round(window, 5 * MIB, SLOW);
+    Assert.assertEquals(2, window.window());
+    window.onPartFailure(errorResponse("InternalError", 500));
+    window.onPartFailure(new IOException("connection reset"));
+    Assert.assertEquals(2, window.window());
+    window.onPartFailure(new ServerException("server failed", 503, ""));
+    Assert.assertEquals(1, window.window());
+  }
+
+  @Test
+  public void testThroughputDropHalvesWindow() {
+    AdaptiveUploadWindow window = newWindow(8, 5 * MIB, 5 * MIB);
+    round(window, 5 * MIB, FAST);
+    Assert.assertEquals(3, window.window());
+
+    // Next round takes much longer with much higher part latency.
+    round(window, 5 * MIB, SLOW);
+    Assert.assertEquals(1, window.window());
+  }
+
+  @Test
+  public void testPartSizeGrowsUpToMaxPartSize() {
+    AdaptiveUploadWindow window = newWindow(2, 5 * MIB, 16 * MIB);
+    round(window, 5 * MIB, FAST);
+    Assert.assertEquals(10 * MIB, window.partSize());
+    round(window, 10 * MIB, FAST);
+    Assert.assertEquals(16 * MIB, window.partSize());
+    round(window, 16 * MIB, FAST);
+    Assert.assertEquals(16 * MIB, window.partSize());
+
+    // Slow parts do not grow part size.
+    window = newWindow(2, 5 * MIB, 16 * MIB);
+    round(window, 5 * MIB, SLOW);
+    Assert.assertEquals(5 * MIB, window.partSize());
+
+    // Fixed part size.
+    window = newWindow(2, 5 * MIB, 5 * MIB);
+    round(window, 5 * MIB, FAST);
+    Assert.assertEquals(5 * MIB, window.partSize());
+  }
+
+  @Test
+  public void testMaxPartSize() {
+    Assert.assertEquals(
+        AdaptiveUploadWindow.DEFAULT_MAX_PART_SIZE,
+        AdaptiveUploadWindow.maxPartSize(Long.MAX_VALUE, 4));
+    Assert.assertEquals(64 * MIB, AdaptiveUploadWindow.maxPartSize(256 * MIB, 4));
+    Assert.assertEquals(
+        ObjectWriteArgs.MAX_PART_SIZE, AdaptiveUploadWindow.maxPartSize(Long.MAX_VALUE - 1, 1));
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage,
+ * (C) 2026 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import com.google.common.io.ByteStreams;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BoundedPipeTest {
+  @Test(timeout = 10000)
+  public void testTransfer()
+      throws IOException, InterruptedException, ExecutionException, TimeoutException {
+    byte[] data = new byte[1000000];
+    new Random(0).nextBytes(data);
+    BoundedPipe pipe = new BoundedPipe(1000);
+
+    CompletableFuture<Void> writer =
+        CompletableFuture.runAsync(
+            () -> {
+              try (OutputStream os = pipe.outputStream()) {
+                // Writes of various sizes wrap around the buffer.
+                Random random = new Random(1);
+                for (int offset = 0; offset < data.length; ) {
+                  int n = Math.min(random.nextInt(3000), data.length - offset);
+                  os.write(data, offset, n);
+                  offset += n;
+                }
+              } catch (IOException e) {
+                throw new CompletionException(e);
+              }
+            });
+
+    Assert.assertArrayEquals(data, ByteStreams.toByteArray(pipe.inputStream()));
+    writer.get(5, TimeUnit.SECONDS);
+  }
+
+  @Test(timeout = 10000)
+  public void testWriterWaitsForReader()
+      throws IOException, InterruptedException, ExecutionException, TimeoutException {
+    BoundedPipe pipe = new BoundedPipe(10);
+    CompletableFuture<Void> writer =
+        CompletableFuture.runAsync(
+            () -> {
+              try {
+                pipe.outputStream().write(new byte[15]);
+              } catch (IOException e) {
+                throw new CompletionException(e);
+              }
+            });
+    Thread.sleep(200);
+    Assert.assertFalse(writer.isDone());
+    Assert.assertEquals(10, pipe.inputStream().available());
+
+    Assert.assertEquals(10, pipe.inputStream().read(new byte[20]));
+    writer.get(5, TimeUnit.SECONDS);
+    Assert.assertEquals(5, pipe.inputStream().available());
+  }
+
+  @Test(timeout = 10000)
+  public void testFailure() throws IOException {
+    BoundedPipe pipe = new BoundedPipe(10);
+    pipe.outputStream().write(new byte[5]);
+    IllegalStateException cause = new IllegalStateException("failed");
+    pipe.fail(cause);
+    // Closing the writer after failure does not end the stream.
+    pipe.outputStream().close();
+    try {
+      int n = pipe.inputStream().read(new byte[5]);
+      Assert.fail("exception should be thrown, but " + n + " bytes read");
+    } catch (IOException e) {
+      Assert.assertSame(cause, e.getCause());
+    }
+  }
+
+  @Test(timeout = 10000)
+  public void testReaderCloseFailsWriter()
+      throws IOException, InterruptedException, TimeoutException {
+    BoundedPipe pipe = new BoundedPipe(10);
+    CompletableFuture<Void> writer =
+        CompletableFuture.runAsync(
+            () -> {
+              try {
+                pipe.outputStream().write(new byte[20]);
+              } catch (IOException e) {
+                throw new CompletionException(e);
+              }
+            });
+    Thread.sleep(200);
+    pipe.inputStream().close();
+    try {
+      writer.get(5, TimeUnit.SECONDS);
+      Assert.fail("exception should be thrown");
+    } catch (ExecutionException e) {
+      Assert.assertEquals(IOException.class, e.getCause().getClass());
+    }
+  }
+
+  @Test
+  public void testEndOfStream() throws IOException {
+    BoundedPipe pipe = new BoundedPipe(10);
+    pipe.outputStream().write(new byte[] {1, 2});
+    pipe.outputStream().close();
+    InputStream is = pipe.inputStream();
+    Assert.assertEquals(1, is.read());
+    Assert.assertEquals(2, is.read());
+    Assert.assertEquals(-1, is.read());
+  }
+}
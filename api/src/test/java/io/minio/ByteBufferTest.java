@@ -0,0 +1,156 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage,
+ * (C) 2026 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import com.google.common.io.ByteStreams;
+import io.minio.errors.MinioException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ByteBufferTest {
+  private static byte[] randomBytes(int length) {
+    byte[] data = new byte[length];
+    new Random(length).nextBytes(data);
+    return data;
+  }
+
+  @Test
+  public void testBufferSmallerThanSlab() throws IOException {
+    SlabPool pool = new SlabPool(16, 4);
+    byte[] data = randomBytes(10);
+    try (ByteBuffer buffer = new ByteBuffer(10, pool)) {
+      buffer.write(data);
+      java.nio.ByteBuffer[] slabs = buffer.slabs();
+      // Buffer uses its own exact sized slab.
+      Assert.assertEquals(1, slabs.length);
+      Assert.assertEquals(10, slabs[0].capacity());
+      Assert.assertArrayEquals(data, ByteStreams.toByteArray(buffer.inputStream()));
+    }
+    // Slab not of the pool is not put back.
+    Assert.assertEquals(0, pool.idleSlabs());
+  }
+
+  @Test
+  public void testWritesAcrossSlabs() throws IOException {
+    SlabPool pool = new SlabPool(16, 4);
+    byte[] data = randomBytes(40);
+    try (ByteBuffer buffer = new ByteBuffer(40, pool)) {
+      buffer.write(data, 0, 5);
+      buffer.write(data, 5, 30);
+      for (int i = 35; i < 40; i++) buffer.write(data[i]);
+      Assert.assertEquals(40, buffer.length());
+
+      java.nio.ByteBuffer[] slabs = buffer.slabs();
+      Assert.assertEquals(3, slabs.length);
+      Assert.assertEquals(16, slabs[0].remaining());
+      Assert.assertEquals(16, slabs[1].remaining());
+      Assert.assertEquals(8, slabs[2].remaining());
+      byte[] gathered = new byte[40];
+      int offset = 0;
+      for (java.nio.ByteBuffer slab : slabs) {
+        int n = slab.remaining();
+        slab.get(gathered, offset, n);
+        offset += n;
+      }
+      Assert.assertArrayEquals(data, gathered);
+
+      // Each call returns new views of written bytes.
+      Assert.assertArrayEquals(data, ByteStreams.toByteArray(buffer.inputStream()));
+      Assert.assertArrayEquals(data, ByteStreams.toByteArray(buffer.inputStream()));
+    }
+    Assert.assertEquals(3, pool.idleSlabs());
+  }
+
+  @Test
+  public void testEmptyBuffer() throws IOException {
+    try (ByteBuffer buffer = new ByteBuffer(0, new SlabPool(16, 4))) {
+      Assert.assertEquals(0, buffer.slabs().length);
+      Assert.assertEquals(-1, buffer.inputStream().read());
+    }
+  }
+
+  @Test
+  public void testResetReusesSlabs() throws IOException, MinioException {
+    SlabPool pool = new SlabPool(16, 4);
+    byte[] data = randomBytes(32);
+    try (ByteBuffer buffer = new ByteBuffer(32, pool)) {
+      buffer.write(randomBytes(20));
+      buffer.reset();
+      Assert.assertEquals(0, buffer.length());
+      Assert.assertEquals(2, pool.idleSlabs());
+
+      // Slabs put back on reset are taken again.
+      buffer.write(data);
+      Assert.assertEquals(0, pool.idleSlabs());
+      Assert.assertArrayEquals(data, ByteStreams.toByteArray(buffer.inputStream()));
+    }
+    Assert.assertEquals(2, pool.idleSlabs());
+  }
+
+  @Test
+  public void testExactSizeLimit() throws IOException {
+    byte[] data = randomBytes(33);
+    try (ByteBuffer buffer = new ByteBuffer(32, new SlabPool(16, 4))) {
+      try {
+        buffer.write(data);
+        Assert.fail("exception expected");
+      } catch (IOException e) {
+        Assert.assertEquals(0, buffer.length());
+      }
+
+      buffer.write(data, 0, 32);
+      Assert.assertEquals(32, buffer.length());
+      try {
+        buffer.write(data[32]);
+        Assert.fail("exception expected");
+      } catch (IOException e) {
+        Assert.assertEquals(32, buffer.length());
+      }
+      Assert.assertArrayEquals(
+          Arrays.copyOf(data, 32), ByteStreams.toByteArray(buffer.inputStream()));
+    }
+  }
+
+  @Test
+  public void testClosedBuffer() throws IOException {
+    ByteBuffer buffer = new ByteBuffer(16, new SlabPool(16, 4));
+    buffer.close();
+    try {
+      buffer.write(1);
+      Assert.fail("exception expected");
+    } catch (IOException e) {
+      // expected
+    }
+    try {
+      buffer.reset();
+      Assert.fail("exception expected");
+    } catch (MinioException e) {
+      // expected
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSizeLimit() throws IOException {
+    try (ByteBuffer buffer = new ByteBuffer(ObjectWriteArgs.MAX_PART_SIZE + 1)) {
+      Assert.fail("buffer of size " + buffer.size() + " should not be created");
+    }
+  }
+}
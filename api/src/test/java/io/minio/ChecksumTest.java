@@ -0,0 +1,166 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage,
+ * (C) 2026 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ChecksumTest {
+  private static final Checksum.Algorithm[] CRC_ALGORITHMS = {
+    Checksum.Algorithm.CRC32, Checksum.Algorithm.CRC32C, Checksum.Algorithm.CRC64NVME
+  };
+
+  private static Checksum.Hasher newHasher(Checksum.Algorithm algorithm) {
+    switch (algorithm) {
+      case CRC32:
+        return new Checksum.CRC32();
+      case CRC32C:
+        return new Checksum.CRC32C();
+      default:
+        return new Checksum.CRC64NVME();
+    }
+  }
+
+  private static byte[] randomBytes(int length, long seed) {
+    byte[] data = new byte[length];
+    new Random(seed).nextBytes(data);
+    return data;
+  }
+
+  // Updates hasher by length bytes, repeating data as needed.
+  private static void update(Checksum.Hasher hasher, byte[] data, long length) {
+    for (; length > 0; length -= data.length) {
+      hasher.update(data, 0, (int) Math.min(length, data.length));
+    }
+  }
+
+  private void testCombine(Checksum.Algorithm algorithm, int len1, long len2) {
+    byte[] data1 = randomBytes(len1, len1);
+    byte[] data2 = randomBytes((int) Math.min(len2, 1024 * 1024), len2);
+
+    Checksum.Hasher hasher = newHasher(algorithm);
+    update(hasher, data1, len1);
+    byte[] sum1 = hasher.sum();
+
+    hasher = newHasher(algorithm);
+    update(hasher, data2, len2);
+    byte[] sum2 = hasher.sum();
+
+    hasher = newHasher(algorithm);
+    update(hasher, data1, len1);
+    update(hasher, data2, len2);
+    byte[] expected = hasher.sum();
+
+    Assert.assertEquals(
+        algorithm + " len1=" + len1 + " len2=" + len2,
+        Checksum.hexString(expected),
+        Checksum.hexString(Checksum.combine(algorithm, sum1, sum2, len2)));
+  }
+
+  @Test
+  public void testCombine() {
+    long[] lengths = {0, 1, 7, 8, 9, 100, 4096, 65537, 5 * 1024 * 1024 + 3};
+    for (Checksum.Algorithm algorithm : CRC_ALGORITHMS) {
+      for (long len2 : lengths) {
+        testCombine(algorithm, 13, len2);
+        testCombine(algorithm, 0, len2);
+      }
+    }
+  }
+
+  @Test
+  public void testCombineLargeLength() {
+    // x^(2^n) modulo CRC32C polynomial does not repeat with period of 32; lengths at and beyond
+    // 2^29 bytes must not wrap around.
+    for (Checksum.Algorithm algorithm : CRC_ALGORITHMS) {
+      testCombine(algorithm, 5, 1L << 29);
+      testCombine(algorithm, 5, (1L << 29) + 12345);
+    }
+  }
+
+  // Bitwise CRC32C used as reference for slicing-by-8 table lookup.
+  private static long bitwiseCrc32c(byte[] data, int off, int len) {
+    int crc = 0xFFFFFFFF;
+    for (int i = off; i < off + len; i++) {
+      crc ^= data[i] & 0xFF;
+      for (int j = 0; j < 8; j++) {
+        crc = (crc >>> 1) ^ ((crc & 1) != 0 ? 0x82F63B78 : 0);
+      }
+    }
+    return (crc ^ 0xFFFFFFFFL) & 0xFFFFFFFFL;
+  }
+
+  @Test
+  public void testCrc32cKnownValue() {
+    byte[] data = "123456789".getBytes(StandardCharsets.US_ASCII);
+    for (boolean intrinsic : new boolean[] {false, true}) {
+      Checksum.CRC32C hasher = new Checksum.CRC32C(intrinsic);
+      hasher.update(data, 0, data.length);
+      Assert.assertEquals(0xE3069283L, hasher.getValue());
+    }
+  }
+
+  @Test
+  public void testCrc32cSlicingBy8() {
+    byte[] data = randomBytes(4096, 32);
+    Checksum.CRC32C intrinsic = new Checksum.CRC32C(true);
+    // Offsets not aligned to 8 bytes leave tails before and after 8-byte steps.
+    for (int off = 0; off < 9; off++) {
+      for (int len = 0; len + off <= data.length; len = len < 64 ? len + 1 : len * 2 + 3) {
+        Checksum.CRC32C hasher = new Checksum.CRC32C(false);
+        Assert.assertFalse(hasher.isIntrinsic());
+        hasher.update(data, off, len);
+        String message = "off=" + off + " len=" + len;
+        Assert.assertEquals(message, bitwiseCrc32c(data, off, len), hasher.getValue());
+
+        // Compare with java.util.zip.CRC32C where available.
+        if (intrinsic.isIntrinsic()) {
+          intrinsic.reset();
+          intrinsic.update(data, off, len);
+          Assert.assertEquals(message, intrinsic.getValue(), hasher.getValue());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testCrc32cSlicingBy8Split() {
+    byte[] data = randomBytes(1000, 1000);
+    long expected = bitwiseCrc32c(data, 0, data.length);
+    for (int split = 0; split <= 17; split++) {
+      Checksum.CRC32C hasher = new Checksum.CRC32C(false);
+      hasher.update(data, 0, split);
+      hasher.update(data[split]);
+      hasher.update(data, split + 1, data.length - split - 1);
+      Assert.assertEquals("split=" + split, expected, hasher.getValue());
+    }
+
+    Checksum.CRC32C hasher = new Checksum.CRC32C(false);
+    hasher.update(data, 0, 100);
+    hasher.reset();
+    hasher.update(data, 0, data.length);
+    Assert.assertEquals(expected, hasher.getValue());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testCombineUnsupportedAlgorithm() {
+    Checksum.combine(Checksum.Algorithm.SHA256, new byte[32], new byte[32], 1);
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage,
+ * (C) 2026 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import io.minio.errors.MinioException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DownloadCheckpointTest {
+  private Path dir;
+  private Path tempFile;
+  private Path rangesFile;
+
+  @Before
+  public void setUp() throws IOException {
+    dir = Files.createTempDirectory("minio-test");
+    tempFile = dir.resolve("file.etag.part.minio");
+    rangesFile = dir.resolve("file.etag.part.minio.ranges");
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    try (DirectoryStream<Path> paths = Files.newDirectoryStream(dir)) {
+      for (Path path : paths) Files.delete(path);
+    }
+    Files.delete(dir);
+  }
+
+  private static void assertRanges(List<long[]> ranges, long... expected) {
+    Assert.assertEquals(expected.length / 2, ranges.size());
+    for (int i = 0; i < ranges.size(); i++) {
+      Assert.assertArrayEquals(new long[] {expected[2 * i], expected[2 * i + 1]}, ranges.get(i));
+    }
+  }
+
+  @Test
+  public void testLoadWithoutTempFile() throws IOException, MinioException {
+    Files.write(rangesFile, "0 10\n".getBytes(StandardCharsets.UTF_8));
+    DownloadCheckpoint checkpoint = DownloadCheckpoint.load(tempFile.toString(), 100, true);
+    Assert.assertEquals(0, checkpoint.writtenBytes());
+    Assert.assertFalse(Files.exists(rangesFile));
+  }
+
+  @Test
+  public void testLoadWithoutRangesFile() throws IOException, MinioException {
+    Files.write(tempFile, new byte[40]);
+    // Data of temporary file is reused only if the download can be verified.
+    DownloadCheckpoint checkpoint = DownloadCheckpoint.load(tempFile.toString(), 100, false);
+    Assert.assertEquals(0, checkpoint.writtenPrefix());
+    assertRanges(checkpoint.missingRanges(64), 0, 64, 64, 36);
+
+    checkpoint = DownloadCheckpoint.load(tempFile.toString(), 100, true);
+    Assert.assertEquals(40, checkpoint.writtenPrefix());
+    assertRanges(checkpoint.missingRanges(64), 40, 60);
+
+    // Temporary file larger than the object is not reused.
+    checkpoint = DownloadCheckpoint.load(tempFile.toString(), 30, true);
+    Assert.assertEquals(0, checkpoint.writtenBytes());
+  }
+
+  @Test
+  public void testLoadRangesFile() throws IOException, MinioException {
+    Files.write(tempFile, new byte[100]);
+    Files.write(
+        rangesFile,
+        "0 10\n10 10\n50 20\n90 20\nbad line\n30 x\n60".getBytes(StandardCharsets.UTF_8));
+    // Ranges beyond object size and malformed lines are ignored.
+    DownloadCheckpoint checkpoint = DownloadCheckpoint.load(tempFile.toString(), 100, false);
+    Assert.assertEquals(20, checkpoint.writtenPrefix());
+    Assert.assertEquals(40, checkpoint.writtenBytes());
+    assertRanges(checkpoint.missingRanges(25), 20, 25, 45, 5, 70, 25, 95, 5);
+  }
+
+  @Test
+  public void testAddAndTruncate() throws IOException, MinioException {
+    Files.write(tempFile, new byte[100]);
+    DownloadCheckpoint checkpoint = DownloadCheckpoint.load(tempFile.toString(), 100, false);
+    checkpoint.add(50, 10);
+    checkpoint.add(0, 30);
+    checkpoint.add(30, 10);
+
+    DownloadCheckpoint loaded = DownloadCheckpoint.load(tempFile.toString(), 100, false);
+    Assert.assertEquals(40, loaded.writtenPrefix());
+    Assert.assertEquals(50, loaded.writtenBytes());
+
+    loaded.truncate(35);
+    loaded = DownloadCheckpoint.load(tempFile.toString(), 100, false);
+    Assert.assertEquals(35, loaded.writtenPrefix());
+    Assert.assertEquals(35, loaded.writtenBytes());
+
+    loaded.delete();
+    Assert.assertFalse(Files.exists(rangesFile));
+  }
+}
@@ -0,0 +1,200 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage,
+ * (C) 2026 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import io.minio.credentials.Credentials;
+import io.minio.errors.MinioException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import okhttp3.OkHttpClient;
+import okio.Buffer;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HttpTest {
+  private static final int CHUNK_SIZE = Http.ChunkedRequestBody.CHUNK_SIZE;
+
+  /** Decoded aws-chunked body. */
+  private static class Decoded {
+    private final ByteArrayOutputStream data = new ByteArrayOutputStream();
+    private final List<String> signatures = new ArrayList<>();
+    private final List<String> trailers = new ArrayList<>();
+  }
+
+  private static Decoded decode(Buffer buffer) throws IOException {
+    Decoded decoded = new Decoded();
+    while (true) {
+      String line = buffer.readUtf8LineStrict();
+      String[] tokens = line.split(";chunk-signature=", -1);
+      if (tokens.length == 2) decoded.signatures.add(tokens[1]);
+      int size = Integer.parseInt(tokens[0], 16);
+      if (size == 0) break;
+      decoded.data.write(buffer.readByteArray(size));
+      Assert.assertEquals("", buffer.readUtf8LineStrict());
+    }
+    for (String line = buffer.readUtf8LineStrict(); !line.isEmpty(); ) {
+      decoded.trailers.add(line);
+      line = buffer.readUtf8LineStrict();
+    }
+    Assert.assertTrue(buffer.exhausted());
+    return decoded;
+  }
+
+  private static Http.ChunkedRequestBody chunkedBody(
+      byte[] data, Checksum.Algorithm algorithm, boolean signed) throws MinioException {
+    return new Http.ChunkedRequestBody(
+        new Http.RequestBody(data, data.length, Http.DEFAULT_MEDIA_TYPE, null), algorithm, signed);
+  }
+
+  private static Buffer write(Http.ChunkedRequestBody body) throws IOException {
+    Buffer buffer = new Buffer();
+    body.writeTo(buffer);
+    Assert.assertEquals(body.contentLength(), buffer.size());
+    return buffer;
+  }
+
+  @Test
+  public void testChunkedBodyWithTrailer() throws IOException, MinioException {
+    int[] lengths = {0, 1, CHUNK_SIZE - 1, CHUNK_SIZE, CHUNK_SIZE + 1, CHUNK_SIZE * 3 + 5};
+    for (int length : lengths) {
+      byte[] data = new byte[length];
+      new Random(length).nextBytes(data);
+      Checksum.Hasher hasher = new Checksum.CRC32C();
+      hasher.update(data, 0, data.length);
+
+      Decoded decoded = decode(write(chunkedBody(data, Checksum.Algorithm.CRC32C, false)));
+      Assert.assertArrayEquals(data, decoded.data.toByteArray());
+      Assert.assertTrue(decoded.signatures.isEmpty());
+      Assert.assertEquals(
+          Arrays.asList("x-amz-checksum-crc32c:" + Checksum.base64String(hasher.sum())),
+          decoded.trailers);
+    }
+  }
+
+  @Test
+  public void testSignedChunkedBody() throws IOException, MinioException {
+    // Example of "Signature Calculations for the Authorization Header: Transferring Payload in
+    // Multiple Chunks (Chunked Upload) (AWS Signature Version 4)" of Amazon S3 API reference.
+    byte[] data = new byte[CHUNK_SIZE + 1024];
+    Arrays.fill(data, (byte) 'a');
+    Http.ChunkedRequestBody body = chunkedBody(data, null, true);
+    body.setSeedSignature(
+        "4f232c4386841ef735655705268965c44a0e4690baa4adea153f7db9fa80a0a9",
+        ZonedDateTime.of(2013, 5, 24, 0, 0, 0, 0, ZoneOffset.UTC),
+        "us-east-1",
+        "wJalrXUtnFEMI/K7MDENG/bPxRfiCYEXAMPLEKEY");
+    Assert.assertEquals(66824, body.contentLength());
+
+    Decoded decoded = decode(write(body));
+    Assert.assertArrayEquals(data, decoded.data.toByteArray());
+    Assert.assertEquals(
+        Arrays.asList(
+            "ad80c730a21e5b8d04586a2213dd63b9a0e99e0e2307b0ade35a65485a288648",
+            "0055627c9e194cb4542bae2aa5492e3c1575bbb81b612b7d234b86a503ef5497",
+            "b6c6ea8a5354eaf15b3cb7646744f4275b71ea724fed81ceb9323e279d449df9"),
+        decoded.signatures);
+    Assert.assertTrue(decoded.trailers.isEmpty());
+  }
+
+  @Test
+  public void testSignedChunkedBodyWithTrailer() throws IOException, MinioException {
+    byte[] data = new byte[CHUNK_SIZE * 2 + 10];
+    new Random(0).nextBytes(data);
+    Checksum.Hasher hasher = new Checksum.CRC32();
+    hasher.update(data, 0, data.length);
+    Http.ChunkedRequestBody body = chunkedBody(data, Checksum.Algorithm.CRC32, true);
+    body.setSeedSignature(
+        "4f232c4386841ef735655705268965c44a0e4690baa4adea153f7db9fa80a0a9",
+        ZonedDateTime.of(2013, 5, 24, 0, 0, 0, 0, ZoneOffset.UTC),
+        "us-east-1",
+        "wJalrXUtnFEMI/K7MDENG/bPxRfiCYEXAMPLEKEY");
+
+    Decoded decoded = decode(write(body));
+    Assert.assertArrayEquals(data, decoded.data.toByteArray());
+    Assert.assertEquals(4, decoded.signatures.size());
+    Assert.assertEquals(2, decoded.trailers.size());
+    Assert.assertEquals(
+        "x-amz-checksum-crc32:" + Checksum.base64String(hasher.sum()), decoded.trailers.get(0));
+    Assert.assertTrue(decoded.trailers.get(1).matches("x-amz-trailer-signature:[0-9a-f]{64}"));
+  }
+
+  @Test(expected = IOException.class)
+  public void testSignedChunkedBodyWithoutSeedSignature() throws IOException, MinioException {
+    chunkedBody(new byte[10], null, true).writeTo(new Buffer());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnsignedChunkedBodyWithoutTrailer() throws MinioException {
+    chunkedBody(new byte[10], null, false);
+  }
+
+  private static Http.Request putRequest(Http.Body body) throws MinioException {
+    return Http.S3Request.builder()
+        .userAgent("minio-java-test")
+        .method(Http.Method.PUT)
+        .body(body)
+        .build()
+        .toRequest(
+            new Http.BaseUrl("http://localhost:9000"),
+            "us-east-1",
+            new Credentials("access", "secretkey", null, null));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBodyWithoutSha256OverHttp() throws MinioException {
+    putRequest(new Http.Body(new byte[10], 10, Http.DEFAULT_MEDIA_TYPE, null, null));
+  }
+
+  @Test
+  public void testBodyWithSignedChunksOverHttp() throws MinioException {
+    Http.Body body = new Http.Body(new byte[10], 10, Http.DEFAULT_MEDIA_TYPE, null, null);
+    body.setSignedChunks();
+    okhttp3.Request request = putRequest(body).httpRequest();
+    Assert.assertEquals(
+        Checksum.STREAMING_AWS4_HMAC_SHA256_PAYLOAD, request.header("x-amz-content-sha256"));
+    Assert.assertEquals("10", request.header("x-amz-decoded-content-length"));
+    Assert.assertEquals("aws-chunked", request.header("Content-Encoding"));
+  }
+
+  @Test
+  public void testRaiseMaxRequestsPerHost() {
+    OkHttpClient client = Http.newDefaultClient();
+    // Default client keeps OkHttp defaults.
+    Assert.assertEquals(5, client.dispatcher().getMaxRequestsPerHost());
+    Assert.assertEquals(64, client.dispatcher().getMaxRequests());
+
+    Http.raiseMaxRequestsPerHost(client, 16);
+    Assert.assertEquals(16, client.dispatcher().getMaxRequestsPerHost());
+    Assert.assertEquals(64, client.dispatcher().getMaxRequests());
+
+    // Limits are capped and never lowered.
+    Http.raiseMaxRequestsPerHost(client, 1000);
+    Assert.assertEquals(
+        Http.MAX_WINDOW_REQUESTS_PER_HOST, client.dispatcher().getMaxRequestsPerHost());
+    Http.raiseMaxRequestsPerHost(client, 8);
+    Assert.assertEquals(
+        Http.MAX_WINDOW_REQUESTS_PER_HOST, client.dispatcher().getMaxRequestsPerHost());
+    Assert.assertEquals(64, client.dispatcher().getMaxRequests());
+  }
+}
@@ -0,0 +1,1328 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage,
+ * (C) 2026 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import com.google.common.io.ByteStreams;
+import io.minio.errors.InsufficientDataException;
+import io.minio.errors.MinioException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MinioAsyncClientTest {
+  /** In-memory S3 server of a single object. */
+  private static class ObjectServer extends Dispatcher {
+    private final ByteArrayOutputStream data = new ByteArrayOutputStream();
+    private final List<Long> writeOffsets = new ArrayList<>();
+    private final List<String> contentEncodings = new ArrayList<>();
+    private long putDelayMs = 0;
+
+    private MockResponse headers(MockResponse response) {
+      return response
+          .setHeader("ETag", "\"" + data.size() + "\"")
+          .setHeader("Last-Modified", ZonedDateTime.now().format(Time.HTTP_HEADER_DATE_FORMAT));
+    }
+
+    @Override
+    public synchronized MockResponse dispatch(RecordedRequest request) {
+      if ("HEAD".equals(request.getMethod())) {
+        return headers(new MockResponse()).setHeader("Content-Length", data.size());
+      }
+
+      if ("PUT".equals(request.getMethod())) {
+        contentEncodings.add(request.getHeader("Content-Encoding"));
+        String offset = request.getHeader("x-amz-write-offset-bytes");
+        if (offset != null) {
+          if (Long.parseLong(offset) != data.size()) {
+            return new MockResponse().setResponseCode(400);
+          }
+          writeOffsets.add(Long.parseLong(offset));
+        } else {
+          data.reset();
+        }
+        byte[] body = request.getBody().readByteArray();
+        data.write(body, 0, body.length);
+        return headers(new MockResponse()).setHeadersDelay(putDelayMs, TimeUnit.MILLISECONDS);
+      }
+
+      if (request.getRequestUrl().queryParameter("location") != null) {
+        return new MockResponse()
+            .setBody(
+                "<LocationConstraint xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">"
+                    + "</LocationConstraint>");
+      }
+
+      return new MockResponse().setResponseCode(405);
+    }
+
+    private synchronized String content() {
+      return new String(data.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private synchronized List<Long> writeOffsets() {
+      return new ArrayList<>(writeOffsets);
+    }
+
+    private synchronized List<String> contentEncodings() {
+      return new ArrayList<>(contentEncodings);
+    }
+
+    private synchronized void putDelayMs(long putDelayMs) {
+      this.putDelayMs = putDelayMs;
+    }
+  }
+
+  /** In-memory S3 server of objects uploaded by PutObject or multipart upload. */
+  private static class MultipartServer extends Dispatcher {
+    private static final String NS = " xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\"";
+
+    private final Map<String, Map<Integer, byte[]>> uploads = new HashMap<>();
+    private final Map<String, byte[]> objects = new HashMap<>();
+    // Objects too large to keep in memory; their part copies are recorded, not copied.
+    private final Map<String, Long> largeObjects = new HashMap<>();
+    private final List<String> copyRanges = new ArrayList<>();
+    private final List<RecordedRequest> createUploads = new ArrayList<>();
+    private final List<RecordedRequest> completeUploads = new ArrayList<>();
+    private int heads = 0;
+    private final List<String> getRanges = new ArrayList<>();
+    private int failGets = 0;
+    private boolean noChecksums = false;
+    private final AtomicInteger partPuts = new AtomicInteger();
+    private final AtomicInteger maxConcurrentPartPuts = new AtomicInteger();
+    private final AtomicInteger concurrentPartPuts = new AtomicInteger();
+    private final AtomicInteger failPartPuts = new AtomicInteger();
+    private final AtomicInteger partCopies = new AtomicInteger();
+    private final AtomicInteger maxConcurrentPartCopies = new AtomicInteger();
+    private final AtomicInteger concurrentPartCopies = new AtomicInteger();
+    private int uploadCount = 0;
+    private boolean failComplete = false;
+    private int failPartCopies = 0;
+    private volatile long partDelayMs = 0;
+
+    private static MockResponse xml(String body) {
+      return new MockResponse().setHeader("Content-Type", "application/xml").setBody(body);
+    }
+
+    @Override
+    public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+      HttpUrl url = request.getRequestUrl();
+      if ("PUT".equals(request.getMethod())
+          && url.queryParameter("partNumber") != null
+          && request.getHeader("x-amz-copy-source") == null) {
+        partPuts.incrementAndGet();
+        int concurrent = concurrentPartPuts.incrementAndGet();
+        maxConcurrentPartPuts.accumulateAndGet(concurrent, Math::max);
+        try {
+          Thread.sleep(partDelayMs);
+          if (failPartPuts.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+            request.getBody().readByteArray();
+            return xml("<Error><Code>SlowDown</Code><Message>slow down</Message></Error>")
+                .setResponseCode(503);
+          }
+          int partNumber = Integer.parseInt(url.queryParameter("partNumber"));
+          synchronized (this) {
+            uploads
+                .get(url.queryParameter("uploadId"))
+                .put(partNumber, request.getBody().readByteArray());
+          }
+          return new MockResponse().setHeader("ETag", "\"etag" + partNumber + "\"");
+        } finally {
+          concurrentPartPuts.decrementAndGet();
+        }
+      }
+
+      if ("PUT".equals(request.getMethod()) && request.getHeader("x-amz-copy-source") != null) {
+        partCopies.incrementAndGet();
+        int concurrent = concurrentPartCopies.incrementAndGet();
+        maxConcurrentPartCopies.accumulateAndGet(concurrent, Math::max);
+        try {
+          Thread.sleep(partDelayMs);
+          synchronized (this) {
+            return copyPart(request, url);
+          }
+        } finally {
+          concurrentPartCopies.decrementAndGet();
+        }
+      }
+
+      synchronized (this) {
+        return dispatchLocked(request, url);
+      }
+    }
+
+    private MockResponse dispatchLocked(RecordedRequest request, HttpUrl url) {
+      String key = url.encodedPath().substring(url.encodedPath().indexOf('/', 1) + 1);
+      if (url.queryParameter("location") != null) {
+        return xml("<LocationConstraint" + NS + "></LocationConstraint>");
+      }
+
+      if (url.queryParameterNames().contains("tagging") && largeObjects.containsKey(key)) {
+        return xml(
+            "<Tagging"
+                + NS
+                + "><TagSet><Tag><Key>project</Key><Value>one</Value></Tag></TagSet></Tagging>");
+      }
+
+      if ("HEAD".equals(request.getMethod())) {
+        heads++;
+        if (largeObjects.containsKey(key)) {
+          return new MockResponse()
+              .setHeader("Content-Length", largeObjects.get(key))
+              .setHeader("Content-Type", "text/plain")
+              .setHeader("x-amz-meta-project", "one")
+              .setHeader("x-amz-tagging-count", "1")
+              .setHeader("ETag", "\"etag\"")
+              .setHeader("Last-Modified", ZonedDateTime.now().format(Time.HTTP_HEADER_DATE_FORMAT));
+        }
+        if (!objects.containsKey(key)) return new MockResponse().setResponseCode(404);
+        MockResponse response =
+            new MockResponse()
+                .setHeader("Content-Length", objects.get(key).length)
+                .setHeader("ETag", "\"etag\"")
+                .setHeader(
+                    "Last-Modified", ZonedDateTime.now().format(Time.HTTP_HEADER_DATE_FORMAT));
+        if (!noChecksums && "ENABLED".equals(request.getHeader("x-amz-checksum-mode"))) {
+          Checksum.CRC32 crc32 = new Checksum.CRC32();
+          crc32.update(objects.get(key), 0, objects.get(key).length);
+          response
+              .setHeader("x-amz-checksum-crc32", Checksum.base64String(crc32.sum()))
+              .setHeader("x-amz-checksum-type", "FULL_OBJECT");
+        }
+        return response;
+      }
+
+      if ("DELETE".equals(request.getMethod()) && url.queryParameter("uploadId") != null) {
+        uploads.remove(url.queryParameter("uploadId"));
+        return new MockResponse().setResponseCode(204);
+      }
+
+      if ("POST".equals(request.getMethod()) && url.queryParameter("uploads") != null) {
+        createUploads.add(request);
+        String uploadId = "upload" + (++uploadCount);
+        uploads.put(uploadId, new TreeMap<>());
+        return xml(
+            "<InitiateMultipartUploadResult"
+                + NS
+                + "><Bucket>bucket</Bucket><Key>"
+                + key
+                + "</Key><UploadId>"
+                + uploadId
+                + "</UploadId></InitiateMultipartUploadResult>");
+      }
+
+      if ("PUT".equals(request.getMethod())) {
+        objects.put(key, request.getBody().readByteArray());
+        return new MockResponse().setHeader("ETag", "\"etag\"");
+      }
+
+      if ("GET".equals(request.getMethod()) && url.queryParameter("uploadId") != null) {
+        StringBuilder builder = new StringBuilder();
+        builder.append("<ListPartsResult").append(NS).append(">");
+        builder.append("<Bucket>bucket</Bucket><Key>").append(key).append("</Key>");
+        builder.append("<Initiator></Initiator><Owner></Owner>");
+        builder.append("<StorageClass>STANDARD</StorageClass><IsTruncated>false</IsTruncated>");
+        for (Map.Entry<Integer, byte[]> entry :
+            uploads.get(url.queryParameter("uploadId")).entrySet()) {
+          builder.append("<Part><PartNumber>").append(entry.getKey()).append("</PartNumber>");
+          builder.append("<ETag>\"etag").append(entry.getKey()).append("\"</ETag>");
+          builder.append("<Size>").append(entry.getValue().length).append("</Size></Part>");
+        }
+        builder.append("</ListPartsResult>");
+        return xml(builder.toString());
+      }
+
+      if ("POST".equals(request.getMethod()) && url.queryParameter("uploadId") != null) {
+        completeUploads.add(request);
+        if (failComplete) {
+          return xml("<Error><Code>AccessDenied</Code><Message>denied</Message></Error>")
+              .setResponseCode(403);
+        }
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        for (byte[] part : uploads.get(url.queryParameter("uploadId")).values()) {
+          data.write(part, 0, part.length);
+        }
+        objects.put(key, data.toByteArray());
+        return xml(
+            "<CompleteMultipartUploadResult"
+                + NS
+                + "><Location>location</Location><Bucket>bucket</Bucket><Key>"
+                + key
+                + "</Key><ETag>\"etag\"</ETag></CompleteMultipartUploadResult>");
+      }
+
+      if ("GET".equals(request.getMethod()) && objects.containsKey(key)) {
+        String range = request.getHeader("Range");
+        getRanges.add(range);
+        if (failGets > 0) {
+          failGets--;
+          return xml("<Error><Code>SlowDown</Code><Message>slow down</Message></Error>")
+              .setResponseCode(503);
+        }
+        byte[] data = objects.get(key);
+        if (range == null) return new MockResponse().setBody(new Buffer().write(data));
+        String[] tokens = range.substring("bytes=".length()).split("-");
+        data =
+            Arrays.copyOfRange(data, Integer.parseInt(tokens[0]), Integer.parseInt(tokens[1]) + 1);
+        return new MockResponse().setResponseCode(206).setBody(new Buffer().write(data));
+      }
+
+      return new MockResponse().setResponseCode(405);
+    }
+
+    private MockResponse copyPart(RecordedRequest request, HttpUrl url) {
+      if (failPartCopies > 0) {
+        failPartCopies--;
+        return xml("<Error><Code>SlowDown</Code><Message>slow down</Message></Error>")
+            .setResponseCode(503);
+      }
+      String source =
+          HttpUrl.parse("http://host" + request.getHeader("x-amz-copy-source"))
+              .pathSegments()
+              .get(1);
+      String range = request.getHeader("x-amz-copy-source-range");
+      byte[] data = objects.get(source);
+      if (largeObjects.containsKey(source)) {
+        copyRanges.add(range);
+        data = new byte[0];
+      } else if (range != null) {
+        String[] tokens = range.substring("bytes=".length()).split("-");
+        data =
+            Arrays.copyOfRange(data, Integer.parseInt(tokens[0]), Integer.parseInt(tokens[1]) + 1);
+      }
+      int partNumber = Integer.parseInt(url.queryParameter("partNumber"));
+      uploads.get(url.queryParameter("uploadId")).put(partNumber, data);
+      return xml(
+          "<CopyPartResult"
+              + NS
+              + "><ETag>\"etag"
+              + partNumber
+              + "\"</ETag><LastModified>2026-01-01T00:00:00.000Z</LastModified>"
+              + "</CopyPartResult>");
+    }
+
+    private synchronized void putObject(String key, byte[] data) {
+      objects.put(key, data);
+    }
+
+    private synchronized void putLargeObject(String key, long size) {
+      largeObjects.put(key, size);
+    }
+
+    private synchronized List<String> copyRanges() {
+      return new ArrayList<>(copyRanges);
+    }
+
+    private synchronized List<RecordedRequest> createUploads() {
+      return new ArrayList<>(createUploads);
+    }
+
+    private synchronized int heads() {
+      return heads;
+    }
+
+    private synchronized List<String> getRanges() {
+      return new ArrayList<>(getRanges);
+    }
+
+    private synchronized void failGets(int failGets) {
+      this.failGets = failGets;
+    }
+
+    private synchronized int failPartCopies() {
+      return failPartCopies;
+    }
+
+    private synchronized void failPartCopies(int failPartCopies) {
+      this.failPartCopies = failPartCopies;
+    }
+
+    private synchronized byte[] object(String key) {
+      return objects.get(key);
+    }
+
+    private synchronized Map<String, byte[]> objects() {
+      return new HashMap<>(objects);
+    }
+
+    private synchronized void failComplete(boolean failComplete) {
+      this.failComplete = failComplete;
+    }
+  }
+
+  /** Client sharing HTTP client and resources of another client, as subclasses of it do. */
+  private static class DerivedClient extends MinioAsyncClient {
+    private DerivedClient(MinioAsyncClient client) {
+      super(client);
+    }
+  }
+
+  @Test(timeout = 60000)
+  public void testResumeUploadAfterAllPartsUploaded()
+      throws IOException, InterruptedException, ExecutionException, TimeoutException,
+          MinioException {
+    byte[] data = new byte[(int) ObjectWriteArgs.MIN_MULTIPART_SIZE * 2 + 100];
+    new Random(0).nextBytes(data);
+    Path dir = Files.createTempDirectory("minio-test");
+    Path file = dir.resolve("file");
+    Files.write(file, data);
+    String checkpoint = dir.resolve("checkpoint").toString();
+
+    MultipartServer s3 = new MultipartServer();
+    try (MockWebServer server = new MockWebServer()) {
+      server.setDispatcher(s3);
+      server.start();
+
+      try (MinioAsyncClient client =
+          MinioAsyncClient.builder()
+              .endpoint(server.url(""))
+              .credentials("access", "secretkey")
+              .build()) {
+        UploadObjectArgs args =
+            UploadObjectArgs.builder()
+                .bucket("bucket")
+                .object("object")
+                .filename(file.toString(), ObjectWriteArgs.MIN_MULTIPART_SIZE)
+                .checkpoint(checkpoint)
+                .build();
+
+        // All parts are uploaded, but completing multipart upload fails.
+        s3.failComplete(true);
+        try {
+          client.uploadObject(args).get(30, TimeUnit.SECONDS);
+          Assert.fail("exception should be thrown");
+        } catch (ExecutionException e) {
+          // Expected.
+        }
+        Assert.assertEquals(3, s3.partPuts.get());
+        Assert.assertTrue(Files.exists(Paths.get(checkpoint)));
+
+        // Resume uploads no part and completes multipart upload.
+        s3.failComplete(false);
+        client.uploadObject(args).get(30, TimeUnit.SECONDS);
+        Assert.assertEquals(3, s3.partPuts.get());
+        Assert.assertArrayEquals(data, s3.object("object"));
+        Assert.assertFalse(Files.exists(Paths.get(checkpoint)));
+      }
+    } finally {
+      Files.deleteIfExists(file);
+      Files.deleteIfExists(Paths.get(checkpoint));
+      Files.deleteIfExists(dir);
+    }
+  }
+
+  @Test(timeout = 120000)
+  public void testUploadSnowballBatchesInParts()
+      throws IOException, InterruptedException, ExecutionException, TimeoutException {
+    int objectSize = 3 * 1024 * 1024;
+    List<SnowballObject> objects = new ArrayList<>();
+    Map<String, byte[]> expected = new HashMap<>();
+    for (int i = 0; i < 8; i++) {
+      byte[] data = new byte[objectSize];
+      new Random(i).nextBytes(data);
+      expected.put("object" + i, data);
+      objects.add(
+          new SnowballObject("object" + i, new ByteArrayInputStream(data), data.length, null));
+    }
+
+    MultipartServer s3 = new MultipartServer();
+    try (MockWebServer server = new MockWebServer()) {
+      server.setDispatcher(s3);
+      server.start();
+
+      try (MinioAsyncClient client =
+          MinioAsyncClient.builder()
+              .endpoint(server.url(""))
+              .credentials("access", "secretkey")
+              .build()) {
+        // Two objects per archive, each archive is uploaded by two parts while it is built.
+        UploadSnowballBatchesResponse response =
+            client
+                .uploadSnowballBatches(
+                    UploadSnowballBatchesArgs.builder()
+                        .bucket("bucket")
+                        .objects(objects)
+                        .batchSize(ObjectWriteArgs.MIN_MULTIPART_SIZE)
+                        .parallelArchives(8)
+                        .partSize(ObjectWriteArgs.MIN_MULTIPART_SIZE)
+                        .autoExtract(false)
+                        .build())
+                .get(60, TimeUnit.SECONDS);
+        Assert.assertTrue(response.failures().isEmpty());
+        Assert.assertEquals(8, response.objectCount());
+        Assert.assertEquals(4, response.responses().size());
+      }
+    }
+
+    Assert.assertEquals(8, s3.partPuts.get());
+    Map<String, byte[]> actual = new HashMap<>();
+    for (byte[] archive : s3.objects().values()) {
+      try (TarArchiveInputStream tar =
+          new TarArchiveInputStream(new ByteArrayInputStream(archive))) {
+        for (TarArchiveEntry entry = tar.getNextEntry();
+            entry != null;
+            entry = tar.getNextEntry()) {
+          actual.put(entry.getName(), ByteStreams.toByteArray(tar));
+        }
+      }
+    }
+    Assert.assertEquals(expected.keySet(), actual.keySet());
+    for (Map.Entry<String, byte[]> entry : expected.entrySet()) {
+      Assert.assertArrayEquals(entry.getKey(), entry.getValue(), actual.get(entry.getKey()));
+    }
+  }
+
+  @Test(timeout = 60000)
+  public void testUploadSnowballInPartsWaitsForBufferWithoutBlocking()
+      throws IOException, InterruptedException, ExecutionException, TimeoutException,
+          MinioException {
+    byte[] data = new byte[1024];
+    new Random(0).nextBytes(data);
+
+    MultipartServer s3 = new MultipartServer();
+    try (MockWebServer server = new MockWebServer()) {
+      server.setDispatcher(s3);
+      server.start();
+
+      UploadScheduler scheduler = new UploadScheduler(2, 1);
+      try (MinioAsyncClient client =
+          MinioAsyncClient.builder()
+              .endpoint(server.url(""))
+              .credentials("access", "secretkey")
+              .uploadScheduler(scheduler, true)
+              .build()) {
+        // The only buffer is taken, so that the upload waits for it without blocking a thread.
+        ByteBuffer taken = scheduler.takeBuffer(16);
+        CompletableFuture<ObjectWriteResponse> future =
+            client.uploadSnowballObjects(
+                UploadSnowballObjectsArgs.builder()
+                    .bucket("bucket")
+                    .objects(
+                        Collections.singletonList(
+                            new SnowballObject(
+                                "object", new ByteArrayInputStream(data), data.length, null)))
+                    .partSize(ObjectWriteArgs.MIN_MULTIPART_SIZE)
+                    .autoExtract(false)
+                    .build());
+        Thread.sleep(200);
+        Assert.assertFalse(future.isDone());
+        for (StackTraceElement[] stack : Thread.getAllStackTraces().values()) {
+          for (StackTraceElement element : stack) {
+            Assert.assertFalse(
+                element.getClassName().equals(UploadScheduler.class.getName())
+                    && element.getMethodName().equals("takeBuffer"));
+          }
+        }
+
+        scheduler.putBuffer(taken);
+        future.get(30, TimeUnit.SECONDS);
+        Assert.assertEquals(0, scheduler.usedBuffers());
+      }
+    }
+
+    Assert.assertEquals(1, s3.objects().size());
+  }
+
+  @Test(timeout = 60000)
+  public void testPutObjectWaitsForBufferWithoutBlocking()
+      throws IOException, InterruptedException, ExecutionException, TimeoutException,
+          MinioException {
+    byte[] data = new byte[1024];
+    new Random(0).nextBytes(data);
+
+    MultipartServer s3 = new MultipartServer();
+    try (MockWebServer server = new MockWebServer()) {
+      server.setDispatcher(s3);
+      server.start();
+
+      UploadScheduler scheduler = new UploadScheduler(2, 1, 4096, false);
+      try (MinioAsyncClient client =
+          MinioAsyncClient.builder()
+              .endpoint(server.url(""))
+              .credentials("access", "secretkey")
+              .uploadScheduler(scheduler, true)
+              .build()) {
+        // Buffer larger than max buffer bytes fails the future instead of throwing.
+        CompletableFuture<ObjectWriteResponse> oversized =
+            client.putObject(
+                PutObjectArgs.builder().bucket("bucket").object("oversized").stream(
+                        new ByteArrayInputStream(new byte[8192]), 8192L, null)
+                    .build());
+        try {
+          oversized.get(30, TimeUnit.SECONDS);
+          Assert.fail("exception expected");
+        } catch (ExecutionException e) {
+          Assert.assertEquals(IllegalArgumentException.class, e.getCause().getClass());
+        }
+
+        // The only buffer is taken, so that the upload waits for it without blocking the caller.
+        ByteBuffer taken = scheduler.takeBuffer(16);
+        CompletableFuture<ObjectWriteResponse> future =
+            client.putObject(
+                PutObjectArgs.builder().bucket("bucket").object("object").stream(
+                        new ByteArrayInputStream(data), (long) data.length, null)
+                    .build());
+        Thread.sleep(200);
+        Assert.assertFalse(future.isDone());
+
+        scheduler.putBuffer(taken);
+        future.get(30, TimeUnit.SECONDS);
+        Assert.assertEquals(0, scheduler.usedBuffers());
+      }
+    }
+
+    Assert.assertArrayEquals(data, s3.objects().get("object"));
+  }
+
+  @Test(timeout = 60000)
+  public void testCompressionExecutorOwnedByCreatingClient()
+      throws IOException, InterruptedException, ExecutionException, TimeoutException {
+    byte[] data = new byte[1024];
+    new Random(0).nextBytes(data);
+
+    MultipartServer s3 = new MultipartServer();
+    try (MockWebServer server = new MockWebServer();
+        UploadScheduler scheduler = new UploadScheduler()) {
+      server.setDispatcher(s3);
+      server.start();
+
+      try (MinioAsyncClient client =
+          MinioAsyncClient.builder()
+              .endpoint(server.url(""))
+              .credentials("access", "secretkey")
+              .httpClient(new OkHttpClient(), false)
+              .uploadScheduler(scheduler, false)
+              .build()) {
+        // Compression threads are created on first compressed upload.
+        Assert.assertFalse(client.isCompressionExecutorCreated());
+
+        // Closing derived client does not shut down compression threads of its parent.
+        new DerivedClient(client).close();
+        client
+            .uploadSnowballObjects(
+                UploadSnowballObjectsArgs.builder()
+                    .bucket("bucket")
+                    .objects(
+                        Collections.singletonList(
+                            new SnowballObject(
+                                "object", new ByteArrayInputStream(data), data.length, null)))
+                    .compression(ParallelCompressedOutputStream.Codec.GZIP)
+                    .build())
+            .get(30, TimeUnit.SECONDS);
+        Assert.assertTrue(client.isCompressionExecutorCreated());
+      }
+    }
+
+    Assert.assertEquals(1, s3.objects().size());
+  }
+
+  @Test(timeout = 120000)
+  public void testUploadSnowballBatchesParallelUploads()
+      throws IOException, InterruptedException, ExecutionException, TimeoutException {
+    byte[] data = new byte[12 * 1024 * 1024];
+    new Random(0).nextBytes(data);
+    List<SnowballObject> objects = new ArrayList<>();
+    objects.add(new SnowballObject("object", new ByteArrayInputStream(data), data.length, null));
+
+    MultipartServer s3 = new MultipartServer();
+    s3.partDelayMs = 500; // Parts of the archive overlap if they are uploaded in parallel.
+    try (MockWebServer server = new MockWebServer()) {
+      server.setDispatcher(s3);
+      server.start();
+
+      try (MinioAsyncClient client =
+          MinioAsyncClient.builder()
+              .endpoint(server.url(""))
+              .credentials("access", "secretkey")
+              .build()) {
+        UploadSnowballBatchesResponse response =
+            client
+                .uploadSnowballBatches(
+                    UploadSnowballBatchesArgs.builder()
+                        .bucket("bucket")
+                        .objects(objects)
+                        .parallelArchives(1)
+                        .partSize(ObjectWriteArgs.MIN_MULTIPART_SIZE)
+                        .autoExtract(false)
+                        .parallelUploads(3)
+                        .build())
+                .get(60, TimeUnit.SECONDS);
+        Assert.assertTrue(response.failures().isEmpty());
+        Assert.assertEquals(1, response.responses().size());
+      }
+    }
+
+    Assert.assertEquals(3, s3.partPuts.get());
+    Assert.assertTrue(s3.maxConcurrentPartPuts.get() >= 2);
+  }
+
+  @Test(timeout = 60000)
+  public void testPutObjectFanOutShortStream()
+      throws IOException, InterruptedException, TimeoutException {
+    try (MockWebServer server = new MockWebServer()) {
+      server.setDispatcher(new ObjectServer());
+      server.start();
+
+      try (MinioAsyncClient client =
+          MinioAsyncClient.builder()
+              .endpoint(server.url(""))
+              .credentials("access", "secretkey")
+              .build()) {
+        client
+            .putObjectFanOut(
+                PutObjectFanOutArgs.builder().bucket("bucket").stream(
+                        new ByteArrayInputStream(new byte[10]), 20)
+                    .entries(Arrays.asList(PutObjectFanOutEntry.builder().key("fan-out.0").build()))
+                    .build())
+            .get(30, TimeUnit.SECONDS);
+        Assert.fail("exception should be thrown");
+      } catch (ExecutionException e) {
+        Assert.assertEquals(InsufficientDataException.class, e.getCause().getClass());
+      }
+    }
+  }
+
+  @Test(timeout = 60000)
+  public void testPartRetryReplacesStatusRetry()
+      throws IOException, InterruptedException, ExecutionException, TimeoutException {
+    byte[] data = new byte[(int) ObjectWriteArgs.MIN_MULTIPART_SIZE * 2];
+    new Random(0).nextBytes(data);
+
+    MultipartServer s3 = new MultipartServer();
+    try (MockWebServer server = new MockWebServer()) {
+      server.setDispatcher(s3);
+      server.start();
+
+      try (MinioAsyncClient client =
+          MinioAsyncClient.builder()
+              .endpoint(server.url(""))
+              .credentials("access", "secretkey")
+              .build()) {
+        // Failed part is retried on retriable HTTP status by the HTTP client when part retry is
+        // disabled.
+        client.setPartRetry(0, 0, 0);
+        s3.failPartPuts.set(1);
+        s3.partPuts.set(0);
+        client
+            .putObject(
+                PutObjectArgs.builder().bucket("bucket").object("object").stream(
+                        new ByteArrayInputStream(data),
+                        (long) data.length,
+                        (long) ObjectWriteArgs.MIN_MULTIPART_SIZE)
+                    .build())
+            .get(30, TimeUnit.SECONDS);
+        Assert.assertEquals(3, s3.partPuts.get());
+
+        // Each part retry makes a single request.
+        client.setPartRetry(2, 1, 10);
+        s3.failPartPuts.set(2);
+        s3.partPuts.set(0);
+        client
+            .putObject(
+                PutObjectArgs.builder().bucket("bucket").object("object").stream(
+                        new ByteArrayInputStream(data),
+                        (long) data.length,
+                        (long) ObjectWriteArgs.MIN_MULTIPART_SIZE)
+                    .build())
+            .get(30, TimeUnit.SECONDS);
+        Assert.assertEquals(4, s3.partPuts.get());
+      }
+    }
+
+    Assert.assertArrayEquals(data, s3.object("object"));
+  }
+
+  @Test(timeout = 60000)
+  public void testAdaptiveUploadsKeepParallelUploads()
+      throws IOException, InterruptedException, ExecutionException, TimeoutException {
+    byte[] data = new byte[(int) ObjectWriteArgs.MIN_MULTIPART_SIZE * 4];
+    new Random(0).nextBytes(data);
+
+    MultipartServer s3 = new MultipartServer();
+    s3.partDelayMs = 200; // Parts overlap if they are uploaded in parallel.
+    try (MockWebServer server = new MockWebServer()) {
+      server.setDispatcher(s3);
+      server.start();
+
+      try (MinioAsyncClient client =
+          MinioAsyncClient.builder()
+              .endpoint(server.url(""))
+              .credentials("access", "secretkey")
+              .build()) {
+        // Explicit parallel uploads caps the window.
+        client
+            .putObject(
+                PutObjectArgs.builder().bucket("bucket").object("object").stream(
+                        new ByteArrayInputStream(data),
+                        (long) data.length,
+                        (long) ObjectWriteArgs.MIN_MULTIPART_SIZE)
+                    .parallelUploads(1)
+                    .adaptiveUploads(true)
+                    .build())
+            .get(30, TimeUnit.SECONDS);
+        Assert.assertEquals(1, s3.maxConcurrentPartPuts.get());
+
+        // Window starts at two parts when parallel uploads is not set.
+        client
+            .putObject(
+                PutObjectArgs.builder().bucket("bucket").object("object").stream(
+                        new ByteArrayInputStream(data),
+                        (long) data.length,
+                        (long) ObjectWriteArgs.MIN_MULTIPART_SIZE)
+                    .adaptiveUploads(true)
+                    .build())
+            .get(30, TimeUnit.SECONDS);
+        Assert.assertTrue(s3.maxConcurrentPartPuts.get() >= 2);
+      }
+    }
+
+    Assert.assertArrayEquals(data, s3.object("object"));
+  }
+
+  @Test(timeout = 60000)
+  public void testRequestWindowRaisedOnlyForDefaultHttpClient()
+      throws IOException, InterruptedException, ExecutionException, TimeoutException {
+    byte[] data = new byte[(int) ObjectWriteArgs.MIN_MULTIPART_SIZE * 2];
+    new Random(0).nextBytes(data);
+
+    MultipartServer s3 = new MultipartServer();
+    try (MockWebServer server = new MockWebServer()) {
+      server.setDispatcher(s3);
+      server.start();
+
+      OkHttpClient httpClient = new OkHttpClient();
+      try (MinioAsyncClient defaultClient =
+              MinioAsyncClient.builder()
+                  .endpoint(server.url(""))
+                  .credentials("access", "secretkey")
+                  .build();
+          MinioAsyncClient userClient =
+              MinioAsyncClient.builder()
+                  .endpoint(server.url(""))
+                  .credentials("access", "secretkey")
+                  .httpClient(httpClient, true)
+                  .build()) {
+        for (MinioAsyncClient client : Arrays.asList(defaultClient, userClient)) {
+          client
+              .putObject(
+                  PutObjectArgs.builder().bucket("bucket").object("object").stream(
+                          new ByteArrayInputStream(data),
+                          (long) data.length,
+                          (long) ObjectWriteArgs.MIN_MULTIPART_SIZE)
+                      .parallelUploads(8)
+                      .build())
+              .get(30, TimeUnit.SECONDS);
+        }
+        Assert.assertEquals(8, defaultClient.httpClient.dispatcher().getMaxRequestsPerHost());
+        // HTTP client given by the user keeps its limits even if the client closes it.
+        Assert.assertEquals(5, httpClient.dispatcher().getMaxRequestsPerHost());
+      }
+    }
+
+    Assert.assertArrayEquals(data, s3.object("object"));
+  }
+
+  @Test(timeout = 60000)
+  public void testFullObjectChecksumOfClientPartChecksums()
+      throws IOException, InterruptedException, ExecutionException, TimeoutException,
+          MinioException {
+    byte[] data = new byte[(int) ObjectWriteArgs.MIN_MULTIPART_SIZE * 2 + 100];
+    new Random(0).nextBytes(data);
+    Checksum.Hasher hasher = Checksum.Algorithm.CRC32C.hasher();
+    hasher.update(data, 0, data.length);
+    String expected = Checksum.base64String(hasher.sum());
+
+    // Server does not return checksums of parts.
+    MultipartServer s3 = new MultipartServer();
+    try (MockWebServer server = new MockWebServer()) {
+      server.setDispatcher(s3);
+      server.start();
+
+      // Part checksums are computed before parts are sent, or while they are sent in the trailer.
+      for (boolean streamingChecksum : new boolean[] {false, true}) {
+        try (MinioAsyncClient client =
+            MinioAsyncClient.builder()
+                .endpoint(server.url(""))
+                .credentials("access", "secretkey")
+                .streamingChecksum(streamingChecksum)
+                .build()) {
+          client
+              .putObject(
+                  PutObjectArgs.builder().bucket("bucket").object("object").stream(
+                          new ByteArrayInputStream(data),
+                          (long) data.length,
+                          (long) ObjectWriteArgs.MIN_MULTIPART_SIZE)
+                      .checksumType(Checksum.Type.FULL_OBJECT)
+                      .parallelUploads(2)
+                      .build())
+              .get(30, TimeUnit.SECONDS);
+        }
+      }
+    }
+
+    Assert.assertEquals(2, s3.completeUploads.size());
+    for (RecordedRequest request : s3.completeUploads) {
+      Assert.assertEquals("FULL_OBJECT", request.getHeader("x-amz-checksum-type"));
+      Assert.assertEquals(expected, request.getHeader("x-amz-checksum-crc32c"));
+    }
+  }
+
+  @Test(timeout = 60000)
+  public void testStreamingChecksumKeepsContentEncoding()
+      throws IOException, InterruptedException, ExecutionException, TimeoutException,
+          MinioException {
+    Path dir = Files.createTempDirectory("minio-test");
+    Path file = dir.resolve("file");
+    Files.write(file, "hello".getBytes(StandardCharsets.UTF_8));
+
+    ObjectServer s3 = new ObjectServer();
+    try (MockWebServer server = new MockWebServer()) {
+      server.setDispatcher(s3);
+      server.start();
+
+      UploadObjectArgs args =
+          UploadObjectArgs.builder()
+              .bucket("bucket")
+              .object("object")
+              .filename(file.toString())
+              .headers(Collections.singletonMap("Content-Encoding", "gzip"))
+              .build();
+      for (boolean streamingChecksum : new boolean[] {false, true}) {
+        try (MinioAsyncClient client =
+            MinioAsyncClient.builder()
+                .endpoint(server.url(""))
+                .credentials("access", "secretkey")
+                .streamingChecksum(streamingChecksum)
+                .build()) {
+          client.uploadObject(args).get(30, TimeUnit.SECONDS);
+        }
+      }
+    } finally {
+      Files.deleteIfExists(file);
+      Files.deleteIfExists(dir);
+    }
+
+    Assert.assertEquals(Arrays.asList("gzip", "aws-chunked,gzip"), s3.contentEncodings());
+  }
+
+  @Test(timeout = 60000)
+  public void testPipelinedAppendObject()
+      throws IOException, InterruptedException, ExecutionException, TimeoutException,
+          MinioException {
+    int chunkSize = (int) ObjectWriteArgs.MIN_MULTIPART_SIZE;
+    byte[] data = new byte[chunkSize * 2 + 100];
+    new Random(0).nextBytes(data);
+    Path dir = Files.createTempDirectory("minio-test");
+    Path file = dir.resolve("file");
+    Files.write(file, data);
+
+    ObjectServer s3 = new ObjectServer();
+    try (MockWebServer server = new MockWebServer()) {
+      server.setDispatcher(s3);
+      server.start();
+
+      try (MinioAsyncClient client =
+          MinioAsyncClient.builder()
+              .endpoint(server.url(""))
+              .credentials("access", "secretkey")
+              .build()) {
+        client
+            .appendObject(
+                AppendObjectArgs.builder().bucket("bucket").object("object").stream(
+                        new ByteArrayInputStream(data), (long) data.length)
+                    .pipelined(true)
+                    .build())
+            .get(30, TimeUnit.SECONDS);
+        client
+            .appendObject(
+                AppendObjectArgs.builder()
+                    .bucket("bucket")
+                    .object("object")
+                    .filename(file.toString())
+                    .pipelined(true)
+                    .build())
+            .get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      Files.deleteIfExists(file);
+      Files.deleteIfExists(dir);
+    }
+
+    long size = data.length;
+    Assert.assertEquals(
+        Arrays.asList(
+            0L, (long) chunkSize, 2L * chunkSize, size, size + chunkSize, size + 2L * chunkSize),
+        s3.writeOffsets());
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    expected.write(data);
+    expected.write(data);
+    Assert.assertEquals(new String(expected.toByteArray(), StandardCharsets.UTF_8), s3.content());
+  }
+
+  @Test(timeout = 60000)
+  public void testPipelinedAppendObjectWaitsForBufferWithoutBlocking()
+      throws IOException, InterruptedException, ExecutionException, TimeoutException,
+          MinioException {
+    byte[] data = new byte[1024];
+    new Random(0).nextBytes(data);
+
+    ObjectServer s3 = new ObjectServer();
+    try (MockWebServer server = new MockWebServer()) {
+      server.setDispatcher(s3);
+      server.start();
+
+      UploadScheduler scheduler = new UploadScheduler(2, 1);
+      try (MinioAsyncClient client =
+          MinioAsyncClient.builder()
+              .endpoint(server.url(""))
+              .credentials("access", "secretkey")
+              .uploadScheduler(scheduler, true)
+              .build()) {
+        // The only buffer is taken, so that the append waits for it without blocking a thread.
+        ByteBuffer taken = scheduler.takeBuffer(16);
+        CompletableFuture<ObjectWriteResponse> future =
+            client.appendObject(
+                AppendObjectArgs.builder().bucket("bucket").object("object").stream(
+                        new ByteArrayInputStream(data), (long) data.length)
+                    .pipelined(true)
+                    .build());
+        Thread.sleep(200);
+        Assert.assertFalse(future.isDone());
+        for (StackTraceElement[] stack : Thread.getAllStackTraces().values()) {
+          for (StackTraceElement element : stack) {
+            Assert.assertFalse(
+                element.getClassName().equals(UploadScheduler.class.getName())
+                    && element.getMethodName().equals("takeBuffer"));
+          }
+        }
+
+        scheduler.putBuffer(taken);
+        future.get(30, TimeUnit.SECONDS);
+        Assert.assertEquals(0, scheduler.usedBuffers());
+      }
+    }
+
+    Assert.assertEquals(new String(data, StandardCharsets.UTF_8), s3.content());
+  }
+
+  @Test(timeout = 60000)
+  public void testPipelinedAppendObjectCoalescesChunks()
+      throws IOException, InterruptedException, ExecutionException, TimeoutException {
+    int chunkSize = (int) ObjectWriteArgs.MIN_MULTIPART_SIZE;
+    byte[] data = new byte[chunkSize * 8];
+    new Random(0).nextBytes(data);
+
+    ObjectServer s3 = new ObjectServer();
+    s3.putDelayMs(500);
+    try (MockWebServer server = new MockWebServer()) {
+      server.setDispatcher(s3);
+      server.start();
+
+      try (MinioAsyncClient client =
+          MinioAsyncClient.builder()
+              .endpoint(server.url(""))
+              .credentials("access", "secretkey")
+              .build()) {
+        client
+            .appendObject(
+                AppendObjectArgs.builder().bucket("bucket").object("object").stream(
+                        new ByteArrayInputStream(data), null)
+                    .pipelined(true)
+                    .coalesceSize((long) chunkSize * 4)
+                    .build())
+            .get(30, TimeUnit.SECONDS);
+      }
+    }
+
+    // Appends are slower than reading, hence chunks grow.
+    Assert.assertTrue(s3.writeOffsets().size() < 8);
+    Assert.assertEquals(new String(data, StandardCharsets.UTF_8), s3.content());
+  }
+
+  @Test(timeout = 60000)
+  public void testComposeObjectBoundsPartCopies()
+      throws IOException, InterruptedException, ExecutionException, TimeoutException {
+    int sourceSize = (int) ObjectWriteArgs.MIN_MULTIPART_SIZE;
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    MultipartServer s3 = new MultipartServer();
+    List<SourceObject> sources = new ArrayList<>();
+    Random random = new Random(0);
+    for (int i = 0; i < 6; i++) {
+      byte[] data = new byte[i == 5 ? 100 : sourceSize];
+      random.nextBytes(data);
+      expected.write(data);
+      s3.putObject("source" + i, data);
+      sources.add(SourceObject.builder().bucket("bucket").object("source" + i).build());
+    }
+    s3.partDelayMs = 100;
+    s3.failPartCopies(2);
+
+    try (MockWebServer server = new MockWebServer()) {
+      server.setDispatcher(s3);
+      server.start();
+
+      try (MinioAsyncClient client =
+          MinioAsyncClient.builder()
+              .endpoint(server.url(""))
+              .credentials("access", "secretkey")
+              .build()) {
+        client.setPartRetry(3, 10, 100);
+        client
+            .composeObject(
+                ComposeObjectArgs.builder()
+                    .bucket("bucket")
+                    .object("object")
+                    .sources(sources)
+                    .parallelCopies(2)
+                    .build())
+            .get(30, TimeUnit.SECONDS);
+      }
+    }
+
+    // Failed part copies are retried within the limit of parts in flight.
+    Assert.assertEquals(0, s3.failPartCopies());
+    Assert.assertEquals(8, s3.partCopies.get());
+    Assert.assertEquals(2, s3.maxConcurrentPartCopies.get());
+    Assert.assertArrayEquals(expected.toByteArray(), s3.object("object"));
+  }
+
+  @Test(timeout = 60000)
+  public void testCopyObjectInParts()
+      throws IOException, InterruptedException, ExecutionException, TimeoutException {
+    long gib = 1024L * 1024 * 1024;
+    MultipartServer s3 = new MultipartServer();
+    s3.putLargeObject("source", 6 * gib + 1);
+    s3.partDelayMs = 100;
+
+    try (MockWebServer server = new MockWebServer()) {
+      server.setDispatcher(s3);
+      server.start();
+
+      try (MinioAsyncClient client =
+          MinioAsyncClient.builder()
+              .endpoint(server.url(""))
+              .credentials("access", "secretkey")
+              .build()) {
+        client
+            .copyObject(
+                CopyObjectArgs.builder()
+                    .bucket("bucket")
+                    .object("object")
+                    .source(SourceObject.builder().bucket("bucket").object("source").build())
+                    .partSize(2 * gib)
+                    .parallelCopies(2)
+                    .build())
+            .get(30, TimeUnit.SECONDS);
+      }
+    }
+
+    Assert.assertEquals(1, s3.heads());
+    Assert.assertEquals(
+        Arrays.asList(
+            "bytes=0-" + (2 * gib - 1),
+            "bytes=" + 2 * gib + "-" + (4 * gib - 1),
+            "bytes=" + 4 * gib + "-" + (6 * gib - 1),
+            "bytes=" + 6 * gib + "-" + 6 * gib),
+        s3.copyRanges().stream().sorted().collect(Collectors.toList()));
+    Assert.assertEquals(2, s3.maxConcurrentPartCopies.get());
+
+    // Metadata and tags of the source are kept.
+    RecordedRequest createUpload = s3.createUploads().get(0);
+    Assert.assertEquals("text/plain", createUpload.getHeader("Content-Type"));
+    Assert.assertEquals("one", createUpload.getHeader("x-amz-meta-project"));
+    Assert.assertEquals("project=one", createUpload.getHeader("x-amz-tagging"));
+  }
+
+  @Test(timeout = 60000)
+  public void testParallelDownloadObject()
+      throws IOException, InterruptedException, ExecutionException, TimeoutException {
+    int partSize = 256 * 1024;
+    byte[] data = new byte[partSize * 4 + 123];
+    new Random(0).nextBytes(data);
+    Path dir = Files.createTempDirectory("minio-test");
+    Path file = dir.resolve("file");
+
+    MultipartServer s3 = new MultipartServer();
+    s3.putObject("object", data);
+    s3.failGets(1);
+    try (MockWebServer server = new MockWebServer()) {
+      server.setDispatcher(s3);
+      server.start();
+
+      try (MinioAsyncClient client =
+          MinioAsyncClient.builder()
+              .endpoint(server.url(""))
+              .credentials("access", "secretkey")
+              .build()) {
+        client.setPartRetry(3, 10, 100);
+        client
+            .downloadObject(
+                DownloadObjectArgs.builder()
+                    .bucket("bucket")
+                    .object("object")
+                    .filename(file.toString())
+                    .partSize(partSize)
+                    .parallelDownloads(3)
+                    .build())
+            .get(30, TimeUnit.SECONDS);
+      }
+
+      // Each range is fetched once, and the failed range once more.
+      Assert.assertEquals(6, s3.getRanges().size());
+      Assert.assertEquals(5, new HashSet<>(s3.getRanges()).size());
+      Assert.assertArrayEquals(data, Files.readAllBytes(file));
+      try (Stream<Path> files = Files.list(dir)) {
+        Assert.assertEquals(1, files.count());
+      }
+    } finally {
+      Files.deleteIfExists(file);
+      Files.deleteIfExists(dir);
+    }
+  }
+
+  @Test
+  public void testResumeDownloadObject()
+      throws IOException, InterruptedException, ExecutionException, TimeoutException {
+    int partSize = 256 * 1024;
+    byte[] data = new byte[partSize * 4 + 123];
+    new Random(0).nextBytes(data);
+    Path dir = Files.createTempDirectory("minio-test");
+    Path file = dir.resolve("file");
+    Path tempFile = dir.resolve("file.etag.part.minio");
+    Path rangesFile = dir.resolve("file.etag.part.minio.ranges");
+
+    MultipartServer s3 = new MultipartServer();
+    s3.putObject("object", data);
+    try (MockWebServer server = new MockWebServer()) {
+      server.setDispatcher(s3);
+      server.start();
+
+      try (MinioAsyncClient client =
+          MinioAsyncClient.builder()
+              .endpoint(server.url(""))
+              .credentials("access", "secretkey")
+              .build()) {
+        DownloadObjectArgs args =
+            DownloadObjectArgs.builder()
+                .bucket("bucket")
+                .object("object")
+                .filename(file.toString())
+                .overwrite(true)
+                .resume(true)
+                .build();
+
+        // Sequential download continues from length of the temporary file.
+        Files.write(tempFile, Arrays.copyOf(data, 100000));
+        client.downloadObject(args).get(30, TimeUnit.SECONDS);
+        Assert.assertEquals(
+            Collections.singletonList("bytes=100000-" + (data.length - 1)), s3.getRanges());
+        Assert.assertArrayEquals(data, Files.readAllBytes(file));
+
+        // Parallel download fetches only ranges missing in the temporary file.
+        byte[] partial = new byte[data.length];
+        System.arraycopy(data, 0, partial, 0, partSize);
+        System.arraycopy(data, 2 * partSize, partial, 2 * partSize, partSize);
+        Files.write(tempFile, partial);
+        Files.write(
+            rangesFile,
+            ("0 " + partSize + "\n" + (2 * partSize) + " " + partSize + "\n")
+                .getBytes(StandardCharsets.UTF_8));
+        client
+            .downloadObject(
+                DownloadObjectArgs.builder()
+                    .bucket("bucket")
+                    .object("object")
+                    .filename(file.toString())
+                    .overwrite(true)
+                    .partSize(partSize)
+                    .parallelDownloads(3)
+                    .resume(true)
+                    .build())
+            .get(30, TimeUnit.SECONDS);
+        Assert.assertEquals(
+            new HashSet<>(
+                Arrays.asList(
+                    "bytes=" + partSize + "-" + (2 * partSize - 1),
+                    "bytes=" + (3 * partSize) + "-" + (4 * partSize - 1),
+                    "bytes=" + (4 * partSize) + "-" + (data.length - 1))),
+            new HashSet<>(s3.getRanges().subList(1, 4)));
+        Assert.assertArrayEquals(data, Files.readAllBytes(file));
+
+        // Temporary file without ranges file is not reused if the download cannot be verified.
+        s3.noChecksums = true;
+        Files.write(tempFile, Arrays.copyOf(data, 100000));
+        client.downloadObject(args).get(30, TimeUnit.SECONDS);
+        Assert.assertEquals("bytes=0-" + (data.length - 1), s3.getRanges().get(4));
+        Assert.assertArrayEquals(data, Files.readAllBytes(file));
+        s3.noChecksums = false;
+
+        // Resumed download of corrupted temporary file fails checksum validation.
+        byte[] corrupted = Arrays.copyOf(data, 100000);
+        corrupted[0] ^= 1;
+        Files.write(tempFile, corrupted);
+        try {
+          client.downloadObject(args).get(30, TimeUnit.SECONDS);
+          Assert.fail("checksum mismatch expected");
+        } catch (ExecutionException e) {
+          Assert.assertTrue(e.getCause().getMessage().contains("checksum mismatch"));
+        }
+        Assert.assertFalse(Files.exists(tempFile));
+      }
+
+      try (Stream<Path> files = Files.list(dir)) {
+        Assert.assertEquals(Collections.singletonList(file), files.collect(Collectors.toList()));
+      }
+    } finally {
+      Files.deleteIfExists(file);
+      Files.deleteIfExists(tempFile);
+      Files.deleteIfExists(rangesFile);
+      Files.deleteIfExists(dir);
+    }
+  }
+}
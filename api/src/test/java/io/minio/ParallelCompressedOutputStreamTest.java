@@ -0,0 +1,128 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage,
+ * (C) 2026 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.xerial.snappy.SnappyFramedInputStream;
+
+public class ParallelCompressedOutputStreamTest {
+  private ExecutorService executor;
+
+  @Before
+  public void setUp() {
+    executor = Executors.newFixedThreadPool(2);
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  // Returns data mixing compressible and random chunks spanning several blocks.
+  private static byte[] data(int length) {
+    byte[] data = new byte[length];
+    Random random = new Random(length);
+    for (int offset = 0; offset < length; offset += 10000) {
+      int n = Math.min(10000, length - offset);
+      if ((offset / 10000) % 2 == 0) {
+        for (int i = 0; i < n; i++) data[offset + i] = (byte) ('a' + i % 7);
+      } else {
+        byte[] chunk = new byte[n];
+        random.nextBytes(chunk);
+        System.arraycopy(chunk, 0, data, offset, n);
+      }
+    }
+    return data;
+  }
+
+  private byte[] compress(ParallelCompressedOutputStream.Codec codec, byte[] data, int writeSize)
+      throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (ParallelCompressedOutputStream os =
+        new ParallelCompressedOutputStream(baos, codec, executor, 2)) {
+      for (int offset = 0; offset < data.length; offset += writeSize) {
+        os.write(data, offset, Math.min(writeSize, data.length - offset));
+      }
+    }
+    return baos.toByteArray();
+  }
+
+  private static byte[] readAll(InputStream is) throws IOException {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    byte[] buf = new byte[8192];
+    int n;
+    while ((n = is.read(buf)) >= 0) baos.write(buf, 0, n);
+    is.close();
+    return baos.toByteArray();
+  }
+
+  private void testCodec(ParallelCompressedOutputStream.Codec codec) throws IOException {
+    int[] lengths = {
+      0,
+      1,
+      ParallelCompressedOutputStream.SNAPPY_CHUNK_SIZE + 1,
+      ParallelCompressedOutputStream.BLOCK_SIZE * 5 + 12345
+    };
+    for (int length : lengths) {
+      byte[] data = data(length);
+      for (int writeSize : new int[] {1000, ParallelCompressedOutputStream.BLOCK_SIZE * 2}) {
+        byte[] compressed = compress(codec, data, writeSize);
+        InputStream is =
+            codec == ParallelCompressedOutputStream.Codec.SNAPPY
+                ? new SnappyFramedInputStream(new ByteArrayInputStream(compressed))
+                : new GZIPInputStream(new ByteArrayInputStream(compressed));
+        Assert.assertArrayEquals(codec + " length=" + length, data, readAll(is));
+      }
+    }
+  }
+
+  @Test
+  public void testSnappy() throws IOException {
+    testCodec(ParallelCompressedOutputStream.Codec.SNAPPY);
+  }
+
+  @Test
+  public void testGzip() throws IOException {
+    testCodec(ParallelCompressedOutputStream.Codec.GZIP);
+  }
+
+  @Test
+  public void testFlushWritesBufferedData() throws IOException {
+    byte[] data = data(1000);
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    ParallelCompressedOutputStream os =
+        new ParallelCompressedOutputStream(
+            baos, ParallelCompressedOutputStream.Codec.SNAPPY, executor, 2);
+    os.write(data);
+    os.flush();
+    Assert.assertArrayEquals(
+        data, readAll(new SnappyFramedInputStream(new ByteArrayInputStream(baos.toByteArray()))));
+    os.close();
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage,
+ * (C) 2026 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import java.io.IOException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SlabPoolTest {
+  @Test
+  public void testHeapSlabReuse() {
+    SlabPool pool = new SlabPool(16, 2);
+    Assert.assertFalse(pool.isDirect());
+    java.nio.ByteBuffer slab1 = pool.take();
+    java.nio.ByteBuffer slab2 = pool.take();
+    java.nio.ByteBuffer slab3 = pool.take();
+    Assert.assertFalse(slab1.isDirect());
+    Assert.assertEquals(16, slab1.capacity());
+
+    slab1.put((byte) 1);
+    pool.put(slab1);
+    pool.put(slab2);
+    // Pool is full of idle slabs, so that the slab is dropped.
+    pool.put(slab3);
+    Assert.assertEquals(2, pool.idleSlabs());
+
+    java.nio.ByteBuffer slab = pool.take();
+    Assert.assertTrue(slab == slab1 || slab == slab2);
+    Assert.assertEquals(0, slab.position());
+    Assert.assertEquals(1, pool.idleSlabs());
+
+    // Slab of other size is not taken into the pool.
+    pool.put(java.nio.ByteBuffer.allocate(8));
+    Assert.assertEquals(1, pool.idleSlabs());
+    pool.clear();
+    Assert.assertEquals(0, pool.idleSlabs());
+  }
+
+  @Test
+  public void testDirectArenaCap() {
+    SlabPool pool = SlabPool.direct(16, 32);
+    Assert.assertTrue(pool.isDirect());
+    java.nio.ByteBuffer slab1 = pool.take();
+    java.nio.ByteBuffer slab2 = pool.take();
+    Assert.assertTrue(slab1.isDirect());
+    Assert.assertTrue(slab2.isDirect());
+    Assert.assertEquals(32, pool.directBytes());
+    Assert.assertEquals(32, pool.outstandingDirectBytes());
+
+    // Arena is full, so that heap slab is used.
+    java.nio.ByteBuffer slab3 = pool.take();
+    Assert.assertFalse(slab3.isDirect());
+    Assert.assertEquals(32, pool.directBytes());
+
+    // Direct slab put back is reused before heap slabs without growing the arena.
+    pool.put(slab3);
+    pool.put(slab1);
+    Assert.assertEquals(16, pool.outstandingDirectBytes());
+    Assert.assertSame(slab1, pool.take());
+    Assert.assertSame(slab3, pool.take());
+    Assert.assertEquals(32, pool.directBytes());
+
+    pool.put(slab1);
+    pool.put(slab2);
+    Assert.assertEquals(0, pool.outstandingDirectBytes());
+  }
+
+  @Test
+  public void testClosedBufferReturnsDirectSlabs() throws IOException {
+    SlabPool pool = SlabPool.direct(16, 32);
+    ByteBuffer buffer = new ByteBuffer(48, pool);
+    buffer.write(new byte[48]);
+    java.nio.ByteBuffer[] slabs = buffer.slabs();
+    Assert.assertTrue(slabs[0].isDirect());
+    Assert.assertTrue(slabs[1].isDirect());
+    Assert.assertFalse(slabs[2].isDirect());
+    Assert.assertEquals(32, pool.outstandingDirectBytes());
+
+    buffer.close();
+    Assert.assertEquals(0, pool.outstandingDirectBytes());
+    Assert.assertEquals(3, pool.idleSlabs());
+  }
+
+  private static void writeAndAbandon(SlabPool pool) throws IOException {
+    ByteBuffer buffer = new ByteBuffer(32, pool);
+    buffer.write(new byte[32]);
+  }
+
+  @Test(timeout = 60000)
+  public void testUnclosedBufferSlabsAreReclaimed() throws IOException, InterruptedException {
+    SlabPool pool = SlabPool.direct(16, 32);
+    writeAndAbandon(pool);
+    Assert.assertEquals(32, pool.outstandingDirectBytes());
+
+    // Slabs of the buffer garbage collected without close are put back to the arena.
+    while (pool.outstandingDirectBytes() != 0) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    Assert.assertEquals(2, pool.idleSlabs());
+    Assert.assertTrue(pool.take().isDirect());
+    Assert.assertTrue(pool.take().isDirect());
+    Assert.assertEquals(32, pool.directBytes());
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage,
+ * (C) 2026 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import io.minio.errors.MinioException;
+import io.minio.errors.XmlParserException;
+import io.minio.messages.Part;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+import okhttp3.Headers;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class UploadCheckpointTest {
+  private static final long PART_SIZE = ObjectWriteArgs.MIN_MULTIPART_SIZE;
+
+  private Path dir;
+  private Path file;
+  private String checkpoint;
+
+  @Before
+  public void setUp() throws IOException {
+    dir = Files.createTempDirectory("minio-test");
+    file = dir.resolve("file");
+    Files.write(file, new byte[(int) PART_SIZE * 2 + 1]);
+    checkpoint = dir.resolve("checkpoint").toString();
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    try (DirectoryStream<Path> paths = Files.newDirectoryStream(dir)) {
+      for (Path path : paths) Files.delete(path);
+    }
+    Files.delete(dir);
+  }
+
+  private UploadObjectArgs args(long partSize) throws MinioException {
+    return UploadObjectArgs.builder()
+        .bucket("bucket")
+        .object("object")
+        .filename(file.toString(), partSize)
+        .checkpoint(checkpoint)
+        .build();
+  }
+
+  private static UploadPartResponse response(int partNumber) {
+    return new UploadPartResponse(
+        new Headers.Builder().add("x-amz-checksum-crc32c", "AAAAAA==").build(),
+        "bucket",
+        null,
+        "object",
+        "upload",
+        partNumber,
+        "etag" + partNumber,
+        PART_SIZE);
+  }
+
+  private static Part serverPart(int partNumber, String etag, long size) throws XmlParserException {
+    return Xml.unmarshal(
+        Part.class,
+        "<Part><PartNumber>"
+            + partNumber
+            + "</PartNumber><ETag>\""
+            + etag
+            + "\"</ETag><Size>"
+            + size
+            + "</Size></Part>");
+  }
+
+  @Test
+  public void testLoadWithoutFile() throws MinioException {
+    UploadCheckpoint cp = UploadCheckpoint.load(checkpoint, args(PART_SIZE));
+    Assert.assertNull(cp.uploadId());
+    Assert.assertFalse(cp.hasPart(1));
+    Assert.assertTrue(cp.responses().isEmpty());
+  }
+
+  @Test
+  public void testResume() throws IOException, MinioException {
+    UploadCheckpoint cp = UploadCheckpoint.load(checkpoint, args(PART_SIZE));
+    cp.start("upload");
+    cp.add(response(1));
+    cp.add(response(3));
+    cp.saveAddedParts();
+    // Only added parts are appended to the file.
+    Assert.assertEquals(3, Files.readAllLines(dir.resolve("checkpoint")).size());
+    cp.saveAddedParts();
+    Assert.assertEquals(3, Files.readAllLines(dir.resolve("checkpoint")).size());
+
+    UploadCheckpoint resumed = UploadCheckpoint.load(checkpoint, args(PART_SIZE));
+    Assert.assertEquals("upload", resumed.uploadId());
+    Assert.assertTrue(resumed.hasPart(1));
+    Assert.assertFalse(resumed.hasPart(2));
+    Assert.assertTrue(resumed.hasPart(3));
+    List<UploadPartResponse> responses = resumed.responses();
+    Assert.assertEquals(2, responses.size());
+    Assert.assertEquals(1, responses.get(0).part().partNumber());
+    Assert.assertEquals("etag3", responses.get(1).part().etag());
+    Assert.assertEquals("AAAAAA==", responses.get(1).part().checksumCRC32C());
+
+    cp.delete();
+    Assert.assertFalse(Files.exists(dir.resolve("checkpoint")));
+  }
+
+  @Test
+  public void testResumeIgnoresPartiallyWrittenLastLine() throws IOException, MinioException {
+    UploadCheckpoint cp = UploadCheckpoint.load(checkpoint, args(PART_SIZE));
+    cp.start("upload");
+    cp.add(response(1));
+    cp.saveAddedParts();
+    Files.write(
+        dir.resolve("checkpoint"),
+        "{\"partNumber\":2,\"et".getBytes(StandardCharsets.UTF_8),
+        StandardOpenOption.APPEND);
+
+    UploadCheckpoint resumed = UploadCheckpoint.load(checkpoint, args(PART_SIZE));
+    Assert.assertEquals("upload", resumed.uploadId());
+    Assert.assertTrue(resumed.hasPart(1));
+    Assert.assertFalse(resumed.hasPart(2));
+  }
+
+  @Test
+  public void testMismatch() throws IOException, MinioException {
+    UploadCheckpoint cp = UploadCheckpoint.load(checkpoint, args(PART_SIZE));
+    cp.start("upload");
+    cp.add(response(1));
+    cp.saveAddedParts();
+
+    // Different part size.
+    UploadCheckpoint resumed = UploadCheckpoint.load(checkpoint, args(PART_SIZE * 2));
+    Assert.assertNull(resumed.uploadId());
+    Assert.assertFalse(resumed.hasPart(1));
+
+    // Modified file.
+    Files.write(file, new byte[(int) PART_SIZE * 2 + 1]);
+    Files.setLastModifiedTime(
+        file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 10000));
+    resumed = UploadCheckpoint.load(checkpoint, args(PART_SIZE));
+    Assert.assertNull(resumed.uploadId());
+  }
+
+  @Test
+  public void testRetain() throws MinioException {
+    UploadCheckpoint cp = UploadCheckpoint.load(checkpoint, args(PART_SIZE));
+    cp.start("upload");
+    cp.add(response(1));
+    cp.add(response(2));
+    cp.add(response(3));
+    cp.saveAddedParts();
+
+    UploadCheckpoint resumed = UploadCheckpoint.load(checkpoint, args(PART_SIZE));
+    resumed.retain(
+        Arrays.asList(
+            serverPart(1, "etag1", PART_SIZE),
+            serverPart(2, "other", PART_SIZE),
+            serverPart(3, "etag3", 1)));
+    Assert.assertTrue(resumed.hasPart(1));
+    Assert.assertFalse(resumed.hasPart(2));
+    Assert.assertFalse(resumed.hasPart(3));
+
+    // Retained parts are saved.
+    resumed = UploadCheckpoint.load(checkpoint, args(PART_SIZE));
+    Assert.assertTrue(resumed.hasPart(1));
+    Assert.assertFalse(resumed.hasPart(2));
+  }
+}
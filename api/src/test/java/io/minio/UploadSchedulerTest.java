@@ -0,0 +1,236 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage,
+ * (C) 2026 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import io.minio.errors.MinioException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class UploadSchedulerTest {
+  @Test
+  public void testBufferBudget() throws MinioException {
+    try (UploadScheduler scheduler = new UploadScheduler(1, 2, 100, false, SlabPool.DEFAULT)) {
+      ByteBuffer buffer1 = scheduler.takeBuffer(60);
+      // Byte budget is used up.
+      Assert.assertNull(scheduler.tryTakeBuffer(50));
+      ByteBuffer buffer2 = scheduler.tryTakeBuffer(30);
+      Assert.assertNotNull(buffer2);
+      // Buffer count is used up.
+      Assert.assertNull(scheduler.tryTakeBuffer(1));
+      Assert.assertEquals(2, scheduler.usedBuffers());
+      Assert.assertEquals(90, scheduler.usedBufferBytes());
+
+      scheduler.putBuffer(buffer1);
+      Assert.assertEquals(1, scheduler.usedBuffers());
+      Assert.assertEquals(30, scheduler.usedBufferBytes());
+      scheduler.putBuffer(buffer2);
+      Assert.assertEquals(0, scheduler.usedBuffers());
+      Assert.assertEquals(0, scheduler.usedBufferBytes());
+      Assert.assertEquals(90, scheduler.peakBufferBytes());
+    }
+  }
+
+  @Test
+  public void testBufferPutBackOnce() throws MinioException {
+    try (UploadScheduler scheduler = new UploadScheduler(1, 2, 100, false, SlabPool.DEFAULT)) {
+      ByteBuffer buffer1 = scheduler.takeBuffer(60);
+      ByteBuffer buffer2 = scheduler.takeBuffer(30);
+      scheduler.putBuffer(buffer1);
+      // Second put back of the same buffer and buffer not of this scheduler are ignored.
+      scheduler.putBuffer(buffer1);
+      scheduler.putBuffer(new ByteBuffer(10, SlabPool.DEFAULT));
+      Assert.assertEquals(1, scheduler.usedBuffers());
+      Assert.assertEquals(30, scheduler.usedBufferBytes());
+
+      // Budget is not raised beyond its limits by the ignored put backs.
+      ByteBuffer buffer3 = scheduler.takeBuffer(70);
+      Assert.assertNull(scheduler.tryTakeBuffer(1));
+      scheduler.putBuffer(buffer2);
+      scheduler.putBuffer(buffer3);
+      scheduler.putBuffer(buffer3);
+      Assert.assertEquals(0, scheduler.usedBuffers());
+      Assert.assertEquals(0, scheduler.usedBufferBytes());
+    }
+  }
+
+  @Test
+  public void testBufferRequestsInOrder() throws MinioException {
+    try (UploadScheduler scheduler = new UploadScheduler(1, 4, 100, false, SlabPool.DEFAULT)) {
+      ByteBuffer buffer = scheduler.takeBuffer(100);
+      List<Long> sizes = Collections.synchronizedList(new ArrayList<>());
+      List<ByteBuffer> taken = Collections.synchronizedList(new ArrayList<>());
+      scheduler.takeBuffer(
+          80,
+          b -> {
+            sizes.add(b.size());
+            taken.add(b);
+          });
+      scheduler.takeBuffer(
+          10,
+          b -> {
+            sizes.add(b.size());
+            taken.add(b);
+          });
+      Assert.assertTrue(sizes.isEmpty());
+      // A small buffer fitting in the budget does not overtake waiting requests.
+      Assert.assertNull(scheduler.tryTakeBuffer(1));
+
+      scheduler.putBuffer(buffer);
+      Assert.assertEquals(Arrays.asList(80L, 10L), sizes);
+      Assert.assertEquals(90, scheduler.usedBufferBytes());
+      for (ByteBuffer b : taken) scheduler.putBuffer(b);
+      Assert.assertEquals(0, scheduler.usedBuffers());
+    }
+  }
+
+  @Test(timeout = 10000)
+  public void testTakeBufferWaits()
+      throws InterruptedException, ExecutionException, TimeoutException, MinioException {
+    try (UploadScheduler scheduler = new UploadScheduler(1, 1, 100, false, SlabPool.DEFAULT)) {
+      ByteBuffer buffer = scheduler.takeBuffer(100);
+      CompletableFuture<ByteBuffer> future =
+          CompletableFuture.supplyAsync(
+              () -> {
+                try {
+                  return scheduler.takeBuffer(50);
+                } catch (MinioException e) {
+                  throw new CompletionException(e);
+                }
+              });
+      Thread.sleep(200);
+      Assert.assertFalse(future.isDone());
+
+      scheduler.putBuffer(buffer);
+      scheduler.putBuffer(future.get(5, TimeUnit.SECONDS));
+      Assert.assertEquals(0, scheduler.usedBuffers());
+    }
+  }
+
+  @Test(expected = MinioException.class)
+  public void testFailFast() throws MinioException {
+    try (UploadScheduler scheduler = new UploadScheduler(1, 1, 100, true, SlabPool.DEFAULT)) {
+      scheduler.takeBuffer(100);
+      scheduler.takeBuffer(1);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBufferLargerThanBudget() throws MinioException {
+    try (UploadScheduler scheduler = new UploadScheduler(1, 1, 100, false, SlabPool.DEFAULT)) {
+      scheduler.takeBuffer(101);
+    }
+  }
+
+  @Test
+  public void testCloseDropsIdleSlabsOfOwnPool() throws IOException, MinioException {
+    SlabPool pool;
+    int size = SlabPool.DEFAULT_SLAB_SIZE;
+    try (UploadScheduler scheduler = new UploadScheduler(1, 1, size, false)) {
+      pool = scheduler.slabPool();
+      Assert.assertNotSame(SlabPool.DEFAULT, pool);
+      ByteBuffer buffer = scheduler.takeBuffer(size);
+      buffer.write(0);
+      scheduler.putBuffer(buffer);
+      Assert.assertEquals(1, pool.idleSlabs());
+    }
+    Assert.assertEquals(0, pool.idleSlabs());
+  }
+
+  @Test(timeout = 10000)
+  public void testRoundRobinSessions() throws InterruptedException {
+    try (UploadScheduler scheduler = new UploadScheduler(1, 1)) {
+      // The only worker is held until tasks of both sessions are submitted.
+      CountDownLatch latch = new CountDownLatch(1);
+      scheduler.execute(
+          scheduler.newSession(),
+          () -> {
+            try {
+              latch.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          });
+
+      List<String> order = Collections.synchronizedList(new ArrayList<>());
+      CountDownLatch done = new CountDownLatch(6);
+      UploadScheduler.Session large = scheduler.newSession();
+      UploadScheduler.Session small = scheduler.newSession();
+      for (int i = 1; i <= 4; i++) {
+        String name = "large" + i;
+        scheduler.execute(
+            large,
+            () -> {
+              order.add(name);
+              done.countDown();
+            });
+      }
+      for (int i = 1; i <= 2; i++) {
+        String name = "small" + i;
+        scheduler.execute(
+            small,
+            () -> {
+              order.add(name);
+              done.countDown();
+            });
+      }
+
+      latch.countDown();
+      Assert.assertTrue(done.await(5, TimeUnit.SECONDS));
+      Assert.assertEquals(
+          Arrays.asList("large1", "small1", "large2", "small2", "large3", "large4"), order);
+    }
+  }
+
+  @Test(timeout = 10000)
+  public void testSessionConcurrency() throws InterruptedException {
+    try (UploadScheduler scheduler = new UploadScheduler(4, 1)) {
+      UploadScheduler.Session session = scheduler.newSession(2);
+      AtomicInteger running = new AtomicInteger();
+      AtomicInteger maxRunning = new AtomicInteger();
+      CountDownLatch done = new CountDownLatch(8);
+      for (int i = 0; i < 8; i++) {
+        scheduler.execute(
+            session,
+            () -> {
+              maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+              try {
+                Thread.sleep(20);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              running.decrementAndGet();
+              done.countDown();
+            });
+      }
+      Assert.assertTrue(done.await(5, TimeUnit.SECONDS));
+      Assert.assertTrue(maxRunning.get() <= 2);
+    }
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * MinIO Java SDK for Amazon S3 Compatible Cloud Storage,
+ * (C) 2026 MinIO, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.minio;
+
+import java.util.Collections;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class UploadSnowballObjectsArgsTest {
+  @Test(expected = IllegalArgumentException.class)
+  public void testPartSizeWithAutoExtract() {
+    UploadSnowballObjectsArgs.builder()
+        .bucket("mybucket")
+        .objects(Collections.emptyList())
+        .partSize(ObjectWriteArgs.MIN_MULTIPART_SIZE)
+        .build();
+    Assert.fail("exception should be thrown");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBatchesPartSizeWithAutoExtract() {
+    UploadSnowballBatchesArgs.builder()
+        .bucket("mybucket")
+        .objects(Collections.emptyList())
+        .partSize(ObjectWriteArgs.MIN_MULTIPART_SIZE)
+        .build();
+    Assert.fail("exception should be thrown");
+  }
+
+  @Test
+  public void testBuild() {
+    UploadSnowballObjectsArgs args =
+        UploadSnowballObjectsArgs.builder()
+            .bucket("mybucket")
+            .objects(Collections.emptyList())
+            .build();
+    Assert.assertTrue(args.autoExtract());
+    Assert.assertEquals(0, args.partSize());
+
+    args =
+        UploadSnowballObjectsArgs.builder()
+            .bucket("mybucket")
+            .objects(Collections.emptyList())
+            .partSize(ObjectWriteArgs.MIN_MULTIPART_SIZE)
+            .autoExtract(false)
+            .build();
+    Assert.assertFalse(args.autoExtract());
+    Assert.assertEquals(ObjectWriteArgs.MIN_MULTIPART_SIZE, args.partSize());
+
+    UploadSnowballBatchesArgs batchesArgs =
+        UploadSnowballBatchesArgs.builder()
+            .bucket("mybucket")
+            .objects(Collections.emptyList())
+            .partSize(ObjectWriteArgs.MIN_MULTIPART_SIZE)
+            .autoExtract(false)
+            .build();
+    Assert.assertFalse(
+        new UploadSnowballObjectsArgs(batchesArgs, Collections.emptyList()).autoExtract());
+  }
+}